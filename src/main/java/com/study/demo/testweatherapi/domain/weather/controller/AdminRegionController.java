@@ -2,16 +2,23 @@ package com.study.demo.testweatherapi.domain.weather.controller;
 
 import com.study.demo.testweatherapi.domain.weather.dto.request.RegionReqDTO;
 import com.study.demo.testweatherapi.domain.weather.dto.response.RegionResDTO;
+import com.study.demo.testweatherapi.domain.weather.service.RegionBulkImportService;
 import com.study.demo.testweatherapi.domain.weather.service.RegionService;
 import com.study.demo.testweatherapi.global.apiPayload.CustomResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @Slf4j
 @RestController
@@ -21,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminRegionController {
 
     private final RegionService regionService;
+    private final RegionBulkImportService regionBulkImportService;
 
     // ==== 지역코드 관리 API ====
 
@@ -117,6 +125,31 @@ public class AdminRegionController {
         return ResponseEntity.ok(CustomResponse.onSuccess(response));
     }
 
+    /**
+     * 지역 대량 등록 (CSV / NDJSON)
+     * 요청 본문을 줄 단위로 읽으면서 처리하고, 행별 결과를 NDJSON으로 바로 흘려보냄 (마지막 줄은 요약)
+     */
+    @PostMapping(value = "/bulk-import",
+            consumes = {"text/csv", "application/x-ndjson"},
+            produces = "application/x-ndjson")
+    @Operation(summary = "지역 대량 등록",
+            description = "CSV(헤더 포함) 또는 NDJSON으로 지역/지역코드를 대량 등록합니다. " +
+                    "컬럼: name, latitude, longitude, landRegCode, tempRegCode, regionCodeName(선택), priority(선택). " +
+                    "행별 결과(CREATED/SKIPPED/FAILED)를 NDJSON으로 스트리밍합니다.")
+    public ResponseEntity<StreamingResponseBody> bulkImportRegions(HttpServletRequest request) throws IOException {
+
+        RegionBulkImportService.ImportFormat format =
+                RegionBulkImportService.ImportFormat.fromContentType(request.getContentType());
+        log.info("지역 대량 등록 API 호출: format={}", format);
+
+        InputStream input = request.getInputStream();
+        StreamingResponseBody body = output -> regionBulkImportService.importRegions(input, format, output);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     /**
      * 좌표 변환 (미리보기)
      * 실제 저장하지 않고 변환 결과만 확인
@@ -133,6 +166,24 @@ public class AdminRegionController {
         return ResponseEntity.ok(CustomResponse.onSuccess(response));
     }
 
+    /**
+     * 격자 변환 검증
+     * 등록된 지역 중 무작위 표본에 대해 로컬 격자 변환 결과를 기상청 격자 변환 API와 비교
+     */
+    @PostMapping("/coordinate-conversion/verify")
+    @Operation(summary = "격자 변환 검증",
+            description = "등록된 지역 중 무작위 표본의 로컬 격자 변환 결과를 기상청 API와 비교합니다. (표본 수만큼 API 호출, 최대 100개)")
+    public ResponseEntity<CustomResponse<RegionResDTO.GridConversionVerification>> verifyGridConversion(
+            @Parameter(description = "검증할 표본 지역 수")
+            @RequestParam(defaultValue = "20") int sampleSize) {
+
+        log.info("격자 변환 검증 API 호출: sampleSize={}", sampleSize);
+
+        RegionResDTO.GridConversionVerification response = regionService.verifyGridConversion(sampleSize);
+
+        return ResponseEntity.ok(CustomResponse.onSuccess(response));
+    }
+
     /**
      * 모든 지역 조회
      */
@@ -179,6 +230,25 @@ public class AdminRegionController {
         return ResponseEntity.ok(CustomResponse.onSuccess(response));
     }
 
+    /**
+     * 지역 수집 우선순위 변경
+     */
+    @PatchMapping("/{regionId}/priority")
+    @Operation(summary = "지역 수집 우선순위 변경",
+            description = "기상청 일일 호출 한도가 부족할 때 우선순위가 높은 지역부터 수집합니다. (기본값 0, 클수록 우선)")
+    public ResponseEntity<CustomResponse<RegionResDTO.RegionInfo>> updateRegionPriority(
+            @Parameter(description = "지역 ID", required = true)
+            @PathVariable Long regionId,
+            @Parameter(description = "수집 우선순위", required = true)
+            @RequestParam int priority) {
+
+        log.info("지역 수집 우선순위 변경 API 호출: regionId={}, priority={}", regionId, priority);
+
+        RegionResDTO.RegionInfo response = regionService.updateRegionPriority(regionId, priority);
+
+        return ResponseEntity.ok(CustomResponse.onSuccess(response));
+    }
+
     /**
      * 지역 삭제
      */
@@ -1,11 +1,17 @@
 package com.study.demo.testweatherapi.domain.weather.controller;
 
 import com.study.demo.testweatherapi.domain.weather.dto.request.WeatherSyncReqDTO;
+import com.study.demo.testweatherapi.domain.weather.converter.WeatherSyncConverter;
 import com.study.demo.testweatherapi.domain.weather.dto.response.WeatherSyncResDTO;
+import com.study.demo.testweatherapi.domain.weather.service.WeatherCollectionRetryQueue;
 import com.study.demo.testweatherapi.domain.weather.service.WeatherDataCleanupService;
 import com.study.demo.testweatherapi.domain.weather.service.WeatherDataCollectionService;
 import com.study.demo.testweatherapi.domain.weather.service.WeatherRecommendationGenerationService;
 import com.study.demo.testweatherapi.global.apiPayload.CustomResponse;
+import com.study.demo.testweatherapi.global.client.ConnectionPoolMetricsRegistry;
+import com.study.demo.testweatherapi.global.client.HedgedRequestExecutor;
+import com.study.demo.testweatherapi.global.client.KmaQuotaGuard;
+import com.study.demo.testweatherapi.global.client.KmaResilienceFilter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -30,6 +36,11 @@ public class AdminWeatherManagementController {
     private final WeatherDataCollectionService dataCollectionService;
     private final WeatherRecommendationGenerationService recommendationGenerationService;
     private final WeatherDataCleanupService dataCleanupService;
+    private final ConnectionPoolMetricsRegistry poolMetricsRegistry;
+    private final KmaResilienceFilter resilienceFilter;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+    private final WeatherCollectionRetryQueue retryQueue;
+    private final KmaQuotaGuard quotaGuard;
 
     /**
      * 수동 트리거 - 통합 관리
@@ -185,6 +196,44 @@ public class AdminWeatherManagementController {
         return ResponseEntity.ok(CustomResponse.onSuccess(status));
     }
 
+    /**
+     * 기상청 API 클라이언트 상태 조회
+     */
+    @GetMapping("/client-status")
+    @Operation(summary = "API 클라이언트 상태 조회",
+            description = "기상청 API 커넥션 풀(사용 중/유휴/대기 요청), 서킷 상태, 재시도/헤지 예산을 조회합니다.")
+    public ResponseEntity<CustomResponse<WeatherSyncResDTO.WeatherClientStatus>> getClientStatus() {
+
+        log.info("API 클라이언트 상태 조회 요청");
+
+        WeatherSyncResDTO.WeatherClientStatus status = WeatherSyncResDTO.WeatherClientStatus.builder()
+                .connectionPools(poolMetricsRegistry.snapshot().stream()
+                        .map(WeatherSyncConverter::toConnectionPoolStatus)
+                        .toList())
+                .circuitStates(resilienceFilter.getCircuitStates())
+                .availableRetryTokens(resilienceFilter.getAvailableRetryTokens())
+                .availableHedgeTokens(hedgedRequestExecutor.getAvailableHedgeTokens())
+                .pendingRetryRegions(retryQueue.size())
+                .statusGeneratedAt(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.ok(CustomResponse.onSuccess(status));
+    }
+
+    /**
+     * 기상청 API 일일 호출 한도 현황 조회
+     */
+    @GetMapping("/quota")
+    @Operation(summary = "API 호출 한도 조회",
+            description = "기상청 authKey의 오늘 호출 수(엔드포인트별), 남은 한도, 지금 할당 가능한 호출 수를 조회합니다.")
+    public ResponseEntity<CustomResponse<WeatherSyncResDTO.ApiQuotaStatus>> getApiQuota() {
+
+        log.info("API 호출 한도 조회 요청");
+
+        return ResponseEntity.ok(CustomResponse.onSuccess(
+                WeatherSyncConverter.toApiQuotaStatus(quotaGuard.snapshot())));
+    }
+
     /**
      * 긴급 전체 재동기화
      */
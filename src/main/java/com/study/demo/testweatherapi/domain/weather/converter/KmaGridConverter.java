@@ -0,0 +1,111 @@
+package com.study.demo.testweatherapi.domain.weather.converter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기상청 동네예보 격자 좌표 변환기 (Lambert Conformal Conic 투영)
+ * 기상청 격자 변환 API와 같은 투영 상수를 사용하므로 네트워크 호출 없이 위경도 <-> 격자(nx, ny) 변환 가능
+ *
+ * 투영 상수 (기상청 공개 변환 코드 기준)
+ * - 지구 반경 6371.00877km, 격자 간격 5km
+ * - 표준 위도 30°, 60° / 기준점 위경도 (38°N, 126°E) / 기준점 격자 (43, 136)
+ * - 격자 범위 (1, 1) ~ (149, 253)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KmaGridConverter {
+
+    // 기상청 동네예보 격자 범위 (149 x 253)
+    public static final int GRID_MIN = 1;
+    public static final int GRID_MAX_X = 149;
+    public static final int GRID_MAX_Y = 253;
+
+    private static final double EARTH_RADIUS_KM = 6371.00877;
+    private static final double GRID_SPACING_KM = 5.0;
+    private static final double STANDARD_LAT1 = 30.0;
+    private static final double STANDARD_LAT2 = 60.0;
+    private static final double ORIGIN_LON = 126.0;
+    private static final double ORIGIN_LAT = 38.0;
+    private static final double ORIGIN_X = 43;
+    private static final double ORIGIN_Y = 136;
+
+    private static final double DEG_TO_RAD = Math.PI / 180.0;
+    private static final double RAD_TO_DEG = 180.0 / Math.PI;
+
+    // 투영 상수는 고정값이므로 클래스 로딩 시 한 번만 계산
+    private static final double RE = EARTH_RADIUS_KM / GRID_SPACING_KM;
+    private static final double OLON = ORIGIN_LON * DEG_TO_RAD;
+    private static final double SN;
+    private static final double SF;
+    private static final double RO;
+
+    static {
+        double slat1 = STANDARD_LAT1 * DEG_TO_RAD;
+        double slat2 = STANDARD_LAT2 * DEG_TO_RAD;
+        double olat = ORIGIN_LAT * DEG_TO_RAD;
+
+        double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        SN = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
+        SF = Math.pow(Math.tan(Math.PI * 0.25 + slat1 * 0.5), SN) * Math.cos(slat1) / SN;
+        RO = RE * SF / Math.pow(Math.tan(Math.PI * 0.25 + olat * 0.5), SN);
+    }
+
+    /**
+     * 위경도 -> 격자 좌표 (기상청 API와 같이 가장 가까운 격자점으로 반올림)
+     */
+    public static Grid toGrid(double latitude, double longitude) {
+        double ra = RE * SF / Math.pow(Math.tan(Math.PI * 0.25 + latitude * DEG_TO_RAD * 0.5), SN);
+
+        double theta = longitude * DEG_TO_RAD - OLON;
+        if (theta > Math.PI) {
+            theta -= 2.0 * Math.PI;
+        }
+        if (theta < -Math.PI) {
+            theta += 2.0 * Math.PI;
+        }
+        theta *= SN;
+
+        int x = (int) Math.floor(ra * Math.sin(theta) + ORIGIN_X + 0.5);
+        int y = (int) Math.floor(RO - ra * Math.cos(theta) + ORIGIN_Y + 0.5);
+        return new Grid(x, y);
+    }
+
+    /**
+     * 격자 좌표 -> 격자점 중심의 위경도
+     */
+    public static LatLon toLatLon(int x, int y) {
+        double xn = x - ORIGIN_X;
+        double yn = RO - y + ORIGIN_Y;
+        double ra = Math.sqrt(xn * xn + yn * yn);
+        if (SN < 0.0) {
+            ra = -ra;
+        }
+
+        double latitude = 2.0 * Math.atan(Math.pow(RE * SF / ra, 1.0 / SN)) - Math.PI * 0.5;
+
+        double theta;
+        if (Math.abs(xn) <= 0.0) {
+            theta = 0.0;
+        } else if (Math.abs(yn) <= 0.0) {
+            theta = xn < 0.0 ? -Math.PI * 0.5 : Math.PI * 0.5;
+        } else {
+            theta = Math.atan2(xn, yn);
+        }
+        double longitude = theta / SN + OLON;
+
+        return new LatLon(latitude * RAD_TO_DEG, longitude * RAD_TO_DEG);
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    public record Grid(int x, int y) {
+        /**
+         * 기상청 동네예보 격자 범위 안인지 (범위 밖 좌표는 예보 API가 데이터를 주지 않음)
+         */
+        public boolean isInRange() {
+            return x >= GRID_MIN && x <= GRID_MAX_X && y >= GRID_MIN && y <= GRID_MAX_Y;
+        }
+    }
+
+    public record LatLon(double latitude, double longitude) {}
+}
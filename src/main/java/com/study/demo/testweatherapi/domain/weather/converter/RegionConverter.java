@@ -129,6 +129,7 @@ public class RegionConverter {
                 .gridX(region.getGridX())
                 .gridY(region.getGridY())
                 .regionCode(toRegionCodeInfo(region.getRegionCode()))
+                .priority(region.getPriority())
                 .createdAt(region.getCreatedAt())
                 .updatedAt(region.getUpdatedAt())
                 .build();
@@ -179,6 +180,44 @@ public class RegionConverter {
                 .build();
     }
 
+    /**
+     * 격자 변환 불일치 정보 생성
+     */
+    public static RegionResDTO.GridConversionMismatch toGridConversionMismatch(
+            Region region, int localGridX, int localGridY, BigDecimal apiGridX, BigDecimal apiGridY) {
+        return RegionResDTO.GridConversionMismatch.builder()
+                .regionId(region.getId())
+                .regionName(region.getName())
+                .latitude(region.getLatitude())
+                .longitude(region.getLongitude())
+                .localGridX(localGridX)
+                .localGridY(localGridY)
+                .apiGridX(apiGridX)
+                .apiGridY(apiGridY)
+                .build();
+    }
+
+    /**
+     * 격자 변환 검증 결과 DTO 생성
+     */
+    public static RegionResDTO.GridConversionVerification toGridConversionVerification(
+            int totalRegions, int sampledRegions, int verifiedRegions, int apiFailedRegions,
+            List<RegionResDTO.GridConversionMismatch> mismatches) {
+        String message = mismatches.isEmpty()
+                ? String.format("확인한 %d개 지역 모두 로컬 변환 결과가 기상청 API와 일치합니다.", verifiedRegions)
+                : String.format("확인한 %d개 지역 중 %d개 지역이 기상청 API와 다릅니다.", verifiedRegions, mismatches.size());
+
+        return RegionResDTO.GridConversionVerification.builder()
+                .totalRegions(totalRegions)
+                .sampledRegions(sampledRegions)
+                .verifiedRegions(verifiedRegions)
+                .apiFailedRegions(apiFailedRegions)
+                .mismatchCount(mismatches.size())
+                .mismatches(mismatches)
+                .message(message)
+                .build();
+    }
+
     /**
      * Region 엔티티 리스트를 RegionSearchResult DTO로 변환
      */
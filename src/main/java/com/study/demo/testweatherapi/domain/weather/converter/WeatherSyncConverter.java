@@ -5,6 +5,8 @@ import com.study.demo.testweatherapi.domain.weather.entity.RawMediumTermWeather;
 import com.study.demo.testweatherapi.domain.weather.entity.RawShortTermWeather;
 import com.study.demo.testweatherapi.domain.weather.entity.Region;
 import com.study.demo.testweatherapi.domain.weather.entity.enums.WeatherType;
+import com.study.demo.testweatherapi.global.client.ConnectionPoolMetricsRegistry;
+import com.study.demo.testweatherapi.global.client.KmaQuotaGuard;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -117,22 +119,24 @@ public class WeatherSyncConverter {
      * 단기예보 동기화 결과 생성
      */
     public static WeatherSyncResDTO.ShortTermSyncResult toShortTermSyncResult(
-            int totalRegions, int successfulRegions, int failedRegions,
+            int totalRegions, int successfulRegions, int failedRegions, int deferredRegions,
             int totalDataPoints, int newDataPoints, int updatedDataPoints,
             LocalDate baseDate, String baseTime,
             LocalDateTime startTime, LocalDateTime endTime,
+            int hedgedRequests,
             List<WeatherSyncResDTO.RegionSyncResult> regionResults,
             List<String> errorMessages) {
 
         long durationMs = java.time.Duration.between(startTime, endTime).toMillis();
         String message = String.format(
-                "단기예보 동기화 완료: 성공 %d/%d 지역, 신규 %d개, 업데이트 %d개 데이터 처리",
-                successfulRegions, totalRegions, newDataPoints, updatedDataPoints);
+                "단기예보 동기화 완료: 성공 %d/%d 지역, 연기 %d 지역, 신규 %d개, 업데이트 %d개 데이터 처리",
+                successfulRegions, totalRegions, deferredRegions, newDataPoints, updatedDataPoints);
 
         return WeatherSyncResDTO.ShortTermSyncResult.builder()
                 .totalRegions(totalRegions)
                 .successfulRegions(successfulRegions)
                 .failedRegions(failedRegions)
+                .deferredRegions(deferredRegions)
                 .totalDataPoints(totalDataPoints)
                 .newDataPoints(newDataPoints)
                 .updatedDataPoints(updatedDataPoints)
@@ -141,6 +145,7 @@ public class WeatherSyncConverter {
                 .processingStartTime(startTime)
                 .processingEndTime(endTime)
                 .processingDurationMs(durationMs)
+                .hedgedRequests(hedgedRequests)
                 .regionResults(regionResults)
                 .errorMessages(errorMessages)
                 .message(message)
@@ -151,7 +156,7 @@ public class WeatherSyncConverter {
      * 중기예보 동기화 결과 생성
      */
     public static WeatherSyncResDTO.MediumTermSyncResult toMediumTermSyncResult(
-            int totalRegions, int successfulRegions, int failedRegions,
+            int totalRegions, int successfulRegions, int failedRegions, int deferredRegions,
             int totalDataPoints, int newDataPoints, int updatedDataPoints,
             LocalDate tmfc, LocalDateTime startTime, LocalDateTime endTime,
             List<WeatherSyncResDTO.RegionSyncResult> regionResults,
@@ -159,13 +164,14 @@ public class WeatherSyncConverter {
 
         long durationMs = java.time.Duration.between(startTime, endTime).toMillis();
         String message = String.format(
-                "중기예보 동기화 완료: 성공 %d/%d 지역, 신규 %d개, 업데이트 %d개 데이터 처리",
-                successfulRegions, totalRegions, newDataPoints, updatedDataPoints);
+                "중기예보 동기화 완료: 성공 %d/%d 지역, 연기 %d 지역, 신규 %d개, 업데이트 %d개 데이터 처리",
+                successfulRegions, totalRegions, deferredRegions, newDataPoints, updatedDataPoints);
 
         return WeatherSyncResDTO.MediumTermSyncResult.builder()
                 .totalRegions(totalRegions)
                 .successfulRegions(successfulRegions)
                 .failedRegions(failedRegions)
+                .deferredRegions(deferredRegions)
                 .totalDataPoints(totalDataPoints)
                 .newDataPoints(newDataPoints)
                 .updatedDataPoints(updatedDataPoints)
@@ -185,7 +191,7 @@ public class WeatherSyncConverter {
     public static WeatherSyncResDTO.RecommendationGenerationResult toRecommendationGenerationResult(
             int totalRegions, int successfulRegions, int failedRegions,
             int totalRecommendations, int newRecommendations, int updatedRecommendations,
-            LocalDate startDate, LocalDate endDate,
+            int unchangedRecommendations, LocalDate startDate, LocalDate endDate,
             LocalDateTime startTime, LocalDateTime endTime,
             List<WeatherSyncResDTO.RegionRecommendationResult> regionResults,
             Map<WeatherType, Integer> weatherStats,
@@ -193,8 +199,9 @@ public class WeatherSyncConverter {
 
         long durationMs = java.time.Duration.between(startTime, endTime).toMillis();
         String message = String.format(
-                "추천 정보 생성 완료: 성공 %d/%d 지역, 신규 %d개, 업데이트 %d개 추천 생성",
-                successfulRegions, totalRegions, newRecommendations, updatedRecommendations);
+                "추천 정보 생성 완료: 성공 %d/%d 지역, 신규 %d개, 업데이트 %d개, 변경 없음 %d개",
+                successfulRegions, totalRegions, newRecommendations, updatedRecommendations,
+                unchangedRecommendations);
 
         WeatherSyncResDTO.WeatherTypeStatistics weatherTypeStats = WeatherSyncResDTO.WeatherTypeStatistics.builder()
                 .clearWeatherCount(weatherStats.getOrDefault(WeatherType.CLEAR, 0))
@@ -210,6 +217,7 @@ public class WeatherSyncConverter {
                 .totalRecommendations(totalRecommendations)
                 .newRecommendations(newRecommendations)
                 .updatedRecommendations(updatedRecommendations)
+                .unchangedRecommendations(unchangedRecommendations)
                 .startDate(startDate)
                 .endDate(endDate)
                 .processingStartTime(startTime)
@@ -242,6 +250,41 @@ public class WeatherSyncConverter {
                 .build();
     }
 
+    /**
+     * 커넥션 풀 스냅샷을 응답 DTO로 변환
+     */
+    public static WeatherSyncResDTO.ConnectionPoolStatus toConnectionPoolStatus(
+            ConnectionPoolMetricsRegistry.PoolSnapshot snapshot) {
+
+        return WeatherSyncResDTO.ConnectionPoolStatus.builder()
+                .poolName(snapshot.poolName())
+                .remoteAddress(snapshot.remoteAddress())
+                .activeConnections(snapshot.activeConnections())
+                .idleConnections(snapshot.idleConnections())
+                .allocatedConnections(snapshot.allocatedConnections())
+                .pendingAcquires(snapshot.pendingAcquires())
+                .maxConnections(snapshot.maxConnections())
+                .maxPendingAcquires(snapshot.maxPendingAcquires())
+                .build();
+    }
+
+    /**
+     * 일일 호출 한도 스냅샷을 응답 DTO로 변환
+     */
+    public static WeatherSyncResDTO.ApiQuotaStatus toApiQuotaStatus(KmaQuotaGuard.QuotaSnapshot snapshot) {
+        return WeatherSyncResDTO.ApiQuotaStatus.builder()
+                .date(snapshot.date())
+                .dailyLimit(snapshot.dailyLimit())
+                .usedToday(snapshot.usedToday())
+                .remainingToday(snapshot.remainingToday())
+                .plannedToday(snapshot.plannedToday())
+                .plannableRemaining(snapshot.plannableRemaining())
+                .availableTokens(snapshot.availableTokens())
+                .callsByEndpoint(snapshot.callsByEndpoint())
+                .statusGeneratedAt(LocalDateTime.now())
+                .build();
+    }
+
     // ==== 내부 유틸리티 메서드들 ====
 
     /**
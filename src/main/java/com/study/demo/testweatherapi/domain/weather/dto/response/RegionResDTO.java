@@ -20,6 +20,7 @@ public class RegionResDTO {
             BigDecimal gridX,
             BigDecimal gridY,
             RegionCodeInfo regionCode,
+            Integer priority,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
@@ -172,4 +173,64 @@ public class RegionResDTO {
             int regionCount
     ) {
     }
+
+    /**
+     * 격자 변환 검증 결과 DTO (로컬 변환 vs 기상청 API)
+     */
+    @Builder
+    public record GridConversionVerification(
+            int totalRegions,
+            int sampledRegions,
+            int verifiedRegions,
+            int apiFailedRegions,
+            int mismatchCount,
+            List<GridConversionMismatch> mismatches,
+            String message
+    ) {
+    }
+
+    /**
+     * 격자 변환 불일치 지역
+     */
+    @Builder
+    public record GridConversionMismatch(
+            Long regionId,
+            String regionName,
+            BigDecimal latitude,
+            BigDecimal longitude,
+            int localGridX,
+            int localGridY,
+            BigDecimal apiGridX,
+            BigDecimal apiGridY
+    ) {
+    }
+
+    /**
+     * 대량 등록 행별 결과 DTO (NDJSON 한 줄)
+     */
+    @Builder
+    public record BulkImportRowResult(
+            int lineNumber,             // 입력 줄 번호 (1부터, CSV 헤더 포함)
+            String name,
+            String status,              // CREATED / SKIPPED / FAILED
+            BigDecimal gridX,
+            BigDecimal gridY,
+            String message
+    ) {
+    }
+
+    /**
+     * 대량 등록 요약 DTO (NDJSON 마지막 줄)
+     */
+    @Builder
+    public record BulkImportSummary(
+            String status,              // SUMMARY
+            int totalRows,
+            int createdRegions,
+            int skippedRows,
+            int failedRows,
+            int createdRegionCodes,
+            long processingTimeMs
+    ) {
+    }
 }
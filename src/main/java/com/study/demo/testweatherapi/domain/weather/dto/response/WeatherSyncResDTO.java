@@ -18,6 +18,7 @@ public class WeatherSyncResDTO {
             int totalRegions,           // 처리된 지역 수
             int successfulRegions,      // 성공한 지역 수
             int failedRegions,          // 실패한 지역 수
+            int deferredRegions,        // 호출 할당 부족으로 다음 주기로 연기된 지역 수
             int totalDataPoints,        // 전체 데이터 포인트 수
             int newDataPoints,          // 새로 추가된 데이터 포인트 수
             int updatedDataPoints,      // 업데이트된 데이터 포인트 수
@@ -26,6 +27,7 @@ public class WeatherSyncResDTO {
             LocalDateTime processingStartTime,  // 처리 시작 시간
             LocalDateTime processingEndTime,    // 처리 종료 시간
             long processingDurationMs,          // 처리 소요 시간 (밀리초)
+            int hedgedRequests,                 // 느린 응답으로 추가 발송한 헤지 요청 수
             List<RegionSyncResult> regionResults,  // 지역별 결과
             List<String> errorMessages,         // 오류 메시지들
             String message                      // 전체 결과 메시지
@@ -40,6 +42,7 @@ public class WeatherSyncResDTO {
             int totalRegions,           // 처리된 지역 수
             int successfulRegions,      // 성공한 지역 수
             int failedRegions,          // 실패한 지역 수
+            int deferredRegions,        // 호출 할당 부족으로 다음 주기로 연기된 지역 수
             int totalDataPoints,        // 전체 데이터 포인트 수
             int newDataPoints,          // 새로 추가된 데이터 포인트 수
             int updatedDataPoints,      // 업데이트된 데이터 포인트 수
@@ -80,6 +83,7 @@ public class WeatherSyncResDTO {
             int totalRecommendations,           // 전체 생성된 추천 수
             int newRecommendations,             // 새로 생성된 추천 수
             int updatedRecommendations,         // 업데이트된 추천 수
+            int unchangedRecommendations,       // 분류 결과가 같아 쓰기를 생략한 추천 수
             LocalDate startDate,                // 시작 날짜
             LocalDate endDate,                  // 종료 날짜
             LocalDateTime processingStartTime,  // 처리 시작 시간
@@ -103,7 +107,9 @@ public class WeatherSyncResDTO {
             int recommendationsGenerated,
             int newRecommendations,
             int updatedRecommendations,
+            int unchangedRecommendations,
             List<String> processedDates,  // 처리된 날짜들
+            List<String> failedDates,     // 데이터 없음 / 템플릿 없음 등으로 생성하지 못한 날짜들
             String errorMessage,
             long processingTimeMs
     ) {
@@ -311,4 +317,51 @@ public class WeatherSyncResDTO {
             String description                              // 작업 설명
     ) {
     }
+
+    /**
+     * 기상청 API 클라이언트 상태 (커넥션 풀, 서킷, 재시도/헤지 예산)
+     */
+    @Builder
+    public record WeatherClientStatus(
+            List<ConnectionPoolStatus> connectionPools,     // 원격 주소별 커넥션 풀 상태
+            Map<String, String> circuitStates,              // 엔드포인트별 서킷 상태
+            double availableRetryTokens,                    // 남은 재시도 예산
+            double availableHedgeTokens,                    // 남은 헤지 예산
+            int pendingRetryRegions,                        // 재시도 큐에 대기 중인 지역 수
+            LocalDateTime statusGeneratedAt                 // 상태 생성 시간
+    ) {
+    }
+
+    /**
+     * 커넥션 풀 상태
+     */
+    @Builder
+    public record ConnectionPoolStatus(
+            String poolName,                                // 풀 이름
+            String remoteAddress,                           // 원격 주소
+            int activeConnections,                          // 사용 중인 커넥션 수
+            int idleConnections,                            // 유휴 커넥션 수
+            int allocatedConnections,                       // 열려 있는 전체 커넥션 수
+            int pendingAcquires,                            // 커넥션 대기 중인 요청 수
+            int maxConnections,                             // 최대 커넥션 수
+            int maxPendingAcquires                          // 최대 대기 요청 수
+    ) {
+    }
+
+    /**
+     * 기상청 API 일일 호출 한도 현황
+     */
+    @Builder
+    public record ApiQuotaStatus(
+            LocalDate date,                                 // 집계 날짜
+            int dailyLimit,                                 // 일일 호출 한도
+            int usedToday,                                  // 오늘 보낸 요청 수 (재시도/헤지 포함)
+            int remainingToday,                             // 일일 한도까지 남은 요청 수
+            int plannedToday,                               // 수집 계획으로 할당된 호출 수
+            int plannableRemaining,                         // 예비분 제외 추가로 계획 가능한 호출 수
+            double availableTokens,                         // 지금 바로 할당 가능한 호출 수
+            Map<String, Integer> callsByEndpoint,           // 엔드포인트별 호출 수
+            LocalDateTime statusGeneratedAt                 // 상태 생성 시간
+    ) {
+    }
 }
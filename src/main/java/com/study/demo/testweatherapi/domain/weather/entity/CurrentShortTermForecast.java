@@ -0,0 +1,79 @@
+package com.study.demo.testweatherapi.domain.weather.entity;
+
+import com.study.demo.testweatherapi.global.config.JpaBatchConfig;
+import com.study.demo.testweatherapi.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 현재 단기 예보 (예보 시각별 최신 발표만 보관)
+ * 원시 예보(RawShortTermWeather)는 발표마다 쌓이는 이력으로 남기고,
+ * 조회/집계는 (지역, 예보일, 예보시각)마다 한 행만 있는 이 테이블을 사용한다
+ */
+@Entity
+@Table(name = "current_short_term_forecast",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_current_short_term_forecast_slot",
+                columnNames = {"region_id", "fcst_date", "fcst_time"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class CurrentShortTermForecast extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "current_short_term_forecast_id")
+    @TableGenerator(name = "current_short_term_forecast_id", table = JpaBatchConfig.ID_GENERATOR_TABLE,
+            pkColumnName = JpaBatchConfig.ID_GENERATOR_SEGMENT_COLUMN,
+            valueColumnName = JpaBatchConfig.ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = "current_short_term_forecast", allocationSize = JpaBatchConfig.ID_ALLOCATION_SIZE)
+    private Long id;   // current_short_term_forecast_id
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "region_id", nullable = false)
+    private Region region;
+
+    @Column(name = "fcst_date", nullable = false)
+    private LocalDate fcstDate;
+
+    @Column(name = "fcst_time", nullable = false)
+    private String fcstTime;
+
+    // 이 예보 시각 값을 발표한 기준시각
+    @Column(name = "base_date", nullable = false)
+    private LocalDate baseDate;
+
+    @Column(name = "base_time", nullable = false)
+    private String baseTime;
+
+    @Column(nullable = false)
+    private Double tmp;
+
+    @Column(nullable = false)
+    private String sky;
+
+    @Column(nullable = false)
+    private Double pop;
+
+    @Column(nullable = false)
+    private String pty;
+
+    @Column(nullable = false)
+    private Double pcp;
+
+    /**
+     * 같은 예보 시각의 더 최신 (또는 같은 발표의 갱신된) 값으로 교체
+     */
+    public void updateForecast(LocalDate baseDate, String baseTime,
+                               Double tmp, String sky, Double pop, String pty, Double pcp) {
+        this.baseDate = baseDate;
+        this.baseTime = baseTime;
+        this.tmp = tmp;
+        this.sky = sky;
+        this.pop = pop;
+        this.pty = pty;
+        this.pcp = pcp;
+    }
+}
@@ -0,0 +1,107 @@
+package com.study.demo.testweatherapi.domain.weather.entity;
+
+import com.study.demo.testweatherapi.global.config.JpaBatchConfig;
+import com.study.demo.testweatherapi.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * (지역, 예보일)별 단기 예보 일 집계
+ * 수집 저장 시점에 현재 예보(CurrentShortTermForecast) 중 가장 최신 기준시각의 시간별 예보로 갱신되며,
+ * 추천 분류는 시간별 행 대신 이 한 행만 읽는다
+ */
+@Entity
+@Table(name = "daily_forecast_aggregate",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_daily_forecast_aggregate_region_date",
+                columnNames = {"region_id", "forecast_date"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class DailyForecastAggregate extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "daily_forecast_aggregate_id")
+    @TableGenerator(name = "daily_forecast_aggregate_id", table = JpaBatchConfig.ID_GENERATOR_TABLE,
+            pkColumnName = JpaBatchConfig.ID_GENERATOR_SEGMENT_COLUMN,
+            valueColumnName = JpaBatchConfig.ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = "daily_forecast_aggregate", allocationSize = JpaBatchConfig.ID_ALLOCATION_SIZE)
+    private Long id;   // daily_forecast_aggregate_id
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "region_id", nullable = false)
+    private Region region;
+
+    @Column(name = "forecast_date", nullable = false)
+    private LocalDate forecastDate;
+
+    // 집계에 사용한 기준시각 (이보다 오래된 발표는 반영하지 않음)
+    @Column(name = "base_date", nullable = false)
+    private LocalDate baseDate;
+
+    @Column(name = "base_time", nullable = false)
+    private String baseTime;
+
+    // 대표 예보 (정오 우선)
+    @Column(name = "fcst_time", nullable = false)
+    private String fcstTime;
+
+    @Column(nullable = false)
+    private Double tmp;
+
+    @Column(nullable = false)
+    private String sky;
+
+    @Column(nullable = false)
+    private Double pop;
+
+    @Column(nullable = false)
+    private String pty;
+
+    @Column(nullable = false)
+    private Double pcp;
+
+    // 하루 집계
+    @Column(name = "min_tmp", nullable = false)
+    private Double minTmp;
+
+    @Column(name = "max_tmp", nullable = false)
+    private Double maxTmp;
+
+    @Column(name = "avg_tmp", nullable = false)
+    private Double avgTmp;
+
+    @Column(name = "max_pop", nullable = false)
+    private Double maxPop;
+
+    @Column(name = "max_pcp", nullable = false)
+    private Double maxPcp;
+
+    @Column(name = "reading_count", nullable = false)
+    private Integer readingCount;
+
+    /**
+     * 새 기준시각(또는 같은 기준시각의 갱신된 값)으로 집계 교체
+     */
+    public void updateAggregate(LocalDate baseDate, String baseTime, CurrentShortTermForecast representative,
+                                Double minTmp, Double maxTmp, Double avgTmp, Double maxPop, Double maxPcp,
+                                Integer readingCount) {
+        this.baseDate = baseDate;
+        this.baseTime = baseTime;
+        this.fcstTime = representative.getFcstTime();
+        this.tmp = representative.getTmp();
+        this.sky = representative.getSky();
+        this.pop = representative.getPop();
+        this.pty = representative.getPty();
+        this.pcp = representative.getPcp();
+        this.minTmp = minTmp;
+        this.maxTmp = maxTmp;
+        this.avgTmp = avgTmp;
+        this.maxPop = maxPop;
+        this.maxPcp = maxPcp;
+        this.readingCount = readingCount;
+    }
+}
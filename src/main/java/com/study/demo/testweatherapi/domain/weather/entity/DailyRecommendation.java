@@ -1,5 +1,6 @@
 package com.study.demo.testweatherapi.domain.weather.entity;
 
+import com.study.demo.testweatherapi.global.config.JpaBatchConfig;
 import com.study.demo.testweatherapi.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -8,7 +9,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "daily_recommendation")
+@Table(name = "daily_recommendation",
+        indexes = @Index(name = "idx_daily_recommendation_region_date_version",
+                columnList = "region_id, forecast_date, generation_version"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -16,7 +19,11 @@ import java.time.LocalDateTime;
 public class DailyRecommendation extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "daily_recommendation_id")
+    @TableGenerator(name = "daily_recommendation_id", table = JpaBatchConfig.ID_GENERATOR_TABLE,
+            pkColumnName = JpaBatchConfig.ID_GENERATOR_SEGMENT_COLUMN,
+            valueColumnName = JpaBatchConfig.ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = "daily_recommendation", allocationSize = JpaBatchConfig.ID_ALLOCATION_SIZE)
     private Long id;   // daily_recommendation_id
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,4 +39,13 @@ public class DailyRecommendation extends BaseEntity {
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    /**
+     * 이 행을 쓴 추천 생성 실행의 버전
+     * 조회는 (지역, 날짜)마다 활성 버전(RecommendationVersion) 이하 중 가장 높은 버전 행만 사용하므로,
+     * 생성 중인 행은 실행이 끝나 활성 버전이 올라갈 때 한꺼번에 보이게 된다
+     */
+    @Builder.Default
+    @Column(name = "generation_version", nullable = false)
+    private Long generationVersion = 0L;
 }
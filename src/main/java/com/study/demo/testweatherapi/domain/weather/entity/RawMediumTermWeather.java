@@ -7,7 +7,10 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "raw_medium_term_weather")
+@Table(name = "raw_medium_term_weather",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_raw_medium_term_weather_natural_key",
+                columnNames = {"region_id", "tmfc", "tmef"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -39,4 +42,14 @@ public class RawMediumTermWeather extends BaseEntity {
 
     @Column(name = "max_tmp", nullable = false)
     private Double maxTmp;     // 최고기온 ℃
+
+    /**
+     * 예보 값 업데이트 메서드 (강제 업데이트용)
+     */
+    public void updateForecast(String sky, Double pop, Double minTmp, Double maxTmp) {
+        this.sky = sky;
+        this.pop = pop;
+        this.minTmp = minTmp;
+        this.maxTmp = maxTmp;
+    }
 }
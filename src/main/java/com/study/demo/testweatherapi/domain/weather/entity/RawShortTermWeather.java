@@ -7,7 +7,10 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "raw_short_term_weather")
+@Table(name = "raw_short_term_weather",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_raw_short_term_weather_natural_key",
+                columnNames = {"region_id", "base_date", "base_time", "fcst_date", "fcst_time"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
@@ -48,4 +51,15 @@ public class RawShortTermWeather extends BaseEntity {
 
     @Column(nullable = false)
     private Double pcp;   // mm
+
+    /**
+     * 예보 값 업데이트 메서드 (강제 업데이트용)
+     */
+    public void updateForecast(Double tmp, String sky, Double pop, String pty, Double pcp) {
+        this.tmp = tmp;
+        this.sky = sky;
+        this.pop = pop;
+        this.pty = pty;
+        this.pcp = pcp;
+    }
 }
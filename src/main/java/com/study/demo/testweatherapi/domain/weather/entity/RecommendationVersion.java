@@ -0,0 +1,38 @@
+package com.study.demo.testweatherapi.domain.weather.entity;
+
+import com.study.demo.testweatherapi.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 추천 정보 활성 버전 포인터 (단일 행)
+ * - lastAllocatedVersion: 추천 생성 실행마다 하나씩 발급한 마지막 버전
+ * - activeVersion: 조회에 노출되는 버전 (실행이 끝나면 한 문장으로 올림)
+ */
+@Entity
+@Table(name = "recommendation_version")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class RecommendationVersion extends BaseEntity {
+
+    public static final long POINTER_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "active_version", nullable = false)
+    private Long activeVersion;
+
+    @Column(name = "last_allocated_version", nullable = false)
+    private Long lastAllocatedVersion;
+
+    /**
+     * 새 생성 버전 발급
+     */
+    public Long allocateNext() {
+        this.lastAllocatedVersion = lastAllocatedVersion + 1;
+        return lastAllocatedVersion;
+    }
+}
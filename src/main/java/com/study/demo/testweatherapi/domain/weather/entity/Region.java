@@ -39,6 +39,13 @@ public class Region extends BaseEntity {
     @JoinColumn(name = "region_code_id", nullable = false)
     private RegionCode regionCode;
 
+    /**
+     * 수집 우선순위 (클수록 우선, 일일 호출 한도가 부족할 때 먼저 수집)
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer priority = 0;
+
     @OneToMany(mappedBy = "region", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<RawShortTermWeather> shortTermWeathers = new ArrayList<>();
@@ -51,6 +58,14 @@ public class Region extends BaseEntity {
     @Builder.Default
     private List<DailyRecommendation> dailyRecommendations = new ArrayList<>();
 
+    @OneToMany(mappedBy = "region", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
+    private List<DailyForecastAggregate> dailyForecastAggregates = new ArrayList<>();
+
+    @OneToMany(mappedBy = "region", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
+    private List<CurrentShortTermForecast> currentShortTermForecasts = new ArrayList<>();
+
     /**
      * 지역 정보 업데이트 메서드
      */
@@ -63,4 +78,11 @@ public class Region extends BaseEntity {
         this.gridY = gridY;
         this.regionCode = regionCode;
     }
+
+    /**
+     * 수집 우선순위 변경
+     */
+    public void updatePriority(int priority) {
+        this.priority = priority;
+    }
 }
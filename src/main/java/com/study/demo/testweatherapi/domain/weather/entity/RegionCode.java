@@ -1,5 +1,6 @@
 package com.study.demo.testweatherapi.domain.weather.entity;
 
+import com.study.demo.testweatherapi.global.config.JpaBatchConfig;
 import com.study.demo.testweatherapi.global.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
@@ -16,7 +17,11 @@ import java.util.List;
 public class RegionCode extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "region_code_id")
+    @TableGenerator(name = "region_code_id", table = JpaBatchConfig.ID_GENERATOR_TABLE,
+            pkColumnName = JpaBatchConfig.ID_GENERATOR_SEGMENT_COLUMN,
+            valueColumnName = JpaBatchConfig.ID_GENERATOR_VALUE_COLUMN,
+            pkColumnValue = "region_code", allocationSize = JpaBatchConfig.ID_ALLOCATION_SIZE)
     private Long id;   // region_code_id
 
     @Column(name = "land_reg_code", nullable = false, unique = true)
@@ -0,0 +1,234 @@
+package com.study.demo.testweatherapi.domain.weather.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 단기예보(VilageFcst) JSON 응답 스트리밍 파서
+ * 트리(JsonNode)를 만들지 않고 response.body.items.item 배열을 토큰 단위로 순회하며
+ * 저장 대상 카테고리(TMP, SKY, POP, PTY, PCP)만 예보 시각별로 모아 행을 만든다
+ */
+@Component
+@RequiredArgsConstructor
+public class ShortTermForecastParser {
+
+    private static final String[] ITEM_PATH = {"response", "body", "items", "item"};
+
+    // 저장 대상 카테고리 비트
+    private static final int TMP = 1;
+    private static final int SKY = 1 << 1;
+    private static final int POP = 1 << 2;
+    private static final int PTY = 1 << 3;
+    private static final int PCP = 1 << 4;
+    private static final int ALL_CATEGORIES = TMP | SKY | POP | PTY | PCP;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 단기예보 JSON 응답(UTF-8 바이트)을 예보 행 목록으로 변환
+     * 문자열로 디코딩하지 않고 바이트에서 바로 토큰을 읽음
+     * 다섯 카테고리가 모두 모인 예보 시각만 결과에 포함
+     */
+    public List<ShortTermForecastRow> parse(byte[] json) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (!moveToItemArray(parser)) {
+                return Collections.emptyList();
+            }
+
+            Map<SlotKey, RowBuilder> rows = new LinkedHashMap<>();
+            Map<Integer, LocalDate> dateCache = new HashMap<>();
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                readItem(parser, rows, dateCache);
+            }
+
+            List<ShortTermForecastRow> results = new ArrayList<>(rows.size());
+            for (RowBuilder row : rows.values()) {
+                if (row.categories == ALL_CATEGORIES) {
+                    results.add(row.build());
+                }
+            }
+            return results;
+        }
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    /**
+     * response.body.items.item 배열의 시작 토큰까지 이동
+     * 결과가 없는 응답(items가 빈 문자열 등)이면 false
+     */
+    private boolean moveToItemArray(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+
+        for (int depth = 0; depth < ITEM_PATH.length; depth++) {
+            if (!moveToField(parser, ITEM_PATH[depth])) {
+                return false;
+            }
+            JsonToken expected = depth == ITEM_PATH.length - 1 ? JsonToken.START_ARRAY : JsonToken.START_OBJECT;
+            if (parser.nextToken() != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 객체에서 지정한 필드명까지 이동 (다른 필드의 값은 건너뜀)
+     */
+    private boolean moveToField(JsonParser parser, String fieldName) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (fieldName.equals(parser.currentName())) {
+                return true;
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * item 객체 하나를 읽어 해당 예보 시각의 행에 카테고리 값을 채움
+     */
+    private void readItem(JsonParser parser, Map<SlotKey, RowBuilder> rows,
+                          Map<Integer, LocalDate> dateCache) throws IOException {
+        String baseDate = null, baseTime = null, fcstDate = null, fcstTime = null;
+        String category = null, fcstValue = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case "baseDate" -> baseDate = parser.getValueAsString();
+                case "baseTime" -> baseTime = parser.getValueAsString();
+                case "fcstDate" -> fcstDate = parser.getValueAsString();
+                case "fcstTime" -> fcstTime = parser.getValueAsString();
+                case "category" -> category = parser.getValueAsString();
+                case "fcstValue" -> fcstValue = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+
+        int categoryBit = categoryBit(category);
+        if (categoryBit == 0 || baseDate == null || baseTime == null
+                || fcstDate == null || fcstTime == null || fcstValue == null) {
+            return;
+        }
+
+        SlotKey key = new SlotKey(
+                Integer.parseInt(baseDate), Integer.parseInt(baseTime),
+                Integer.parseInt(fcstDate), Integer.parseInt(fcstTime));
+
+        RowBuilder row = rows.get(key);
+        if (row == null) {
+            row = new RowBuilder(
+                    dateCache.computeIfAbsent(key.baseDate(), ShortTermForecastParser::toLocalDate), baseTime,
+                    dateCache.computeIfAbsent(key.fcstDate(), ShortTermForecastParser::toLocalDate), fcstTime);
+            rows.put(key, row);
+        }
+        row.set(categoryBit, fcstValue);
+    }
+
+    private static int categoryBit(String category) {
+        if (category == null) return 0;
+        return switch (category) {
+            case "TMP" -> TMP;
+            case "SKY" -> SKY;
+            case "POP" -> POP;
+            case "PTY" -> PTY;
+            case "PCP" -> PCP;
+            default -> 0;
+        };
+    }
+
+    /**
+     * yyyyMMdd 정수를 LocalDate로 변환
+     */
+    private static LocalDate toLocalDate(int yyyyMMdd) {
+        return LocalDate.of(yyyyMMdd / 10000, yyyyMMdd / 100 % 100, yyyyMMdd % 100);
+    }
+
+    private static String convertSkyValue(String skyCode) {
+        return switch (skyCode) {
+            case "1" -> "맑음";
+            case "3" -> "구름많음";
+            case "4" -> "흐림";
+            default -> "알수없음";
+        };
+    }
+
+    private static String convertPtyValue(String ptyCode) {
+        return switch (ptyCode) {
+            case "0" -> "없음";
+            case "1" -> "비";
+            case "2" -> "비/눈";
+            case "3" -> "눈";
+            default -> "알수없음";
+        };
+    }
+
+    private static Double convertPcpValue(String pcpValue) {
+        if ("강수없음".equals(pcpValue)) return 0.0;
+        try {
+            return Double.parseDouble(pcpValue.replaceAll("[^0-9.]", ""));
+        } catch (Exception e) {
+            return 0.0;
+        }
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    /**
+     * 예보 시각 복합 키 (yyyyMMdd, HHmm 정수)
+     */
+    private record SlotKey(int baseDate, int baseTime, int fcstDate, int fcstTime) {}
+
+    /**
+     * 예보 시각 하나의 카테고리 값을 모으는 빌더
+     */
+    private static final class RowBuilder {
+        private final LocalDate baseDate;
+        private final String baseTime;
+        private final LocalDate fcstDate;
+        private final String fcstTime;
+
+        private int categories;
+        private double tmp;
+        private String sky;
+        private double pop;
+        private String pty;
+        private double pcp;
+
+        private RowBuilder(LocalDate baseDate, String baseTime, LocalDate fcstDate, String fcstTime) {
+            this.baseDate = baseDate;
+            this.baseTime = baseTime;
+            this.fcstDate = fcstDate;
+            this.fcstTime = fcstTime;
+        }
+
+        private void set(int categoryBit, String value) {
+            switch (categoryBit) {
+                case TMP -> tmp = Double.parseDouble(value);
+                case SKY -> sky = convertSkyValue(value);
+                case POP -> pop = Double.parseDouble(value);
+                case PTY -> pty = convertPtyValue(value);
+                case PCP -> pcp = convertPcpValue(value);
+                default -> { return; }
+            }
+            categories |= categoryBit;
+        }
+
+        private ShortTermForecastRow build() {
+            return new ShortTermForecastRow(baseDate, baseTime, fcstDate, fcstTime, tmp, sky, pop, pty, pcp);
+        }
+    }
+}
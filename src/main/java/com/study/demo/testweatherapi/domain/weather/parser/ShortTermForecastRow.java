@@ -0,0 +1,29 @@
+package com.study.demo.testweatherapi.domain.weather.parser;
+
+import com.study.demo.testweatherapi.domain.weather.entity.RawShortTermWeather;
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+
+import java.time.LocalDate;
+
+/**
+ * 격자 단위로 한 번만 파싱한 단기예보 행 (지역별 엔티티로 복제해서 저장)
+ */
+public record ShortTermForecastRow(
+        LocalDate baseDate, String baseTime, LocalDate fcstDate, String fcstTime,
+        Double tmp, String sky, Double pop, String pty, Double pcp) {
+
+    public RawShortTermWeather toEntity(Region region) {
+        return RawShortTermWeather.builder()
+                .region(region)
+                .baseDate(baseDate)
+                .baseTime(baseTime)
+                .fcstDate(fcstDate)
+                .fcstTime(fcstTime)
+                .tmp(tmp)
+                .sky(sky)
+                .pop(pop)
+                .pty(pty)
+                .pcp(pcp)
+                .build();
+    }
+}
@@ -0,0 +1,293 @@
+package com.study.demo.testweatherapi.domain.weather.parser;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 기상청 typ01 텍스트 응답 파서 (중기 육상/기온 예보, 격자 변환 공용)
+ * #START7777 ~ #7777END 구간을 바이트 단위로 한 번만 훑으면서 각 줄의 컬럼 위치만 기록하고,
+ * 값은 필요한 컬럼만 그 자리에서 숫자/날짜로 변환한다
+ *
+ * 컬럼 구분자: 공백, 탭, 쉼표 / 큰따옴표로 감싼 값은 공백이 있어도 한 컬럼으로 취급
+ * 주석(#으로 시작하는) 줄과 빈 줄은 건너뜀
+ */
+@Component
+public class Typ01TextParser {
+
+    private static final byte[] START_MARKER = "#START7777".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] END_MARKER = "#7777END".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * 데이터 줄마다 rowHandler 호출
+     * 전달되는 Row는 줄마다 재사용되므로 콜백 밖으로 보관하면 안 됨
+     * @return 시작 마커를 찾았는지 여부
+     */
+    public boolean parse(byte[] body, Consumer<Row> rowHandler) {
+        int start = indexOf(body, START_MARKER, 0);
+        if (start < 0) {
+            return false;
+        }
+
+        int end = indexOf(body, END_MARKER, start);
+        if (end < 0) {
+            end = body.length;
+        }
+
+        Row row = new Row(body);
+        int lineStart = start + START_MARKER.length;
+        while (lineStart < end) {
+            int lineEnd = lineStart;
+            while (lineEnd < end && body[lineEnd] != '\n') {
+                lineEnd++;
+            }
+
+            if (row.tokenize(lineStart, lineEnd)) {
+                rowHandler.accept(row);
+            }
+
+            lineStart = lineEnd + 1;
+        }
+
+        return true;
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    private static int indexOf(byte[] source, byte[] target, int fromIndex) {
+        outer:
+        for (int i = fromIndex; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == ',';
+    }
+
+    /**
+     * typ01 데이터 한 줄 (컬럼 시작/끝 위치만 보관하는 재사용 뷰)
+     */
+    public static final class Row {
+
+        private final byte[] body;
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private int columnCount;
+        private int lineStart;
+        private int lineEnd;
+
+        private Row(byte[] body) {
+            this.body = body;
+        }
+
+        /**
+         * 줄을 컬럼으로 분리 (주석/빈 줄이면 false)
+         */
+        private boolean tokenize(int from, int to) {
+            lineStart = from;
+            lineEnd = to;
+            columnCount = 0;
+
+            int pos = from;
+            while (pos < to && isSeparator(body[pos])) {
+                pos++;
+            }
+            if (pos >= to || body[pos] == '#') {
+                return false;
+            }
+
+            while (pos < to) {
+                int tokenStart;
+                int tokenEnd;
+
+                if (body[pos] == '"') {
+                    tokenStart = ++pos;
+                    while (pos < to && body[pos] != '"') {
+                        pos++;
+                    }
+                    tokenEnd = pos;
+                    if (pos < to) {
+                        pos++;  // 닫는 따옴표
+                    }
+                } else {
+                    tokenStart = pos;
+                    while (pos < to && !isSeparator(body[pos])) {
+                        pos++;
+                    }
+                    tokenEnd = pos;
+                }
+
+                addColumn(tokenStart, tokenEnd);
+
+                while (pos < to && isSeparator(body[pos])) {
+                    pos++;
+                }
+            }
+            return columnCount > 0;
+        }
+
+        private void addColumn(int start, int end) {
+            if (columnCount == starts.length) {
+                starts = Arrays.copyOf(starts, columnCount * 2);
+                ends = Arrays.copyOf(ends, columnCount * 2);
+            }
+            starts[columnCount] = start;
+            ends[columnCount] = end;
+            columnCount++;
+        }
+
+        public int columnCount() {
+            return columnCount;
+        }
+
+        /**
+         * 컬럼 값을 문자열로 반환 (코드값 등 ASCII 컬럼용)
+         */
+        public String text(int column) {
+            checkColumn(column);
+            return new String(body, starts[column], ends[column] - starts[column], StandardCharsets.ISO_8859_1);
+        }
+
+        /**
+         * 원본 줄 전체 (로그용)
+         */
+        public String line() {
+            return new String(body, lineStart, lineEnd - lineStart, StandardCharsets.ISO_8859_1).trim();
+        }
+
+        /**
+         * 컬럼 값이 (부호 있는) 십진수 형식인지 확인
+         */
+        public boolean isNumber(int column) {
+            checkColumn(column);
+            int pos = starts[column];
+            int end = ends[column];
+            if (pos < end && body[pos] == '-') {
+                pos++;
+            }
+
+            boolean digits = false;
+            boolean dot = false;
+            for (; pos < end; pos++) {
+                byte b = body[pos];
+                if (b >= '0' && b <= '9') {
+                    digits = true;
+                } else if (b == '.' && !dot) {
+                    dot = true;
+                } else {
+                    return false;
+                }
+            }
+            return digits;
+        }
+
+        /**
+         * 십진수 컬럼을 double로 변환 (소수점 이하 자릿수만큼 나눔)
+         */
+        public double doubleValue(int column) {
+            if (!isNumber(column)) {
+                throw new NumberFormatException("숫자가 아닌 컬럼: " + text(column));
+            }
+
+            int pos = starts[column];
+            int end = ends[column];
+            boolean negative = body[pos] == '-';
+            if (negative) {
+                pos++;
+            }
+
+            long mantissa = 0;
+            long scale = 1;
+            boolean fraction = false;
+            for (; pos < end; pos++) {
+                byte b = body[pos];
+                if (b == '.') {
+                    fraction = true;
+                    continue;
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (fraction) {
+                    scale *= 10;
+                }
+            }
+
+            double value = (double) mantissa / scale;
+            return negative ? -value : value;
+        }
+
+        public int intValue(int column) {
+            double value = doubleValue(column);
+            if (value != Math.rint(value)) {
+                throw new NumberFormatException("정수가 아닌 컬럼: " + text(column));
+            }
+            return (int) value;
+        }
+
+        /**
+         * yyyyMMdd 또는 yyyyMMddHHmm 컬럼의 날짜 부분
+         */
+        public LocalDate date(int column) {
+            long yyyyMMdd = digits(column, 8);
+            return LocalDate.of((int) (yyyyMMdd / 10000), (int) (yyyyMMdd / 100 % 100), (int) (yyyyMMdd % 100));
+        }
+
+        /**
+         * yyyyMMddHHmm 컬럼을 정수 그대로 반환 (복합 키 용도)
+         */
+        public long timestamp(int column) {
+            return digits(column, 12);
+        }
+
+        /**
+         * yyyyMMddHHmm 컬럼을 LocalDateTime으로 변환
+         */
+        public LocalDateTime dateTime(int column) {
+            long value = timestamp(column);
+            return LocalDateTime.of(
+                    (int) (value / 100000000L),
+                    (int) (value / 1000000 % 100),
+                    (int) (value / 10000 % 100),
+                    (int) (value / 100 % 100),
+                    (int) (value % 100));
+        }
+
+        /**
+         * 컬럼 앞쪽 length 자리 숫자를 정수로 변환
+         */
+        private long digits(int column, int length) {
+            checkColumn(column);
+            int start = starts[column];
+            if (ends[column] - start < length) {
+                throw new NumberFormatException("자릿수 부족: " + text(column));
+            }
+
+            long value = 0;
+            for (int pos = start; pos < start + length; pos++) {
+                int digit = body[pos] - '0';
+                if (digit < 0 || digit > 9) {
+                    throw new NumberFormatException("숫자가 아닌 컬럼: " + text(column));
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        private int checkColumn(int column) {
+            if (column < 0 || column >= columnCount) {
+                throw new IndexOutOfBoundsException("컬럼 인덱스 범위 초과: " + column + " (컬럼 수 " + columnCount + ")");
+            }
+            return column;
+        }
+    }
+}
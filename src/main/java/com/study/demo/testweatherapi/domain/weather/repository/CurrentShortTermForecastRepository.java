@@ -0,0 +1,39 @@
+package com.study.demo.testweatherapi.domain.weather.repository;
+
+import com.study.demo.testweatherapi.domain.weather.entity.CurrentShortTermForecast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface CurrentShortTermForecastRepository extends JpaRepository<CurrentShortTermForecast, Long> {
+
+    /**
+     * 여러 지역의 날짜 범위 현재 예보 일괄 조회
+     * 예보 시각마다 최신 발표 한 행만 있으므로 지난 발표를 걸러낼 필요가 없음
+     */
+    @Query("SELECT csf FROM CurrentShortTermForecast csf " +
+            "WHERE csf.region.id IN :regionIds " +
+            "AND csf.fcstDate BETWEEN :startDate AND :endDate")
+    List<CurrentShortTermForecast> findByRegionIdsAndFcstDateBetween(
+            @Param("regionIds") Collection<Long> regionIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 현재 예보가 한 행이라도 있는 지역 ID (보정 대상 판별용)
+     */
+    @Query("SELECT DISTINCT csf.region.id FROM CurrentShortTermForecast csf WHERE csf.region.id IN :regionIds")
+    List<Long> findRegionIdsWithForecast(@Param("regionIds") Collection<Long> regionIds);
+
+    /**
+     * 지난 예보일 현재 예보 삭제 (cutoffDate 이전)
+     */
+    @Modifying
+    @Query("DELETE FROM CurrentShortTermForecast csf WHERE csf.fcstDate < :cutoffDate")
+    int deleteOldForecasts(@Param("cutoffDate") LocalDate cutoffDate);
+}
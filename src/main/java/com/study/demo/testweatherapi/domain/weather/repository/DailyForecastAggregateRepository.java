@@ -0,0 +1,32 @@
+package com.study.demo.testweatherapi.domain.weather.repository;
+
+import com.study.demo.testweatherapi.domain.weather.entity.DailyForecastAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface DailyForecastAggregateRepository extends JpaRepository<DailyForecastAggregate, Long> {
+
+    /**
+     * 여러 지역의 날짜 범위 일 집계 일괄 조회 (추천 생성 / 수집 시 갱신용)
+     */
+    @Query("SELECT dfa FROM DailyForecastAggregate dfa " +
+            "WHERE dfa.region.id IN :regionIds " +
+            "AND dfa.forecastDate BETWEEN :startDate AND :endDate")
+    List<DailyForecastAggregate> findByRegionIdsAndForecastDateBetween(
+            @Param("regionIds") Collection<Long> regionIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 지난 예보일 집계 삭제 (cutoffDate 이전)
+     */
+    @Modifying
+    @Query("DELETE FROM DailyForecastAggregate dfa WHERE dfa.forecastDate < :cutoffDate")
+    int deleteOldAggregates(@Param("cutoffDate") LocalDate cutoffDate);
+}
@@ -1,17 +1,31 @@
 package com.study.demo.testweatherapi.domain.weather.repository;
 
 import com.study.demo.testweatherapi.domain.weather.entity.DailyRecommendation;
+import com.study.demo.testweatherapi.domain.weather.entity.RecommendationVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface DailyRecommendationRepository extends JpaRepository<DailyRecommendation, Long> {
 
+    /**
+     * 조회에 노출되는 행 조건
+     * (지역, 날짜)마다 활성 버전 이하 중 가장 높은 generationVersion 행 하나만 선택 (생성 중인 버전은 보이지 않음)
+     */
+    String VISIBLE_VERSION_CONDITION =
+            "dr.generationVersion = (SELECT MAX(dr2.generationVersion) FROM DailyRecommendation dr2 " +
+            "WHERE dr2.region = dr.region " +
+            "AND dr2.forecastDate = dr.forecastDate " +
+            "AND dr2.generationVersion <= COALESCE(" +
+            "(SELECT rv.activeVersion FROM RecommendationVersion rv WHERE rv.id = " +
+            RecommendationVersion.POINTER_ID + "), 0)) ";
+
     /**
      * 특정 지역, 특정 날짜의 추천 정보 조회
      * WeatherTemplate, Keyword 정보까지 함께 fetch join
@@ -21,7 +35,8 @@ public interface DailyRecommendationRepository extends JpaRepository<DailyRecomm
             "JOIN FETCH wt.templateKeywords tk " +
             "JOIN FETCH tk.keyword k " +
             "WHERE dr.region.id = :regionId " +
-            "AND dr.forecastDate = :date")
+            "AND dr.forecastDate = :date " +
+            "AND " + VISIBLE_VERSION_CONDITION)
     Optional<DailyRecommendation> findByRegionIdAndDateWithTemplate(
             @Param("regionId") Long regionId,
             @Param("date") LocalDate date);
@@ -37,6 +52,7 @@ public interface DailyRecommendationRepository extends JpaRepository<DailyRecomm
             "WHERE dr.region.id = :regionId " +
             "AND dr.forecastDate >= :startDate " +
             "AND dr.forecastDate < :endDate " +
+            "AND " + VISIBLE_VERSION_CONDITION +
             "ORDER BY dr.forecastDate ASC")
     List<DailyRecommendation> findWeeklyRecommendations(
             @Param("regionId") Long regionId,
@@ -50,18 +66,32 @@ public interface DailyRecommendationRepository extends JpaRepository<DailyRecomm
             "JOIN FETCH dr.weatherTemplate wt " +
             "WHERE dr.region.id = :regionId " +
             "AND dr.forecastDate BETWEEN :startDate AND :endDate " +
+            "AND " + VISIBLE_VERSION_CONDITION +
             "ORDER BY dr.forecastDate ASC")
     List<DailyRecommendation> findByRegionIdAndDateRange(
             @Param("regionId") Long regionId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    /**
+     * 여러 지역의 날짜 범위 추천 정보 일괄 조회 (추천 생성 시 기존 데이터 확인용)
+     * 공개 여부와 관계없이 모든 버전 행을 반환 (호출 측에서 (지역, 날짜)별 최신 버전 선택)
+     */
+    @Query("SELECT dr FROM DailyRecommendation dr " +
+            "WHERE dr.region.id IN :regionIds " +
+            "AND dr.forecastDate BETWEEN :startDate AND :endDate")
+    List<DailyRecommendation> findByRegionIdsAndDateRange(
+            @Param("regionIds") Collection<Long> regionIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     /**
      * 특정 지역의 가장 최근 추천 정보 조회
      */
     @Query("SELECT dr FROM DailyRecommendation dr " +
             "JOIN FETCH dr.weatherTemplate wt " +
             "WHERE dr.region.id = :regionId " +
+            "AND " + VISIBLE_VERSION_CONDITION +
             "ORDER BY dr.forecastDate DESC")
     List<DailyRecommendation> findLatestByRegionId(@Param("regionId") Long regionId);
 
@@ -72,13 +102,20 @@ public interface DailyRecommendationRepository extends JpaRepository<DailyRecomm
             "JOIN FETCH dr.region r " +
             "JOIN FETCH dr.weatherTemplate wt " +
             "WHERE dr.forecastDate = :date " +
+            "AND " + VISIBLE_VERSION_CONDITION +
             "ORDER BY r.name ASC")
     List<DailyRecommendation> findAllByDate(@Param("date") LocalDate date);
 
     /**
      * 특정 지역에 해당 날짜의 추천 정보가 존재하는지 확인
      */
-    boolean existsByRegionIdAndForecastDate(Long regionId, LocalDate forecastDate);
+    @Query("SELECT COUNT(dr) > 0 FROM DailyRecommendation dr " +
+            "WHERE dr.region.id = :regionId " +
+            "AND dr.forecastDate = :forecastDate " +
+            "AND " + VISIBLE_VERSION_CONDITION)
+    boolean existsByRegionIdAndForecastDate(
+            @Param("regionId") Long regionId,
+            @Param("forecastDate") LocalDate forecastDate);
 
     /**
      * 오래된 추천 데이터 삭제용 (cutoffDate 이전)
@@ -115,6 +152,34 @@ public interface DailyRecommendationRepository extends JpaRepository<DailyRecomm
     @Query("SELECT wt.weather, COUNT(dr) FROM DailyRecommendation dr " +
             "JOIN dr.weatherTemplate wt " +
             "WHERE dr.forecastDate >= :startDate " +
+            "AND " + VISIBLE_VERSION_CONDITION +
             "GROUP BY wt.weather")
     List<Object[]> getWeatherTypeStatistics(@Param("startDate") LocalDate startDate);
+
+    /**
+     * 활성 버전 기준으로 밀려난 이전 버전 행 수
+     */
+    @Query(value = "SELECT COUNT(*) FROM daily_recommendation dr " +
+            "JOIN (SELECT region_id, forecast_date, MAX(generation_version) AS visible_version " +
+            "FROM daily_recommendation WHERE generation_version <= :activeVersion " +
+            "GROUP BY region_id, forecast_date) visible " +
+            "ON dr.region_id = visible.region_id AND dr.forecast_date = visible.forecast_date " +
+            "WHERE dr.generation_version < visible.visible_version",
+            nativeQuery = true)
+    long countSupersededRecommendations(@Param("activeVersion") long activeVersion);
+
+    /**
+     * 활성 버전 기준으로 밀려난 이전 버전 행 삭제 (MySQL 다중 테이블 DELETE)
+     * 같은 테이블을 서브쿼리로 참조하는 DELETE는 MySQL에서 허용되지 않으므로 파생 테이블과 JOIN
+     * @return 삭제된 레코드 수
+     */
+    @Modifying
+    @Query(value = "DELETE dr FROM daily_recommendation dr " +
+            "JOIN (SELECT region_id, forecast_date, MAX(generation_version) AS visible_version " +
+            "FROM daily_recommendation WHERE generation_version <= :activeVersion " +
+            "GROUP BY region_id, forecast_date) visible " +
+            "ON dr.region_id = visible.region_id AND dr.forecast_date = visible.forecast_date " +
+            "WHERE dr.generation_version < visible.visible_version",
+            nativeQuery = true)
+    int deleteSupersededRecommendations(@Param("activeVersion") long activeVersion);
 }
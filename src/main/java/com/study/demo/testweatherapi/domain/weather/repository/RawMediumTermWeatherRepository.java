@@ -7,10 +7,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface RawMediumTermWeatherRepository extends JpaRepository<RawMediumTermWeather, Long> {
+public interface RawMediumTermWeatherRepository extends JpaRepository<RawMediumTermWeather, Long>,
+        RawMediumTermWeatherRepositoryCustom {
 
     /**
      * 특정 지역, 발표시각, 발효시각의 중기 예보 데이터 조회 (Upsert 용)
@@ -29,6 +31,17 @@ public interface RawMediumTermWeatherRepository extends JpaRepository<RawMediumT
             @Param("regionId") Long regionId,
             @Param("tmef") LocalDate tmef);
 
+    /**
+     * 여러 지역의 날짜 범위 중기 예보 데이터 일괄 조회 (추천 생성용)
+     */
+    @Query("SELECT rmtw FROM RawMediumTermWeather rmtw " +
+            "WHERE rmtw.region.id IN :regionIds " +
+            "AND rmtw.tmef BETWEEN :startDate AND :endDate")
+    List<RawMediumTermWeather> findByRegionIdsAndTmefBetween(
+            @Param("regionIds") Collection<Long> regionIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     /**
      * 특정 지역의 최신 발표시각 데이터 조회
      */
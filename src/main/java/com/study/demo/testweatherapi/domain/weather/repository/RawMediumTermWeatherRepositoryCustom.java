@@ -0,0 +1,19 @@
+package com.study.demo.testweatherapi.domain.weather.repository;
+
+import com.study.demo.testweatherapi.domain.weather.entity.RawMediumTermWeather;
+
+import java.util.List;
+
+public interface RawMediumTermWeatherRepositoryCustom {
+
+    /**
+     * 중기 예보 데이터 multi-row 네이티브 Upsert (MySQL)
+     * 자연키(region_id, tmfc, tmef) 유니크 제약을 기준으로 동작
+     * forceUpdate=false: INSERT ... ON DUPLICATE KEY UPDATE id = id → 신규 행은 1, 중복 행은 그대로 두어 0으로 집계됨
+     * forceUpdate=true: INSERT ... ON DUPLICATE KEY UPDATE (예보 값, updated_at) → 신규 행은 1, 갱신 행은 2로 집계됨
+     * 위 집계는 연결이 영향 행 수를 돌려줄 때(useAffectedRows=true)만 성립
+     * (Connector/J 기본값인 찾은 행 수 모드에서는 그대로 둔 중복 행도 1로 집계됨)
+     * @return MySQL 영향 행(affected rows) 합계
+     */
+    int upsertAll(List<RawMediumTermWeather> weatherDataList, boolean forceUpdate);
+}
@@ -0,0 +1,70 @@
+package com.study.demo.testweatherapi.domain.weather.repository;
+
+import com.study.demo.testweatherapi.domain.weather.entity.RawMediumTermWeather;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RawMediumTermWeatherRepositoryImpl implements RawMediumTermWeatherRepositoryCustom {
+
+    private static final String UPSERT_COLUMNS =
+            " raw_medium_term_weather " +
+            "(region_id, tmfc, tmef, sky, pop, min_tmp, max_tmp, created_at, updated_at) VALUES ";
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ON_DUPLICATE_KEY_UPDATE =
+            " ON DUPLICATE KEY UPDATE " +
+            "sky = VALUES(sky), pop = VALUES(pop), min_tmp = VALUES(min_tmp), max_tmp = VALUES(max_tmp), " +
+            "updated_at = NOW(6)";
+
+    private static final String ON_DUPLICATE_KEY_KEEP = " ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int upsertAll(List<RawMediumTermWeather> weatherDataList, boolean forceUpdate) {
+        if (weatherDataList.isEmpty()) {
+            return 0;
+        }
+
+        // 중기 예보는 지역당 최대 10여 행이라 항상 한 문장으로 전송
+        LocalDateTime now = LocalDateTime.now();
+        int affectedRows = jdbcTemplate.update(buildUpsertSql(weatherDataList.size(), forceUpdate), ps -> {
+            int index = 1;
+            for (RawMediumTermWeather weather : weatherDataList) {
+                ps.setLong(index++, weather.getRegion().getId());
+                ps.setObject(index++, weather.getTmfc());
+                ps.setObject(index++, weather.getTmef());
+                ps.setString(index++, weather.getSky());
+                ps.setDouble(index++, weather.getPop());
+                ps.setDouble(index++, weather.getMinTmp());
+                ps.setDouble(index++, weather.getMaxTmp());
+                ps.setObject(index++, now);
+                ps.setObject(index++, now);
+            }
+        });
+
+        log.debug("중기 예보 네이티브 Upsert 완료: {} 건, 영향 행 {}", weatherDataList.size(), affectedRows);
+        return affectedRows;
+    }
+
+    /**
+     * forceUpdate가 아니면 중복 키 행은 그대로 두는 no-op UPDATE 사용
+     * (INSERT IGNORE는 중복 키 외의 오류(잘린 값, NOT NULL 위반 등)까지 경고로 바꿔 삼키므로 사용하지 않음)
+     */
+    private String buildUpsertSql(int rowCount, boolean forceUpdate) {
+        StringBuilder sql = new StringBuilder("INSERT INTO").append(UPSERT_COLUMNS);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(VALUES_ROW);
+        }
+        sql.append(forceUpdate ? ON_DUPLICATE_KEY_UPDATE : ON_DUPLICATE_KEY_KEEP);
+        return sql.toString();
+    }
+}
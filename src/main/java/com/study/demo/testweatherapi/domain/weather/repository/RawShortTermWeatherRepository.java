@@ -7,10 +7,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface RawShortTermWeatherRepository extends JpaRepository<RawShortTermWeather, Long> {
+public interface RawShortTermWeatherRepository extends JpaRepository<RawShortTermWeather, Long>,
+        RawShortTermWeatherRepositoryCustom {
 
     /**
      * 특정 지역, 기준시각, 예보시각의 단기 예보 데이터 조회 (Upsert 용)
@@ -19,15 +21,16 @@ public interface RawShortTermWeatherRepository extends JpaRepository<RawShortTer
             Long regionId, LocalDate baseDate, String baseTime, LocalDate fcstDate, String fcstTime);
 
     /**
-     * 특정 지역의 특정 날짜 예보 데이터 조회 (분류용)
+     * 여러 지역의 날짜 범위 예보 데이터 일괄 조회 (추천 생성용)
+     * 지역/날짜별로 나눠 조회하지 않고 한 번에 읽어 메모리에서 묶음
      */
     @Query("SELECT rstw FROM RawShortTermWeather rstw " +
-            "WHERE rstw.region.id = :regionId " +
-            "AND rstw.fcstDate = :fcstDate " +
-            "ORDER BY rstw.baseDate DESC, rstw.baseTime DESC")
-    List<RawShortTermWeather> findLatestByRegionIdAndFcstDate(
-            @Param("regionId") Long regionId,
-            @Param("fcstDate") LocalDate fcstDate);
+            "WHERE rstw.region.id IN :regionIds " +
+            "AND rstw.fcstDate BETWEEN :startDate AND :endDate")
+    List<RawShortTermWeather> findByRegionIdsAndFcstDateBetween(
+            @Param("regionIds") Collection<Long> regionIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
 
     /**
      * 특정 지역의 최신 기준시각 데이터 조회
@@ -0,0 +1,117 @@
+package com.study.demo.testweatherapi.domain.weather.repository;
+
+import com.study.demo.testweatherapi.domain.weather.entity.RawShortTermWeather;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RawShortTermWeatherRepositoryImpl implements RawShortTermWeatherRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO raw_short_term_weather " +
+            "(region_id, base_date, base_time, fcst_date, fcst_time, tmp, sky, pop, pty, pcp, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_COLUMNS =
+            " raw_short_term_weather " +
+            "(region_id, base_date, base_time, fcst_date, fcst_time, tmp, sky, pop, pty, pcp, created_at, updated_at) VALUES ";
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String ON_DUPLICATE_KEY_UPDATE =
+            " ON DUPLICATE KEY UPDATE " +
+            "tmp = VALUES(tmp), sky = VALUES(sky), pop = VALUES(pop), pty = VALUES(pty), pcp = VALUES(pcp), " +
+            "updated_at = NOW(6)";
+
+    private static final String ON_DUPLICATE_KEY_KEEP = " ON DUPLICATE KEY UPDATE id = id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 한 번에 전송할 배치 크기
+     * MySQL은 JDBC URL에 rewriteBatchedStatements=true가 있어야 실제 multi-row INSERT로 전송됨
+     */
+    @Value("${scheduler.weather.collection.jdbc-batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public int batchInsert(List<RawShortTermWeather> weatherDataList) {
+        if (weatherDataList.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, weatherDataList, batchSize, (ps, weather) -> {
+            ps.setLong(1, weather.getRegion().getId());
+            ps.setObject(2, weather.getBaseDate());
+            ps.setString(3, weather.getBaseTime());
+            ps.setObject(4, weather.getFcstDate());
+            ps.setString(5, weather.getFcstTime());
+            ps.setDouble(6, weather.getTmp());
+            ps.setString(7, weather.getSky());
+            ps.setDouble(8, weather.getPop());
+            ps.setString(9, weather.getPty());
+            ps.setDouble(10, weather.getPcp());
+            ps.setObject(11, now);
+            ps.setObject(12, now);
+        });
+
+        log.debug("단기 예보 배치 INSERT 완료: {} 건, 배치 {}회", weatherDataList.size(), results.length);
+        return weatherDataList.size();
+    }
+
+    @Override
+    public int upsertAll(List<RawShortTermWeather> weatherDataList, boolean forceUpdate) {
+        if (weatherDataList.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int affectedRows = 0;
+
+        // 한 지역의 예보(수백 행)는 보통 한 문장으로 끝나고, 배치 크기를 넘으면 나눠서 전송
+        for (int from = 0; from < weatherDataList.size(); from += batchSize) {
+            List<RawShortTermWeather> chunk = weatherDataList.subList(from, Math.min(from + batchSize, weatherDataList.size()));
+            affectedRows += jdbcTemplate.update(buildUpsertSql(chunk.size(), forceUpdate), ps -> {
+                int index = 1;
+                for (RawShortTermWeather weather : chunk) {
+                    ps.setLong(index++, weather.getRegion().getId());
+                    ps.setObject(index++, weather.getBaseDate());
+                    ps.setString(index++, weather.getBaseTime());
+                    ps.setObject(index++, weather.getFcstDate());
+                    ps.setString(index++, weather.getFcstTime());
+                    ps.setDouble(index++, weather.getTmp());
+                    ps.setString(index++, weather.getSky());
+                    ps.setDouble(index++, weather.getPop());
+                    ps.setString(index++, weather.getPty());
+                    ps.setDouble(index++, weather.getPcp());
+                    ps.setObject(index++, now);
+                    ps.setObject(index++, now);
+                }
+            });
+        }
+
+        log.debug("단기 예보 네이티브 Upsert 완료: {} 건, 영향 행 {}", weatherDataList.size(), affectedRows);
+        return affectedRows;
+    }
+
+    /**
+     * forceUpdate가 아니면 중복 키 행은 그대로 두는 no-op UPDATE 사용
+     * (INSERT IGNORE는 중복 키 외의 오류(잘린 값, NOT NULL 위반 등)까지 경고로 바꿔 삼키므로 사용하지 않음)
+     */
+    private String buildUpsertSql(int rowCount, boolean forceUpdate) {
+        StringBuilder sql = new StringBuilder("INSERT INTO").append(UPSERT_COLUMNS);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(VALUES_ROW);
+        }
+        sql.append(forceUpdate ? ON_DUPLICATE_KEY_UPDATE : ON_DUPLICATE_KEY_KEEP);
+        return sql.toString();
+    }
+}
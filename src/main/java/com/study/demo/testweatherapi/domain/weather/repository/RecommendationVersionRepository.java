@@ -0,0 +1,36 @@
+package com.study.demo.testweatherapi.domain.weather.repository;
+
+import com.study.demo.testweatherapi.domain.weather.entity.RecommendationVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface RecommendationVersionRepository extends JpaRepository<RecommendationVersion, Long> {
+
+    /**
+     * 버전 발급용 조회 (행 잠금, 동시에 시작한 실행끼리 같은 버전을 받지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT rv FROM RecommendationVersion rv WHERE rv.id = :id")
+    Optional<RecommendationVersion> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 활성 버전 조회
+     */
+    @Query("SELECT rv.activeVersion FROM RecommendationVersion rv WHERE rv.id = :id")
+    Optional<Long> findActiveVersion(@Param("id") Long id);
+
+    /**
+     * 활성 버전 올리기 (한 문장으로 원자적으로 전환, 더 낮은 버전으로는 되돌리지 않음)
+     * @return 전환된 행 수 (이미 더 높은 버전이 활성화되어 있으면 0)
+     */
+    @Modifying
+    @Query("UPDATE RecommendationVersion rv SET rv.activeVersion = :version " +
+            "WHERE rv.id = :id AND rv.activeVersion < :version")
+    int publish(@Param("id") Long id, @Param("version") Long version);
+}
@@ -9,7 +9,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
-public interface RegionRepository extends JpaRepository<Region, Long> {
+public interface RegionRepository extends JpaRepository<Region, Long>, RegionRepositoryCustom {
 
     /**
      * 지역명으로 조회
@@ -26,6 +26,18 @@ public interface RegionRepository extends JpaRepository<Region, Long> {
      */
     Optional<Region> findByGridXAndGridY(BigDecimal gridX, BigDecimal gridY);
 
+    /**
+     * 전체 지역명 조회 (대량 등록 시 메모리 중복 검증용)
+     */
+    @Query("SELECT r.name FROM Region r")
+    List<String> findAllNames();
+
+    /**
+     * 전체 지역 위경도 조회 (대량 등록 시 메모리 근접 좌표 검증용, [latitude, longitude])
+     */
+    @Query("SELECT r.latitude, r.longitude FROM Region r")
+    List<Object[]> findAllCoordinates();
+
     /**
      * 위경도 범위로 조회 (유사한 지역 체크용)
      */
@@ -0,0 +1,15 @@
+package com.study.demo.testweatherapi.domain.weather.repository;
+
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+
+import java.util.List;
+
+public interface RegionRepositoryCustom {
+
+    /**
+     * 지역 JDBC 배치 INSERT (대량 등록용)
+     * 영속성 컨텍스트를 거치지 않으므로 중복 검증을 마친 행만 넘겨야 하고, RegionCode는 이미 저장되어 있어야 함
+     * @return INSERT된 레코드 수
+     */
+    int batchInsert(List<Region> regions);
+}
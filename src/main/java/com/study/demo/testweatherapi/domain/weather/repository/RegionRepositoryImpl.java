@@ -0,0 +1,48 @@
+package com.study.demo.testweatherapi.domain.weather.repository;
+
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RegionRepositoryImpl implements RegionRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO region " +
+            "(name, latitude, longitude, grid_x, grid_y, region_code_id, priority, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${scheduler.weather.collection.jdbc-batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public int batchInsert(List<Region> regions) {
+        if (regions.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, regions, batchSize, (ps, region) -> {
+            ps.setString(1, region.getName());
+            ps.setBigDecimal(2, region.getLatitude());
+            ps.setBigDecimal(3, region.getLongitude());
+            ps.setBigDecimal(4, region.getGridX());
+            ps.setBigDecimal(5, region.getGridY());
+            ps.setLong(6, region.getRegionCode().getId());
+            ps.setInt(7, region.getPriority());
+            ps.setObject(8, now);
+            ps.setObject(9, now);
+        });
+
+        log.debug("지역 배치 INSERT 완료: {} 건, 배치 {}회", regions.size(), results.length);
+        return regions.size();
+    }
+}
@@ -1,6 +1,7 @@
 package com.study.demo.testweatherapi.domain.weather.scheduler;
 
 import com.study.demo.testweatherapi.domain.weather.dto.response.WeatherSyncResDTO;
+import com.study.demo.testweatherapi.domain.weather.service.WeatherCollectionRetryQueue;
 import com.study.demo.testweatherapi.domain.weather.service.WeatherDataCleanupService;
 import com.study.demo.testweatherapi.domain.weather.service.WeatherDataCollectionService;
 import com.study.demo.testweatherapi.domain.weather.service.WeatherRecommendationGenerationService;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
@@ -24,6 +26,7 @@ public class WeatherScheduler {
     private final WeatherDataCollectionService dataCollectionService;
     private final WeatherRecommendationGenerationService recommendationGenerationService;
     private final WeatherDataCleanupService dataCleanupService;
+    private final WeatherCollectionRetryQueue retryQueue;
 
     // 스케줄러 실행 상태 추적
     private volatile boolean shortTermSyncRunning = false;
@@ -32,6 +35,7 @@ public class WeatherScheduler {
     private volatile boolean mediumTermRecommendationRunning = false;
     private volatile boolean completeRecommendationRunning = false;
     private volatile boolean cleanupRunning = false;
+    private volatile boolean retryQueueRunning = false;
 
     /**
      * 단기 예보 데이터 수집 스케줄러
@@ -115,7 +119,7 @@ public class WeatherScheduler {
 
     /**
      * 단기예보 기반 추천 정보 생성 스케줄러 (0-3일, 실제 단기예보 데이터 범위)
-     * 매 시간 5분에 실행 - 단기예보는 1시간마다 업데이트
+     * 매 시간 5분에 실행 - 수집 단계에서 예보가 새로 들어왔거나 바뀐 (지역, 날짜)만 재생성
      */
     @Scheduled(cron = "${scheduler.weather.recommendation.short-term-cron:0 5 * * * *}")
     @Async("weatherTaskExecutor")
@@ -134,12 +138,11 @@ public class WeatherScheduler {
             LocalDate endDate = startDate.plusDays(3);
 
             WeatherSyncResDTO.RecommendationGenerationResult result =
-                    recommendationGenerationService.generateRecommendations(
-                            null, startDate, endDate, true, "단기예보");  // 강제 재생성으로 최신 데이터 반영
+                    recommendationGenerationService.generateDirtyRecommendations(startDate, endDate, "단기예보");
 
-            log.info("단기예보 추천 생성 스케줄러 완료: 성공 {}/{} 지역, 신규 {} 건, 업데이트 {} 건",
+            log.info("단기예보 추천 생성 스케줄러 완료: 성공 {}/{} 지역, 신규 {} 건, 업데이트 {} 건, 변경 없음 {} 건",
                     result.successfulRegions(), result.totalRegions(),
-                    result.newRecommendations(), result.updatedRecommendations());
+                    result.newRecommendations(), result.updatedRecommendations(), result.unchangedRecommendations());
 
         } catch (Exception e) {
             log.error("단기예보 추천 생성 스케줄러 실행 중 오류 발생", e);
@@ -150,7 +153,7 @@ public class WeatherScheduler {
 
     /**
      * 중기예보 기반 추천 정보 생성 스케줄러 (4-10일, 실제 중기예보 데이터 범위)
-     * 매 6시간 30분에 실행 - 중기예보는 12시간마다 업데이트되므로 6시간마다 충분
+     * 매 6시간 30분에 실행 - 중기예보는 12시간마다 업데이트되므로 6시간마다 충분 (변경된 칸만 재생성)
      */
     @Scheduled(cron = "${scheduler.weather.recommendation.medium-term-cron:0 30 0,6,12,18 * * *}")
     @Async("weatherTaskExecutor")
@@ -169,12 +172,11 @@ public class WeatherScheduler {
             LocalDate endDate = LocalDate.now().plusDays(6);
 
             WeatherSyncResDTO.RecommendationGenerationResult result =
-                    recommendationGenerationService.generateRecommendations(
-                            null, startDate, endDate, true, "중기예보");  // 강제 재생성
+                    recommendationGenerationService.generateDirtyRecommendations(startDate, endDate, "중기예보");
 
-            log.info("중기예보 추천 생성 스케줄러 완료: 성공 {}/{} 지역, 신규 {} 건, 업데이트 {} 건",
+            log.info("중기예보 추천 생성 스케줄러 완료: 성공 {}/{} 지역, 신규 {} 건, 업데이트 {} 건, 변경 없음 {} 건",
                     result.successfulRegions(), result.totalRegions(),
-                    result.newRecommendations(), result.updatedRecommendations());
+                    result.newRecommendations(), result.updatedRecommendations(), result.unchangedRecommendations());
 
         } catch (Exception e) {
             log.error("중기예보 추천 생성 스케줄러 실행 중 오류 발생", e);
@@ -185,8 +187,8 @@ public class WeatherScheduler {
 
     /**
      * 전체 범위 추천 정보 생성 스케줄러 (0-6일 전체)
-     * 하루에 한 번 실행해서 누락된 날짜가 없도록 보장
-     * 실제 데이터 존재 여부에 따라 동적으로 처리
+     * 하루에 한 번 모든 지역/날짜를 강제 재생성해서 누락된 날짜나 놓친 변경분이 없도록 보장 (안전망)
+     * 정기 실행은 변경된 칸만 처리하므로, 재시작 등으로 변경 기록이 유실되어도 여기서 보정됨
      */
     @Scheduled(cron = "${scheduler.weather.recommendation.complete-cron:0 0 4 * * *}")
     @Async("weatherTaskExecutor")
@@ -198,7 +200,7 @@ public class WeatherScheduler {
 
         try {
             completeRecommendationRunning = true;
-            log.info("전체 범위 추천 생성 스케줄러 시작 (0-6일, 데이터 존재 여부 기반)");
+            log.info("전체 범위 추천 생성 스케줄러 시작 (0-6일, 전체 재생성)");
 
             // 전체 7일간 처리 (실제 데이터 존재 여부에 따라 동적 처리)
             LocalDate startDate = LocalDate.now();
@@ -206,11 +208,11 @@ public class WeatherScheduler {
 
             WeatherSyncResDTO.RecommendationGenerationResult result =
                     recommendationGenerationService.generateRecommendations(
-                            null, startDate, endDate, false, "전체범위"); // 강제 재생성 X, 누락된 것만
+                            null, startDate, endDate, true, "전체범위");
 
-            log.info("전체 범위 추천 생성 스케줄러 완료: 성공 {}/{} 지역, 신규 {} 건, 업데이트 {} 건",
+            log.info("전체 범위 추천 생성 스케줄러 완료: 성공 {}/{} 지역, 신규 {} 건, 업데이트 {} 건, 변경 없음 {} 건",
                     result.successfulRegions(), result.totalRegions(),
-                    result.newRecommendations(), result.updatedRecommendations());
+                    result.newRecommendations(), result.updatedRecommendations(), result.unchangedRecommendations());
 
             // 누락된 추천이 많으면 경고
             if (result.totalRecommendations() < result.totalRegions() * 7 * 0.8) {
@@ -268,6 +270,50 @@ public class WeatherScheduler {
         }
     }
 
+    /**
+     * 수집 실패 지역 재시도 스케줄러
+     * 기본 5분 간격으로 재시도 큐에 쌓인 지역만 다시 수집
+     * 같은 종류의 정기 수집이 실행 중이면 이번 회차는 건너뜀 (정기 수집 결과가 큐를 갱신함)
+     */
+    @Scheduled(initialDelayString = "${scheduler.weather.retry-queue.initial-delay:300000}",
+            fixedDelayString = "${scheduler.weather.retry-queue.fixed-delay:300000}")
+    @Async("weatherTaskExecutor")
+    public void scheduledRetryQueueDrain() {
+        if (retryQueueRunning || shortTermSyncRunning || mediumTermSyncRunning || retryQueue.size() == 0) {
+            return;
+        }
+
+        try {
+            retryQueueRunning = true;
+            List<WeatherCollectionRetryQueue.RetryBatch> batches = retryQueue.drain();
+            log.info("재시도 큐 처리 시작: {}개 묶음", batches.size());
+
+            for (WeatherCollectionRetryQueue.RetryBatch batch : batches) {
+                try {
+                    if (batch.type() == WeatherCollectionRetryQueue.ForecastType.SHORT_TERM) {
+                        WeatherSyncResDTO.ShortTermSyncResult result = dataCollectionService.collectShortTermWeatherData(
+                                batch.regionIds(), batch.date(), batch.baseTime(), false);
+                        log.info("단기 예보 재시도 완료: {} {}, 성공 {}/{} 지역",
+                                batch.date(), batch.baseTime(), result.successfulRegions(), result.totalRegions());
+                    } else {
+                        WeatherSyncResDTO.MediumTermSyncResult result = dataCollectionService.collectMediumTermWeatherData(
+                                batch.regionIds(), batch.date(), false);
+                        log.info("중기 예보 재시도 완료: {}, 성공 {}/{} 지역",
+                                batch.date(), result.successfulRegions(), result.totalRegions());
+                    }
+                } catch (Exception e) {
+                    log.error("재시도 묶음 처리 실패: type={}, date={}, baseTime={}",
+                            batch.type(), batch.date(), batch.baseTime(), e);
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("재시도 큐 처리 중 오류 발생", e);
+        } finally {
+            retryQueueRunning = false;
+        }
+    }
+
     /**
      * 시스템 상태 모니터링 스케줄러
      * 매 30분마다 실행하여 시스템 상태 점검
@@ -393,8 +439,8 @@ public class WeatherScheduler {
                     endDate = startDate.plusDays(6); // 전체 범위
                 }
 
-                recommendationGenerationService.generateRecommendations(
-                        null, startDate, endDate, true, "트리거-" + trigger);
+                recommendationGenerationService.generateDirtyRecommendations(
+                        startDate, endDate, "트리거-" + trigger);
                 log.debug("{} 추천 정보 생성 트리거 완료: {}", recommendationType, trigger);
 
             } catch (Exception e) {
@@ -0,0 +1,160 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.study.demo.testweatherapi.domain.weather.entity.CurrentShortTermForecast;
+import com.study.demo.testweatherapi.domain.weather.entity.RawShortTermWeather;
+import com.study.demo.testweatherapi.domain.weather.repository.CurrentShortTermForecastRepository;
+import com.study.demo.testweatherapi.domain.weather.repository.RawShortTermWeatherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 현재 단기 예보 관리
+ * 수집 저장 트랜잭션 안에서 새로 들어온 발표를 예보 시각별로 교체하므로,
+ * 원시 예보 이력과 현재 예보가 함께 커밋되고 조회 쪽은 교체 전/후 중 한 상태만 보게 된다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CurrentShortTermForecastService {
+
+    private final CurrentShortTermForecastRepository currentForecastRepository;
+    private final RawShortTermWeatherRepository shortTermWeatherRepository;
+
+    /**
+     * 저장된(신규/변경) 원시 예보를 현재 예보에 반영
+     * 예보 시각마다 기준시각이 같거나 더 최신인 값만 반영하고, 더 오래된 발표는 무시
+     * @return 변경이 있었던 (지역, 예보일)의 교체 후 현재 예보 전체 (일 집계 갱신용)
+     */
+    public List<CurrentShortTermForecast> swapIn(Collection<RawShortTermWeather> changedRows) {
+        if (changedRows.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> regionIds = new HashSet<>();
+        Set<ForecastCell> touchedCells = new HashSet<>();
+        LocalDate minDate = null, maxDate = null;
+        for (RawShortTermWeather row : changedRows) {
+            regionIds.add(row.getRegion().getId());
+            touchedCells.add(new ForecastCell(row.getRegion().getId(), row.getFcstDate()));
+            minDate = minDate == null || row.getFcstDate().isBefore(minDate) ? row.getFcstDate() : minDate;
+            maxDate = maxDate == null || row.getFcstDate().isAfter(maxDate) ? row.getFcstDate() : maxDate;
+        }
+
+        // 1. 영향받는 범위의 현재 예보 한 번에 조회
+        Map<ForecastSlot, CurrentShortTermForecast> currentBySlot = new LinkedHashMap<>();
+        for (CurrentShortTermForecast current :
+                currentForecastRepository.findByRegionIdsAndFcstDateBetween(regionIds, minDate, maxDate)) {
+            currentBySlot.put(ForecastSlot.of(current), current);
+        }
+
+        // 2. 예보 시각별 교체 (기존 행은 변경 감지, 새 시각은 배치 INSERT)
+        int inserted = 0, replaced = 0;
+        for (RawShortTermWeather row : changedRows) {
+            ForecastSlot slot = ForecastSlot.of(row);
+            CurrentShortTermForecast current = currentBySlot.get(slot);
+
+            if (current == null) {
+                current = currentForecastRepository.save(toCurrentForecast(row));
+                currentBySlot.put(slot, current);
+                inserted++;
+            } else if (compareBase(row.getBaseDate(), row.getBaseTime(), current) >= 0) {
+                current.updateForecast(row.getBaseDate(), row.getBaseTime(),
+                        row.getTmp(), row.getSky(), row.getPop(), row.getPty(), row.getPcp());
+                replaced++;
+            }
+        }
+
+        log.debug("현재 단기 예보 교체: 신규 {}, 교체 {}, 무시 {}",
+                inserted, replaced, changedRows.size() - inserted - replaced);
+
+        return currentBySlot.values().stream()
+                .filter(current -> touchedCells.contains(ForecastCell.of(current)))
+                .toList();
+    }
+
+    /**
+     * 현재 예보가 하나도 없는 지역(도입 이전 수집분)을 원시 예보에서 예보 시각별 최신 발표로 채워 넣음
+     * 현재 예보가 한 행이라도 있는 지역은 수집 시점에 이미 관리되고 있으므로 원시 예보를 다시 읽지 않음
+     * @return 새로 만든 현재 예보 (날짜 범위 안)
+     */
+    public List<CurrentShortTermForecast> backfillMissingRegions(
+            Collection<Long> regionIds, LocalDate startDate, LocalDate endDate) {
+        if (regionIds.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> managedRegionIds = new HashSet<>(currentForecastRepository.findRegionIdsWithForecast(regionIds));
+        List<Long> missingRegionIds = regionIds.stream().filter(id -> !managedRegionIds.contains(id)).toList();
+        if (missingRegionIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<RawShortTermWeather> rawRows =
+                shortTermWeatherRepository.findByRegionIdsAndFcstDateBetween(missingRegionIds, startDate, endDate);
+
+        Map<ForecastSlot, RawShortTermWeather> latestBySlot = new HashMap<>();
+        for (RawShortTermWeather row : rawRows) {
+            latestBySlot.merge(ForecastSlot.of(row), row, (current, candidate) ->
+                    compareBase(candidate.getBaseDate(), candidate.getBaseTime(), current) > 0 ? candidate : current);
+        }
+
+        List<CurrentShortTermForecast> backfilled = new ArrayList<>(latestBySlot.size());
+        for (RawShortTermWeather row : latestBySlot.values()) {
+            backfilled.add(toCurrentForecast(row));
+        }
+        currentForecastRepository.saveAll(backfilled);
+
+        log.info("현재 단기 예보 보정: 지역 {}개, 원시 예보 {}건 -> 현재 예보 {}건",
+                missingRegionIds.size(), rawRows.size(), backfilled.size());
+        return backfilled;
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    private CurrentShortTermForecast toCurrentForecast(RawShortTermWeather row) {
+        return CurrentShortTermForecast.builder()
+                .region(row.getRegion())
+                .fcstDate(row.getFcstDate())
+                .fcstTime(row.getFcstTime())
+                .baseDate(row.getBaseDate())
+                .baseTime(row.getBaseTime())
+                .tmp(row.getTmp())
+                .sky(row.getSky())
+                .pop(row.getPop())
+                .pty(row.getPty())
+                .pcp(row.getPcp())
+                .build();
+    }
+
+    private int compareBase(LocalDate baseDate, String baseTime, CurrentShortTermForecast current) {
+        int baseDateCompare = baseDate.compareTo(current.getBaseDate());
+        return baseDateCompare != 0 ? baseDateCompare : baseTime.compareTo(current.getBaseTime());
+    }
+
+    private int compareBase(LocalDate baseDate, String baseTime, RawShortTermWeather current) {
+        int baseDateCompare = baseDate.compareTo(current.getBaseDate());
+        return baseDateCompare != 0 ? baseDateCompare : baseTime.compareTo(current.getBaseTime());
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    private record ForecastSlot(Long regionId, LocalDate fcstDate, String fcstTime) {
+        static ForecastSlot of(RawShortTermWeather row) {
+            return new ForecastSlot(row.getRegion().getId(), row.getFcstDate(), row.getFcstTime());
+        }
+
+        static ForecastSlot of(CurrentShortTermForecast current) {
+            return new ForecastSlot(current.getRegion().getId(), current.getFcstDate(), current.getFcstTime());
+        }
+    }
+
+    private record ForecastCell(Long regionId, LocalDate fcstDate) {
+        static ForecastCell of(CurrentShortTermForecast current) {
+            return new ForecastCell(current.getRegion().getId(), current.getFcstDate());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.study.demo.testweatherapi.domain.weather.entity.CurrentShortTermForecast;
+import com.study.demo.testweatherapi.domain.weather.entity.DailyForecastAggregate;
+import com.study.demo.testweatherapi.domain.weather.repository.DailyForecastAggregateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 단기 예보 일 집계 관리
+ * 수집 저장 트랜잭션 안에서 현재 예보(CurrentShortTermForecast)가 교체된 (지역, 예보일)만 받아 집계를 다시 계산한다
+ * 집계는 그 날짜의 가장 최신 기준시각 발표만 사용하며, 더 오래된 기준시각으로는 덮어쓰지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyForecastAggregateService {
+
+    /**
+     * 단기 예보가 다루는 마지막 날짜 (오늘 기준 일수, 그 뒤는 중기 예보 구간)
+     */
+    private static final int SHORT_TERM_FORECAST_DAYS = 3;
+
+    private final DailyForecastAggregateRepository aggregateRepository;
+    private final CurrentShortTermForecastService currentShortTermForecastService;
+
+    /**
+     * 교체된 (지역, 예보일)의 현재 예보 전체로 일 집계 갱신
+     * 호출하는 쪽의 트랜잭션에 참여하므로 원시 예보, 현재 예보, 집계가 함께 커밋됨
+     */
+    public void applyCurrentForecast(Collection<CurrentShortTermForecast> touchedCellRows) {
+        if (touchedCellRows.isEmpty()) {
+            return;
+        }
+
+        // 1. (지역, 예보일)별로 가장 최신 기준시각 행만 남김
+        Map<AggregateCell, List<CurrentShortTermForecast>> latestRowsByCell = groupLatestByCell(touchedCellRows);
+
+        // 2. 기존 집계 한 번에 조회
+        Set<Long> regionIds = new HashSet<>();
+        LocalDate minDate = null, maxDate = null;
+        for (AggregateCell cell : latestRowsByCell.keySet()) {
+            regionIds.add(cell.regionId());
+            minDate = minDate == null || cell.forecastDate().isBefore(minDate) ? cell.forecastDate() : minDate;
+            maxDate = maxDate == null || cell.forecastDate().isAfter(maxDate) ? cell.forecastDate() : maxDate;
+        }
+        Map<AggregateCell, DailyForecastAggregate> existingByCell = new HashMap<>();
+        for (DailyForecastAggregate aggregate :
+                aggregateRepository.findByRegionIdsAndForecastDateBetween(regionIds, minDate, maxDate)) {
+            existingByCell.put(AggregateCell.of(aggregate), aggregate);
+        }
+
+        // 3. 칸별 반영
+        int created = 0, updated = 0;
+        for (Map.Entry<AggregateCell, List<CurrentShortTermForecast>> entry : latestRowsByCell.entrySet()) {
+            List<CurrentShortTermForecast> rows = entry.getValue();
+            CurrentShortTermForecast first = rows.get(0);
+            DailyForecastAggregate existing = existingByCell.get(entry.getKey());
+
+            if (existing == null) {
+                aggregateRepository.save(createAggregate(first, rows));
+                created++;
+            } else if (compareBase(first, existing.getBaseDate(), existing.getBaseTime()) >= 0) {
+                applyRows(existing, rows);
+                updated++;
+            }
+        }
+
+        log.debug("단기 예보 일 집계 갱신: 신규 {}, 갱신 {}", created, updated);
+    }
+
+    /**
+     * 현재 예보가 하나도 없는 지역의 일 집계를 원시 예보로부터 생성 (집계 도입 이전에 수집된 데이터 보정용)
+     * 단기 예보가 다루는 날짜(오늘 ~ SHORT_TERM_FORECAST_DAYS일 후)로 범위를 좁히고, 범위가 겹치지 않으면 (중기 구간 등) 조회하지 않음
+     * @return 새로 만든 집계
+     */
+    public List<DailyForecastAggregate> backfill(Collection<Long> regionIds, LocalDate startDate, LocalDate endDate) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = startDate.isBefore(today) ? today : startDate;
+        LocalDate shortTermEnd = today.plusDays(SHORT_TERM_FORECAST_DAYS);
+        LocalDate to = endDate.isAfter(shortTermEnd) ? shortTermEnd : endDate;
+        if (regionIds.isEmpty() || from.isAfter(to)) {
+            return List.of();
+        }
+
+        List<CurrentShortTermForecast> rows =
+                currentShortTermForecastService.backfillMissingRegions(regionIds, from, to);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<DailyForecastAggregate> aggregates = new ArrayList<>();
+        groupLatestByCell(rows).forEach((cell, cellRows) ->
+                aggregates.add(createAggregate(cellRows.get(0), cellRows)));
+        aggregateRepository.saveAll(aggregates);
+
+        log.info("단기 예보 일 집계 보정: 현재 예보 {}건 -> 집계 {}건", rows.size(), aggregates.size());
+        return aggregates;
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    /**
+     * (지역, 예보일)별로 묶고 칸마다 가장 최신 기준시각 행만 남김
+     * 현재 예보는 예보 시각마다 최신 발표를 보관하므로, 새 발표가 다루지 않는 이른 시각은 이전 발표 값일 수 있음
+     */
+    private Map<AggregateCell, List<CurrentShortTermForecast>> groupLatestByCell(
+            Collection<CurrentShortTermForecast> rows) {
+        Map<AggregateCell, List<CurrentShortTermForecast>> latestRowsByCell = new LinkedHashMap<>();
+
+        for (CurrentShortTermForecast row : rows) {
+            List<CurrentShortTermForecast> cellRows =
+                    latestRowsByCell.computeIfAbsent(AggregateCell.of(row), key -> new ArrayList<>());
+
+            if (!cellRows.isEmpty()) {
+                CurrentShortTermForecast current = cellRows.get(0);
+                int baseCompare = compareBase(row, current.getBaseDate(), current.getBaseTime());
+                if (baseCompare < 0) {
+                    continue;
+                }
+                if (baseCompare > 0) {
+                    cellRows.clear();
+                }
+            }
+            cellRows.add(row);
+        }
+
+        return latestRowsByCell;
+    }
+
+    private DailyForecastAggregate createAggregate(CurrentShortTermForecast first,
+                                                   List<CurrentShortTermForecast> rows) {
+        DailyForecastAggregate aggregate = DailyForecastAggregate.builder()
+                .region(first.getRegion())
+                .forecastDate(first.getFcstDate())
+                .baseDate(first.getBaseDate())
+                .baseTime(first.getBaseTime())
+                .build();
+        applyRows(aggregate, rows);
+        return aggregate;
+    }
+
+    /**
+     * 같은 기준시각의 시간별 예보로 대표값과 하루 집계 계산
+     */
+    private void applyRows(DailyForecastAggregate aggregate, List<CurrentShortTermForecast> rows) {
+        CurrentShortTermForecast representative = rows.get(0);
+        double minTmp = Double.MAX_VALUE, maxTmp = -Double.MAX_VALUE, sumTmp = 0;
+        double maxPop = 0, maxPcp = 0;
+
+        for (CurrentShortTermForecast row : rows) {
+            if (representativeTimeScore(row.getFcstTime()) > representativeTimeScore(representative.getFcstTime())) {
+                representative = row;
+            }
+            minTmp = Math.min(minTmp, row.getTmp());
+            maxTmp = Math.max(maxTmp, row.getTmp());
+            sumTmp += row.getTmp();
+            maxPop = Math.max(maxPop, row.getPop());
+            maxPcp = Math.max(maxPcp, row.getPcp());
+        }
+
+        aggregate.updateAggregate(representative.getBaseDate(), representative.getBaseTime(), representative,
+                minTmp, maxTmp, sumTmp / rows.size(), maxPop, maxPcp, rows.size());
+    }
+
+    private int compareBase(CurrentShortTermForecast row, LocalDate baseDate, String baseTime) {
+        int baseDateCompare = row.getBaseDate().compareTo(baseDate);
+        return baseDateCompare != 0 ? baseDateCompare : row.getBaseTime().compareTo(baseTime);
+    }
+
+    /**
+     * 대표 예보 시간 우선순위 점수
+     * 정오(1200) > 오후(1500, 1800) > 오전(0900) > 기타
+     */
+    static int representativeTimeScore(String fcstTime) {
+        return switch (fcstTime) {
+            case "1200" -> 100;  // 정오 - 최우선
+            case "1500" -> 90;   // 오후 3시
+            case "1800" -> 85;   // 오후 6시
+            case "0900" -> 80;   // 오전 9시
+            case "2100" -> 75;   // 오후 9시
+            case "0600" -> 70;   // 오전 6시
+            default -> 50;       // 기타
+        };
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    private record AggregateCell(Long regionId, LocalDate forecastDate) {
+        static AggregateCell of(CurrentShortTermForecast row) {
+            return new AggregateCell(row.getRegion().getId(), row.getFcstDate());
+        }
+
+        static AggregateCell of(DailyForecastAggregate aggregate) {
+            return new AggregateCell(aggregate.getRegion().getId(), aggregate.getForecastDate());
+        }
+    }
+}
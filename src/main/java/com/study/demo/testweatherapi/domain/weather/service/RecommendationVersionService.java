@@ -0,0 +1,104 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.study.demo.testweatherapi.domain.weather.entity.RecommendationVersion;
+import com.study.demo.testweatherapi.domain.weather.repository.DailyRecommendationRepository;
+import com.study.demo.testweatherapi.domain.weather.repository.RecommendationVersionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 추천 정보 생성 버전 관리
+ * 추천 생성 실행마다 새 버전을 발급받아 그 버전으로만 행을 쓰고, 실행이 끝나면 활성 버전을 한 번에 올린다.
+ * 조회는 활성 버전 이하의 최신 행만 보므로 생성 도중에도 이전 결과가 그대로 보이고 (조회 누락/락 대기 없음),
+ * 밀려난 이전 버전 행은 데이터 정리 작업에서 나중에 삭제한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationVersionService implements SmartInitializingSingleton {
+
+    /**
+     * 포인터 행이 없을 때만 활성 버전 0으로 생성 (이미 있으면 그대로 둠)
+     */
+    private static final String SEED_POINTER_SQL =
+            "INSERT INTO recommendation_version " +
+            "(id, active_version, last_allocated_version, created_at, updated_at) " +
+            "VALUES (?, 0, 0, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE id = id";
+
+    private final RecommendationVersionRepository versionRepository;
+    private final DailyRecommendationRepository dailyRecommendationRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 포인터 행 준비 (스케줄러가 시작되기 전에 실행)
+     * 최초 실행 때 여러 생성 작업이 동시에 포인터 행을 만들면 잠글 행이 없어 같은 버전을 받을 수 있으므로 기동 시 미리 만든다
+     * 버전 도입 전 행은 모두 버전 0이므로 활성 버전 0에서 시작
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            jdbcTemplate.update(SEED_POINTER_SQL, RecommendationVersion.POINTER_ID);
+        } catch (DataAccessException e) {
+            log.error("추천 버전 포인터 준비 실패: error={}", e.getMessage());
+            throw new IllegalStateException("추천 버전 포인터 준비 실패", e);
+        }
+        log.info("추천 버전 포인터 준비 완료: active={}", getActiveVersion());
+    }
+
+    /**
+     * 새 생성 버전 발급 (포인터 행을 잠가 동시에 시작한 실행끼리 같은 버전을 받지 않음)
+     */
+    @Transactional
+    public Long allocate() {
+        RecommendationVersion pointer = versionRepository.findByIdForUpdate(RecommendationVersion.POINTER_ID)
+                .orElseThrow(() -> new IllegalStateException("추천 버전 포인터 행이 없음"));
+
+        Long version = pointer.allocateNext();
+        log.debug("추천 생성 버전 발급: version={}, active={}", version, pointer.getActiveVersion());
+        return version;
+    }
+
+    /**
+     * 생성이 끝난 버전 공개 (활성 버전은 앞으로만 이동)
+     * 동시에 실행된 더 늦은 버전이 먼저 공개되었다면 이번 버전 행은 이미 조회에 보이고 있으므로 그대로 둠
+     */
+    @Transactional
+    public void publish(Long version) {
+        int updated = versionRepository.publish(RecommendationVersion.POINTER_ID, version);
+        if (updated > 0) {
+            log.info("추천 활성 버전 전환: {}", version);
+        } else {
+            log.info("추천 버전 {} 공개 생략: 이미 더 높은 버전이 활성화됨", version);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long getActiveVersion() {
+        return versionRepository.findActiveVersion(RecommendationVersion.POINTER_ID).orElse(0L);
+    }
+
+    /**
+     * 활성 버전 기준으로 밀려난 이전 버전 행 수 (정리 대상 확인용)
+     */
+    @Transactional(readOnly = true)
+    public long countSupersededRecommendations() {
+        return dailyRecommendationRepository.countSupersededRecommendations(getActiveVersion());
+    }
+
+    /**
+     * 밀려난 이전 버전 행 삭제
+     * 활성 버전 이하에서 (지역, 날짜)마다 가장 높은 버전 행만 남기고, 아직 공개되지 않은 버전 행은 건드리지 않음
+     */
+    @Transactional
+    public int deleteSupersededRecommendations() {
+        int deleted = dailyRecommendationRepository.deleteSupersededRecommendations(getActiveVersion());
+        log.debug("이전 버전 추천 정보 삭제: {}건", deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,443 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.demo.testweatherapi.domain.weather.converter.KmaGridConverter;
+import com.study.demo.testweatherapi.domain.weather.dto.response.RegionResDTO;
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+import com.study.demo.testweatherapi.domain.weather.entity.RegionCode;
+import com.study.demo.testweatherapi.domain.weather.repository.RegionCodeRepository;
+import com.study.demo.testweatherapi.domain.weather.repository.RegionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 지역 대량 등록 (CSV / NDJSON 스트림)
+ * 입력을 줄 단위로 읽어 청크마다 검증 -> 격자 변환 -> JDBC 배치 INSERT를 진행하고,
+ * 행별 결과를 NDJSON으로 바로 흘려보낸다 (마지막 줄은 요약)
+ *
+ * - 중복 검증: 기존 지역명/좌표/지역코드를 시작 시 한 번만 읽어 메모리 집합으로 확인 (행마다 DB 조회 없음)
+ * - 격자 변환: 로컬 LCC 변환을 청크 단위로 병렬 계산
+ * - 저장: 청크마다 별도 트랜잭션 (RegionBulkImportWriter)
+ *
+ * 입력 컬럼: name, latitude, longitude, landRegCode, tempRegCode, regionCodeName(선택), priority(선택)
+ * CSV는 첫 줄이 헤더이며 큰따옴표로 감싼 값 안의 쉼표를 허용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionBulkImportService {
+
+    private static final String STATUS_CREATED = "CREATED";
+    private static final String STATUS_SKIPPED = "SKIPPED";
+    private static final String STATUS_FAILED = "FAILED";
+
+    // 근접 좌표 판정 거리 (RegionRepository.findByNearCoordinates와 동일)
+    private static final double NEAR_DISTANCE = 0.001;
+
+    private final RegionRepository regionRepository;
+    private final RegionCodeRepository regionCodeRepository;
+    private final RegionBulkImportWriter importWriter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${region.bulk-import.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 지역 대량 등록
+     * @param input CSV 또는 NDJSON 입력 스트림 (UTF-8)
+     * @param output 행별 결과를 NDJSON으로 기록할 출력 스트림
+     */
+    public void importRegions(InputStream input, ImportFormat format, OutputStream output) throws IOException {
+        long startTime = System.currentTimeMillis();
+        ImportContext context = loadImportContext();
+        ImportStats stats = new ImportStats();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        log.info("지역 대량 등록 시작: format={}, 기존 지역 {}개, 기존 지역코드 {}개",
+                format, context.names.size(), context.codesByLandRegCode.size());
+
+        List<String> header = null;
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        String line;
+        int lineNumber = 0;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            if (format == ImportFormat.CSV && header == null) {
+                header = splitCsvLine(line.strip());
+                continue;
+            }
+
+            try {
+                chunk.add(format == ImportFormat.CSV ? parseCsvRow(lineNumber, header, line) : parseJsonRow(lineNumber, line));
+            } catch (Exception e) {
+                writeLine(writer, rowResult(lineNumber, null, STATUS_FAILED, null, "형식 오류: " + e.getMessage()));
+                stats.count(STATUS_FAILED);
+            }
+
+            if (chunk.size() >= chunkSize) {
+                processChunk(chunk, context, stats, writer);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, context, stats, writer);
+        }
+
+        long processingTime = System.currentTimeMillis() - startTime;
+        writeLine(writer, RegionResDTO.BulkImportSummary.builder()
+                .status("SUMMARY")
+                .totalRows(stats.created + stats.skipped + stats.failed)
+                .createdRegions(stats.created)
+                .skippedRows(stats.skipped)
+                .failedRows(stats.failed)
+                .createdRegionCodes(stats.createdRegionCodes)
+                .processingTimeMs(processingTime)
+                .build());
+        writer.flush();
+
+        log.info("지역 대량 등록 완료: 등록 {}, 건너뜀 {}, 실패 {}, 새 지역코드 {}, {}ms",
+                stats.created, stats.skipped, stats.failed, stats.createdRegionCodes, processingTime);
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    /**
+     * 청크 처리: 격자 변환(병렬) -> 검증(순차) -> 저장(트랜잭션 1회) -> 결과 기록
+     * 메모리 집합(지역명/좌표/지역코드)에는 모든 검증을 통과한 행만 반영 (실패 행이 이후 행을 막지 않도록)
+     */
+    private void processChunk(List<ImportRow> chunk, ImportContext context, ImportStats stats,
+                              Writer writer) throws IOException {
+        List<RegionResDTO.BulkImportRowResult> results = new ArrayList<>(chunk.size());
+        List<RegionCode> newRegionCodes = new ArrayList<>();
+        List<Region> regions = new ArrayList<>(chunk.size());
+        List<PreparedRow> insertedRows = new ArrayList<>(chunk.size());
+
+        // 1. 격자 변환 (로컬 계산이라 청크 단위 병렬 처리, 순서 유지 / 위경도 누락 행은 검증에서 걸러짐)
+        List<KmaGridConverter.Grid> grids = chunk.parallelStream()
+                .map(row -> row.latitude() == null || row.longitude() == null ? null
+                        : KmaGridConverter.toGrid(row.latitude().doubleValue(), row.longitude().doubleValue()))
+                .toList();
+
+        // 2. 메모리 집합 기준 중복/지역코드/격자 범위 검증 (앞선 행과의 중복도 확인해야 하므로 순차)
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportRow row = chunk.get(i);
+            KmaGridConverter.Grid grid = grids.get(i);
+
+            Rejection rejection = validate(row, grid, context);
+            if (rejection != null) {
+                results.add(rowResult(row.lineNumber(), row.name(), rejection.status(), null, rejection.message()));
+                stats.count(rejection.status());
+                continue;
+            }
+
+            RegionCode regionCode = context.codesByLandRegCode.get(row.landRegCode());
+            if (regionCode == null) {
+                regionCode = RegionCode.builder()
+                        .landRegCode(row.landRegCode())
+                        .tempRegCode(row.tempRegCode())
+                        .name(row.regionCodeName() != null ? row.regionCodeName() : row.name())
+                        .build();
+                context.addRegionCode(regionCode);
+                newRegionCodes.add(regionCode);
+            }
+
+            context.addRegion(row.name(), row.latitude(), row.longitude());
+            regions.add(Region.builder()
+                    .name(row.name())
+                    .latitude(row.latitude())
+                    .longitude(row.longitude())
+                    .gridX(BigDecimal.valueOf(grid.x()))
+                    .gridY(BigDecimal.valueOf(grid.y()))
+                    .regionCode(regionCode)
+                    .priority(row.priority())
+                    .build());
+            insertedRows.add(new PreparedRow(row, regionCode, grid));
+        }
+
+        // 3. 청크 저장 (새 지역코드 + 지역 배치 INSERT)
+        try {
+            importWriter.saveChunk(newRegionCodes, regions);
+            stats.createdRegionCodes += newRegionCodes.size();
+            for (PreparedRow prepared : insertedRows) {
+                results.add(rowResult(prepared.row().lineNumber(), prepared.row().name(), STATUS_CREATED,
+                        prepared.grid(), null));
+                stats.count(STATUS_CREATED);
+            }
+        } catch (Exception e) {
+            log.error("지역 대량 등록 청크 저장 실패: {}행", insertedRows.size(), e);
+            // 롤백된 지역코드/지역명/좌표는 이후 행에서 다시 등록할 수 있도록 메모리에서 제거
+            newRegionCodes.forEach(context::removeRegionCode);
+            for (PreparedRow prepared : insertedRows) {
+                context.removeRegion(prepared.row().name(), prepared.row().latitude(), prepared.row().longitude());
+                results.add(rowResult(prepared.row().lineNumber(), prepared.row().name(), STATUS_FAILED, null,
+                        "저장 실패: " + e.getMessage()));
+                stats.count(STATUS_FAILED);
+            }
+        }
+
+        // 4. 입력 순서대로 결과 전송
+        results.sort(Comparator.comparingInt(RegionResDTO.BulkImportRowResult::lineNumber));
+        for (RegionResDTO.BulkImportRowResult result : results) {
+            writeLine(writer, result);
+        }
+        writer.flush();
+    }
+
+    /**
+     * 행 검증 (통과하면 null / 중복은 SKIPPED, 입력 오류는 FAILED)
+     */
+    private Rejection validate(ImportRow row, KmaGridConverter.Grid grid, ImportContext context) {
+        if (row.name() == null) {
+            return new Rejection(STATUS_FAILED, "지역명 누락");
+        }
+        if (row.latitude() == null || row.longitude() == null) {
+            return new Rejection(STATUS_FAILED, "위경도 누락");
+        }
+        if (row.landRegCode() == null || row.tempRegCode() == null) {
+            return new Rejection(STATUS_FAILED, "지역코드(landRegCode, tempRegCode) 누락");
+        }
+        if (context.names.contains(row.name())) {
+            return new Rejection(STATUS_SKIPPED, "이미 존재하는 지역명");
+        }
+        if (context.hasNearRegion(row.latitude(), row.longitude())) {
+            return new Rejection(STATUS_SKIPPED, "유사한 좌표의 지역이 이미 존재");
+        }
+
+        RegionCode byLand = context.codesByLandRegCode.get(row.landRegCode());
+        RegionCode byTemp = context.codesByTempRegCode.get(row.tempRegCode());
+        if (byLand != byTemp) {
+            return new Rejection(STATUS_FAILED, "지역코드 불일치: landRegCode와 tempRegCode가 서로 다른 지역코드에 등록되어 있음");
+        }
+        if (!grid.isInRange()) {
+            return new Rejection(STATUS_FAILED, "기상청 격자 범위를 벗어난 좌표");
+        }
+        return null;
+    }
+
+    private ImportContext loadImportContext() {
+        ImportContext context = new ImportContext();
+        context.names.addAll(regionRepository.findAllNames());
+        for (Object[] coordinate : regionRepository.findAllCoordinates()) {
+            context.addCoordinate((BigDecimal) coordinate[0], (BigDecimal) coordinate[1]);
+        }
+        for (RegionCode regionCode : regionCodeRepository.findAll()) {
+            context.addRegionCode(regionCode);
+        }
+        return context;
+    }
+
+    private ImportRow parseCsvRow(int lineNumber, List<String> header, String line) {
+        List<String> values = splitCsvLine(line);
+        Map<String, String> columns = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            columns.put(header.get(i), values.get(i));
+        }
+        return toImportRow(lineNumber, columns::get);
+    }
+
+    private ImportRow parseJsonRow(int lineNumber, String line) throws IOException {
+        JsonNode node = objectMapper.readTree(line);
+        return toImportRow(lineNumber, field -> {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        });
+    }
+
+    private ImportRow toImportRow(int lineNumber, Function<String, String> column) {
+        String priority = blankToNull(column.apply("priority"));
+        String latitude = blankToNull(column.apply("latitude"));
+        String longitude = blankToNull(column.apply("longitude"));
+
+        return new ImportRow(
+                lineNumber,
+                blankToNull(column.apply("name")),
+                latitude == null ? null : new BigDecimal(latitude),
+                longitude == null ? null : new BigDecimal(longitude),
+                blankToNull(column.apply("landRegCode")),
+                blankToNull(column.apply("tempRegCode")),
+                blankToNull(column.apply("regionCodeName")),
+                priority == null ? 0 : Integer.parseInt(priority));
+    }
+
+    /**
+     * CSV 한 줄 분리 (큰따옴표로 감싼 값 안의 쉼표 허용, ""는 따옴표 하나로 처리)
+     */
+    private static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString().strip());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString().strip());
+        return values;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+
+    private static RegionResDTO.BulkImportRowResult rowResult(int lineNumber, String name, String status,
+                                                              KmaGridConverter.Grid grid, String message) {
+        return RegionResDTO.BulkImportRowResult.builder()
+                .lineNumber(lineNumber)
+                .name(name)
+                .status(status)
+                .gridX(grid == null ? null : BigDecimal.valueOf(grid.x()))
+                .gridY(grid == null ? null : BigDecimal.valueOf(grid.y()))
+                .message(message)
+                .build();
+    }
+
+    private void writeLine(Writer writer, Object value) throws IOException {
+        writer.write(objectMapper.writeValueAsString(value));
+        writer.write('\n');
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    public enum ImportFormat {
+        CSV,
+        NDJSON;
+
+        /**
+         * Content-Type으로 입력 형식 결정 (text/csv 외에는 NDJSON)
+         */
+        public static ImportFormat fromContentType(String contentType) {
+            return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/csv") ? CSV : NDJSON;
+        }
+    }
+
+    /**
+     * 입력 한 행
+     */
+    private record ImportRow(int lineNumber, String name, BigDecimal latitude, BigDecimal longitude,
+                             String landRegCode, String tempRegCode, String regionCodeName, int priority) {}
+
+    /**
+     * 검증을 통과해 저장 대상이 된 행 (사용할 지역코드, 변환된 격자)
+     */
+    private record PreparedRow(ImportRow row, RegionCode regionCode, KmaGridConverter.Grid grid) {}
+
+    private record Rejection(String status, String message) {}
+
+    /**
+     * 중복 검증용 메모리 집합 (기존 데이터 + 이번 등록에서 받아들인 행)
+     * 좌표는 0.001도 칸으로 나눠 두고 주변 9칸만 비교
+     */
+    private static final class ImportContext {
+        private final Set<String> names = new HashSet<>();
+        private final Map<Long, List<double[]>> coordinatesByCell = new HashMap<>();
+        private final Map<String, RegionCode> codesByLandRegCode = new HashMap<>();
+        private final Map<String, RegionCode> codesByTempRegCode = new HashMap<>();
+
+        void addRegion(String name, BigDecimal latitude, BigDecimal longitude) {
+            names.add(name);
+            addCoordinate(latitude, longitude);
+        }
+
+        void addCoordinate(BigDecimal latitude, BigDecimal longitude) {
+            double lat = latitude.doubleValue();
+            double lon = longitude.doubleValue();
+            coordinatesByCell.computeIfAbsent(cellKey(cell(lat), cell(lon)), key -> new ArrayList<>())
+                    .add(new double[]{lat, lon});
+        }
+
+        void removeRegion(String name, BigDecimal latitude, BigDecimal longitude) {
+            names.remove(name);
+            double lat = latitude.doubleValue();
+            double lon = longitude.doubleValue();
+            List<double[]> candidates = coordinatesByCell.get(cellKey(cell(lat), cell(lon)));
+            if (candidates != null) {
+                candidates.removeIf(candidate -> candidate[0] == lat && candidate[1] == lon);
+            }
+        }
+
+        boolean hasNearRegion(BigDecimal latitude, BigDecimal longitude) {
+            double lat = latitude.doubleValue();
+            double lon = longitude.doubleValue();
+            long latCell = cell(lat);
+            long lonCell = cell(lon);
+
+            for (long dLat = -1; dLat <= 1; dLat++) {
+                for (long dLon = -1; dLon <= 1; dLon++) {
+                    List<double[]> candidates = coordinatesByCell.get(cellKey(latCell + dLat, lonCell + dLon));
+                    if (candidates == null) {
+                        continue;
+                    }
+                    for (double[] candidate : candidates) {
+                        if (Math.abs(candidate[0] - lat) < NEAR_DISTANCE && Math.abs(candidate[1] - lon) < NEAR_DISTANCE) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        void addRegionCode(RegionCode regionCode) {
+            codesByLandRegCode.put(regionCode.getLandRegCode(), regionCode);
+            codesByTempRegCode.put(regionCode.getTempRegCode(), regionCode);
+        }
+
+        void removeRegionCode(RegionCode regionCode) {
+            codesByLandRegCode.remove(regionCode.getLandRegCode(), regionCode);
+            codesByTempRegCode.remove(regionCode.getTempRegCode(), regionCode);
+        }
+
+        private static long cell(double degree) {
+            return (long) Math.floor(degree / NEAR_DISTANCE);
+        }
+
+        private static long cellKey(long latCell, long lonCell) {
+            return latCell * 1_000_000L + lonCell;
+        }
+    }
+
+    private static final class ImportStats {
+        private int created, skipped, failed, createdRegionCodes;
+
+        void count(String status) {
+            switch (status) {
+                case STATUS_CREATED -> created++;
+                case STATUS_SKIPPED -> skipped++;
+                default -> failed++;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+import com.study.demo.testweatherapi.domain.weather.entity.RegionCode;
+import com.study.demo.testweatherapi.domain.weather.repository.RegionCodeRepository;
+import com.study.demo.testweatherapi.domain.weather.repository.RegionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 지역 대량 등록 청크 저장 (청크마다 별도 트랜잭션)
+ * 한 청크가 실패해도 앞서 커밋된 청크는 유지됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionBulkImportWriter {
+
+    private final RegionRepository regionRepository;
+    private final RegionCodeRepository regionCodeRepository;
+
+    /**
+     * 새 지역코드를 먼저 저장(ID 발급)한 뒤 지역을 JDBC 배치로 INSERT
+     */
+    @Transactional
+    public int saveChunk(List<RegionCode> newRegionCodes, List<Region> regions) {
+        if (!newRegionCodes.isEmpty()) {
+            regionCodeRepository.saveAll(newRegionCodes);
+            regionCodeRepository.flush();
+        }
+
+        int inserted = regionRepository.batchInsert(regions);
+        log.debug("지역 대량 등록 청크 저장: 지역코드 {}개, 지역 {}개", newRegionCodes.size(), inserted);
+        return inserted;
+    }
+}
@@ -1,5 +1,6 @@
 package com.study.demo.testweatherapi.domain.weather.service;
 
+import com.study.demo.testweatherapi.domain.weather.converter.KmaGridConverter;
 import com.study.demo.testweatherapi.domain.weather.converter.RegionConverter;
 import com.study.demo.testweatherapi.domain.weather.dto.request.RegionReqDTO;
 import com.study.demo.testweatherapi.domain.weather.dto.response.RegionResDTO;
@@ -7,20 +8,24 @@ import com.study.demo.testweatherapi.domain.weather.entity.Region;
 import com.study.demo.testweatherapi.domain.weather.entity.RegionCode;
 import com.study.demo.testweatherapi.domain.weather.exception.WeatherErrorCode;
 import com.study.demo.testweatherapi.domain.weather.exception.WeatherException;
+import com.study.demo.testweatherapi.domain.weather.parser.Typ01TextParser;
 import com.study.demo.testweatherapi.domain.weather.repository.RegionCodeRepository;
 import com.study.demo.testweatherapi.domain.weather.repository.RegionRepository;
+import com.study.demo.testweatherapi.global.client.ResponseBodies;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Slf4j
 @Service
@@ -31,6 +36,7 @@ public class RegionService {
     private final RegionRepository regionRepository;
     private final RegionCodeRepository regionCodeRepository;
     private final WebClient webClient;
+    private final Typ01TextParser typ01TextParser;
 
     @Value("${weather.api.key}")
     private String apiKey;
@@ -38,6 +44,18 @@ public class RegionService {
     @Value("${weather.api.grid-conversion-url}")
     private String gridConversionUrl;
 
+    /**
+     * true면 로컬 변환 결과를 기상청 격자 변환 API로 한 번 더 확인 (불일치 시 API 결과 사용)
+     */
+    @Value("${weather.api.grid-conversion.verify-with-api:false}")
+    private boolean verifyGridConversionWithApi;
+
+    /**
+     * 격자 변환 검증 한 번에 API로 확인할 최대 지역 수
+     */
+    @Value("${weather.api.grid-conversion.verify-max-sample-size:100}")
+    private int maxVerifySampleSize;
+
     // ==== 지역코드 관련 메서드들 ====
 
     /**
@@ -154,7 +172,7 @@ public class RegionService {
     }
 
     /**
-     * 좌표 변환 (기상청 API 호출)
+     * 좌표 변환 (로컬 LCC 변환, 검증 모드에서는 기상청 API로 확인)
      */
     public RegionResDTO.CoordinateConversion convertCoordinates(
             RegionReqDTO.CoordinateConversion request) {
@@ -193,6 +211,60 @@ public class RegionService {
         return RegionConverter.toSearchResult(regions, keyword);
     }
 
+    /**
+     * 지역 수집 우선순위 변경
+     */
+    @Transactional
+    public RegionResDTO.RegionInfo updateRegionPriority(Long regionId, int priority) {
+        Region region = regionRepository.findByIdWithRegionCode(regionId)
+                .orElseThrow(() -> new WeatherException(WeatherErrorCode.REGION_NOT_FOUND));
+
+        region.updatePriority(priority);
+        log.info("지역 수집 우선순위 변경: {} (ID: {}) -> {}", region.getName(), region.getId(), priority);
+
+        return RegionConverter.toRegionInfo(region);
+    }
+
+    /**
+     * 등록된 지역 중 무작위 표본으로 로컬 격자 변환과 기상청 격자 변환 API 결과 비교
+     * 표본 수만큼 API를 호출하므로 관리자 점검용으로만 사용하며, 표본은 verify-max-sample-size개로 제한
+     * API 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (지역 조회는 리포지토리 트랜잭션으로 끝남)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RegionResDTO.GridConversionVerification verifyGridConversion(int sampleSize) {
+        List<Region> regions = new ArrayList<>(regionRepository.findAllActiveRegions());
+        int sampledCount = Math.min(regions.size(), Math.max(1, Math.min(sampleSize, maxVerifySampleSize)));
+        Collections.shuffle(regions);
+        List<Region> sampledRegions = regions.subList(0, sampledCount);
+
+        List<RegionResDTO.GridConversionMismatch> mismatches = new ArrayList<>();
+        int verifiedCount = 0;
+        int failedCount = 0;
+
+        for (Region region : sampledRegions) {
+            KmaGridConverter.Grid localGrid = KmaGridConverter.toGrid(
+                    region.getLatitude().doubleValue(), region.getLongitude().doubleValue());
+            try {
+                CoordinateResult remote = requestGridCoordinates(region.getLatitude(), region.getLongitude());
+                verifiedCount++;
+
+                if (remote.gridX().intValue() != localGrid.x() || remote.gridY().intValue() != localGrid.y()) {
+                    mismatches.add(RegionConverter.toGridConversionMismatch(
+                            region, localGrid.x(), localGrid.y(), remote.gridX(), remote.gridY()));
+                }
+            } catch (WeatherException e) {
+                failedCount++;
+                log.warn("격자 변환 검증 중 API 호출 실패: {} (ID: {})", region.getName(), region.getId());
+            }
+        }
+
+        log.info("격자 변환 검증 완료: 지역 {}개 중 표본 {}개, {}개 확인, 불일치 {}개, API 실패 {}개",
+                regions.size(), sampledCount, verifiedCount, mismatches.size(), failedCount);
+
+        return RegionConverter.toGridConversionVerification(
+                regions.size(), sampledCount, verifiedCount, failedCount, mismatches);
+    }
+
     /**
      * 지역 삭제
      */
@@ -213,22 +285,53 @@ public class RegionService {
     // ==== 내부 유틸리티 메서드들 ====
 
     /**
-     * 기상청 API를 호출하여 위경도를 격자 좌표로 변환
+     * 위경도를 기상청 격자 좌표로 변환 (네트워크 호출 없이 로컬 LCC 투영 계산)
+     * 검증 모드(weather.api.grid-conversion.verify-with-api)에서는 기상청 API 결과와 비교
      */
     private CoordinateResult convertToGridCoordinates(BigDecimal latitude, BigDecimal longitude) {
+        KmaGridConverter.Grid grid = KmaGridConverter.toGrid(latitude.doubleValue(), longitude.doubleValue());
+        if (!grid.isInRange()) {
+            log.warn("기상청 격자 범위를 벗어난 좌표: lat={}, lon={} -> X={}, Y={}",
+                    latitude, longitude, grid.x(), grid.y());
+            throw new WeatherException(WeatherErrorCode.INVALID_COORDINATES);
+        }
+
+        CoordinateResult local = new CoordinateResult(BigDecimal.valueOf(grid.x()), BigDecimal.valueOf(grid.y()));
+        if (!verifyGridConversionWithApi) {
+            log.debug("격자 좌표 변환 결과 (로컬): X={}, Y={}", grid.x(), grid.y());
+            return local;
+        }
+
+        // 검증 모드: API 결과를 기준으로 삼고, API 호출이 실패하면 로컬 결과 사용
         try {
-            String response = webClient.get()
+            CoordinateResult remote = requestGridCoordinates(latitude, longitude);
+            if (remote.gridX().compareTo(local.gridX()) != 0 || remote.gridY().compareTo(local.gridY()) != 0) {
+                log.warn("격자 좌표 불일치: lat={}, lon={}, 로컬=({}, {}), API=({}, {})",
+                        latitude, longitude, local.gridX(), local.gridY(), remote.gridX(), remote.gridY());
+            }
+            return remote;
+        } catch (WeatherException e) {
+            log.warn("격자 변환 API 확인 실패, 로컬 변환 결과 사용: lat={}, lon={}", latitude, longitude);
+            return local;
+        }
+    }
+
+    /**
+     * 기상청 격자 변환 API 호출 (검증용)
+     */
+    private CoordinateResult requestGridCoordinates(BigDecimal latitude, BigDecimal longitude) {
+        try {
+            byte[] response = ResponseBodies.toBytes(webClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path(gridConversionUrl)
                             .queryParam("authKey", apiKey)
                             .queryParam("lat", latitude.toString())
                             .queryParam("lon", longitude.toString())
                             .build())
-                    .retrieve()
-                    .bodyToMono(String.class)
+                    .retrieve())
                     .block();
 
-            if (response == null || response.trim().isEmpty()) {
+            if (response == null) {
                 throw new WeatherException(WeatherErrorCode.GRID_CONVERSION_ERROR);
             }
 
@@ -241,64 +344,40 @@ public class RegionService {
     }
 
     /**
-     * 기상청 API 응답 파싱
+     * 기상청 API 응답 파싱 (typ01 텍스트)
      * 예시: "#START7777 # LON, LAT, X, Y 126.986069, 37.571712, 60, 127"
+     * 헤더(#) 줄은 건너뛰고 LON, LAT, X, Y 네 컬럼이 모두 숫자인 첫 줄을 사용
      */
-    private CoordinateResult parseGridCoordinates(String response) {
+    private CoordinateResult parseGridCoordinates(byte[] response) {
         try {
-            log.debug("파싱할 응답: {}", response);
-
-            // 멀티라인 응답 처리를 위한 패턴 수정
-            // #START7777 이후의 데이터 라인에서 숫자들을 추출
-            Pattern pattern = Pattern.compile(
-                    "#START7777.*?\\s+([0-9.]+),\\s*([0-9.]+),\\s*([0-9]+),\\s*([0-9]+)",
-                    Pattern.DOTALL  // 개행 문자도 . 패턴에 포함
-            );
-
-            Matcher matcher = pattern.matcher(response);
-
-            if (matcher.find()) {
-                // 응답에서 추출된 값들: lon, lat, x, y 순서
-                String lonStr = matcher.group(1);
-                String latStr = matcher.group(2);
-                String xStr = matcher.group(3);
-                String yStr = matcher.group(4);
-
-                log.debug("파싱된 값들 - LON: {}, LAT: {}, X: {}, Y: {}",
-                        lonStr, latStr, xStr, yStr);
-
-                BigDecimal x = new BigDecimal(xStr);
-                BigDecimal y = new BigDecimal(yStr);
-
-                log.debug("격자 좌표 변환 결과: X={}, Y={}", x, y);
-                return new CoordinateResult(x, y);
-            } else {
-                // 대안 패턴: 라인별로 분리해서 처리
-                String[] lines = response.split("\n");
-                for (String line : lines) {
-                    log.debug("처리 중인 라인: '{}'", line.trim());
-                    // 숫자들이 포함된 데이터 라인 찾기
-                    if (line.trim().matches("\\s*[0-9.]+,\\s*[0-9.]+,\\s*[0-9]+,\\s*[0-9]+.*")) {
-                        String[] values = line.trim().split(",");
-                        if (values.length >= 4) {
-                            BigDecimal x = new BigDecimal(values[2].trim());
-                            BigDecimal y = new BigDecimal(values[3].trim());
-
-                            log.debug("라인별 파싱 성공 - X: {}, Y: {}", x, y);
-                            return new CoordinateResult(x, y);
-                        }
-                    }
+            BigDecimal[] grid = new BigDecimal[2];
+
+            boolean found = typ01TextParser.parse(response, row -> {
+                if (grid[0] == null && row.columnCount() >= 4
+                        && row.isNumber(0) && row.isNumber(1) && row.isNumber(2) && row.isNumber(3)) {
+                    log.debug("파싱된 값들 - LON: {}, LAT: {}, X: {}, Y: {}",
+                            row.text(0), row.text(1), row.text(2), row.text(3));
+                    grid[0] = BigDecimal.valueOf(row.intValue(2));
+                    grid[1] = BigDecimal.valueOf(row.intValue(3));
                 }
+            });
 
-                log.error("격자 좌표 파싱 실패: 응답 형식이 올바르지 않음. response={}", response);
+            if (!found || grid[0] == null) {
+                log.error("격자 좌표 파싱 실패: 응답 형식이 올바르지 않음. response={}",
+                        new String(response, StandardCharsets.ISO_8859_1));
                 throw new WeatherException(WeatherErrorCode.API_RESPONSE_PARSING_ERROR);
             }
 
+            log.debug("격자 좌표 변환 결과: X={}, Y={}", grid[0], grid[1]);
+            return new CoordinateResult(grid[0], grid[1]);
+
+        } catch (WeatherException e) {
+            throw e;
         } catch (NumberFormatException e) {
             log.error("숫자 변환 오류: {}", e.getMessage(), e);
             throw new WeatherException(WeatherErrorCode.API_RESPONSE_PARSING_ERROR);
         } catch (Exception e) {
-            log.error("격자 좌표 파싱 중 오류 발생: {}", response, e);
+            log.error("격자 좌표 파싱 중 오류 발생", e);
             throw new WeatherException(WeatherErrorCode.API_RESPONSE_PARSING_ERROR);
         }
     }
@@ -1,7 +1,7 @@
 package com.study.demo.testweatherapi.domain.weather.service;
 
+import com.study.demo.testweatherapi.domain.weather.entity.DailyForecastAggregate;
 import com.study.demo.testweatherapi.domain.weather.entity.RawMediumTermWeather;
-import com.study.demo.testweatherapi.domain.weather.entity.RawShortTermWeather;
 import com.study.demo.testweatherapi.domain.weather.entity.enums.PrecipCategory;
 import com.study.demo.testweatherapi.domain.weather.entity.enums.TempCategory;
 import com.study.demo.testweatherapi.domain.weather.entity.enums.WeatherType;
@@ -23,32 +23,28 @@ public class WeatherClassificationService {
 
     /**
      * 단기 예보 데이터를 분류
-     * 특정 지역의 특정 날짜 데이터를 가장 대표적인 값으로 분류
+     * 수집 시 미리 계산된 일 집계(가장 최신 기준시각, 정오 우선 대표값)로 분류
      */
     public WeatherClassificationResult classifyShortTermWeather(
-            List<RawShortTermWeather> shortTermData, Long regionId, LocalDate targetDate) {
+            DailyForecastAggregate aggregate, Long regionId, LocalDate targetDate) {
 
-        if (shortTermData.isEmpty()) {
+        if (aggregate == null) {
             log.warn("단기 예보 데이터가 없습니다: regionId={}, date={}", regionId, targetDate);
             return createDefaultClassification();
         }
 
         try {
-            // 해당 날짜의 대표 데이터 선택 (가장 최신 기준시각의 정오 데이터 우선)
-            RawShortTermWeather representativeData = selectRepresentativeShortTermData(shortTermData, targetDate);
+            // 각 카테고리별 분류 (대표 예보 기준)
+            WeatherType weatherType = classifyWeatherTypeFromShortTerm(aggregate.getPty(), aggregate.getSky());
+            TempCategory tempCategory = classifyTempCategory(aggregate.getTmp());
+            PrecipCategory precipCategory = classifyPrecipCategory(aggregate.getPop(), aggregate.getPcp());
 
-            // 각 카테고리별 분류
-            WeatherType weatherType = classifyWeatherTypeFromShortTerm(representativeData);
-            TempCategory tempCategory = classifyTempCategory(representativeData.getTmp());
-            PrecipCategory precipCategory = classifyPrecipCategory(representativeData.getPop(), representativeData.getPcp());
-
-            log.debug("단기 예보 분류 완료: regionId={}, date={}, weather={}, temp={}, precip={}, 기온={}°C, 강수확률={}%",
+            log.debug("단기 예보 분류 완료: regionId={}, date={}, weather={}, temp={}, precip={}, 기온={}°C ({}~{}), 강수확률={}%",
                     regionId, targetDate, weatherType, tempCategory, precipCategory,
-                    representativeData.getTmp(), representativeData.getPop());
+                    aggregate.getTmp(), aggregate.getMinTmp(), aggregate.getMaxTmp(), aggregate.getPop());
 
             return new WeatherClassificationResult(weatherType, tempCategory, precipCategory,
-                    representativeData.getTmp(), representativeData.getPop(),
-                    representativeData.getPcp(), "단기예보");
+                    aggregate.getTmp(), aggregate.getPop(), aggregate.getPcp(), "단기예보");
 
         } catch (Exception e) {
             log.error("단기 예보 분류 중 오류 발생: regionId={}, date={}", regionId, targetDate, e);
@@ -90,32 +86,6 @@ public class WeatherClassificationService {
         }
     }
 
-    /**
-     * 단기 예보에서 대표 데이터 선택
-     * 우선순위: 가장 최신 기준시각 > 정오(1200) 시간대 > 오후 시간대
-     */
-    private RawShortTermWeather selectRepresentativeShortTermData(
-            List<RawShortTermWeather> dataList, LocalDate targetDate) {
-
-        return dataList.stream()
-                .filter(data -> data.getFcstDate().equals(targetDate))
-                .sorted((a, b) -> {
-                    // 1. 기준시각 최신순
-                    int baseDateCompare = b.getBaseDate().compareTo(a.getBaseDate());
-                    if (baseDateCompare != 0) return baseDateCompare;
-
-                    int baseTimeCompare = b.getBaseTime().compareTo(a.getBaseTime());
-                    if (baseTimeCompare != 0) return baseTimeCompare;
-
-                    // 2. 정오 시간대 우선 (1200)
-                    int aTimeScore = getTimeScore(a.getFcstTime());
-                    int bTimeScore = getTimeScore(b.getFcstTime());
-                    return Integer.compare(bTimeScore, aTimeScore);
-                })
-                .findFirst()
-                .orElse(dataList.get(0));
-    }
-
     /**
      * 중기 예보에서 대표 데이터 선택
      * 가장 최신 발표시각(tmfc) 우선
@@ -130,30 +100,11 @@ public class WeatherClassificationService {
                 .orElse(dataList.get(0));
     }
 
-    /**
-     * 예보 시간별 우선순위 점수
-     * 정오(1200) > 오후(1500, 1800) > 오전(0900) > 기타
-     */
-    private int getTimeScore(String fcstTime) {
-        return switch (fcstTime) {
-            case "1200" -> 100;  // 정오 - 최우선
-            case "1500" -> 90;   // 오후 3시
-            case "1800" -> 85;   // 오후 6시
-            case "0900" -> 80;   // 오전 9시
-            case "2100" -> 75;   // 오후 9시
-            case "0600" -> 70;   // 오전 6시
-            default -> 50;       // 기타
-        };
-    }
-
     /**
      * 단기 예보에서 날씨 타입 분류
      * 우선순위: PTY(강수형태) > SKY(하늘상태)
      */
-    private WeatherType classifyWeatherTypeFromShortTerm(RawShortTermWeather data) {
-        String pty = data.getPty();
-        String sky = data.getSky();
-
+    private WeatherType classifyWeatherTypeFromShortTerm(String pty, String sky) {
         // 1. 강수형태 우선 확인
         if ("눈".equals(pty) || "비/눈".equals(pty)) {
             return WeatherType.SNOW;
@@ -0,0 +1,111 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.study.demo.testweatherapi.global.config.WeatherCollectionConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 수집 실패 지역 재시도 큐
+ * 한 주기에서 실패한 지역을 다음 cron까지 버리지 않고 모아 두었다가 스케줄러가 주기적으로 다시 수집
+ * 같은 (지역, 기준시각)은 최대 retryQueueMaxAttempts 회까지만 재시도하고, 성공하면 기록을 지움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherCollectionRetryQueue {
+
+    private final WeatherCollectionConfig collectionConfig;
+
+    private final Set<RetryKey> pending = ConcurrentHashMap.newKeySet();
+    private final Map<RetryKey, Integer> attempts = new ConcurrentHashMap<>();
+
+    /**
+     * 단기 예보 수집 결과 반영 (실패 지역은 큐에 추가, 성공 지역은 재시도 기록 삭제)
+     */
+    public void recordShortTermResults(Map<Long, Boolean> resultByRegionId, LocalDate baseDate, String baseTime) {
+        resultByRegionId.forEach((regionId, success) ->
+                record(new RetryKey(ForecastType.SHORT_TERM, regionId, baseDate, baseTime), success));
+    }
+
+    /**
+     * 중기 예보 수집 결과 반영
+     */
+    public void recordMediumTermResults(Map<Long, Boolean> resultByRegionId, LocalDate tmfc) {
+        resultByRegionId.forEach((regionId, success) ->
+                record(new RetryKey(ForecastType.MEDIUM_TERM, regionId, tmfc, null), success));
+    }
+
+    /**
+     * 대기 중인 재시도를 꺼내 (예보 종류, 기준시각)별 지역 묶음으로 반환
+     * 하루 넘게 지난 기준시각은 재시도 의미가 없으므로 버림
+     */
+    public List<RetryBatch> drain() {
+        LocalDate oldestUseful = LocalDate.now().minusDays(1);
+        Map<RetryBatchKey, List<Long>> regionIdsByBatch = new LinkedHashMap<>();
+
+        for (Iterator<RetryKey> iterator = pending.iterator(); iterator.hasNext(); ) {
+            RetryKey key = iterator.next();
+            iterator.remove();
+
+            if (key.date().isBefore(oldestUseful)) {
+                attempts.remove(key);
+                continue;
+            }
+
+            regionIdsByBatch.computeIfAbsent(new RetryBatchKey(key.type(), key.date(), key.baseTime()),
+                    batchKey -> new ArrayList<>()).add(key.regionId());
+        }
+
+        List<RetryBatch> batches = new ArrayList<>(regionIdsByBatch.size());
+        regionIdsByBatch.forEach((batchKey, regionIds) -> batches.add(
+                new RetryBatch(batchKey.type(), batchKey.date(), batchKey.baseTime(), regionIds)));
+        return batches;
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    private void record(RetryKey key, boolean success) {
+        if (success) {
+            attempts.remove(key);
+            pending.remove(key);
+            return;
+        }
+
+        int attempt = attempts.merge(key, 1, Integer::sum);
+        if (attempt > collectionConfig.getRetryQueueMaxAttempts()) {
+            attempts.remove(key);
+            log.warn("재시도 한도 초과로 포기: type={}, regionId={}, date={}, baseTime={}",
+                    key.type(), key.regionId(), key.date(), key.baseTime());
+            return;
+        }
+
+        pending.add(key);
+        log.debug("재시도 큐 추가 ({}회차): type={}, regionId={}, date={}, baseTime={}",
+                attempt, key.type(), key.regionId(), key.date(), key.baseTime());
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    public enum ForecastType {
+        SHORT_TERM,
+        MEDIUM_TERM
+    }
+
+    /**
+     * 한 번에 다시 수집할 지역 묶음 (중기 예보는 baseTime 없음)
+     */
+    public record RetryBatch(ForecastType type, LocalDate date, String baseTime, List<Long> regionIds) {}
+
+    private record RetryKey(ForecastType type, Long regionId, LocalDate date, String baseTime) {}
+
+    private record RetryBatchKey(ForecastType type, LocalDate date, String baseTime) {}
+}
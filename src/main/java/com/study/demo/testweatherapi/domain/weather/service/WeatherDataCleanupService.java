@@ -1,6 +1,8 @@
 package com.study.demo.testweatherapi.domain.weather.service;
 
 import com.study.demo.testweatherapi.domain.weather.dto.response.WeatherSyncResDTO;
+import com.study.demo.testweatherapi.domain.weather.repository.CurrentShortTermForecastRepository;
+import com.study.demo.testweatherapi.domain.weather.repository.DailyForecastAggregateRepository;
 import com.study.demo.testweatherapi.domain.weather.repository.DailyRecommendationRepository;
 import com.study.demo.testweatherapi.domain.weather.repository.RawMediumTermWeatherRepository;
 import com.study.demo.testweatherapi.domain.weather.repository.RawShortTermWeatherRepository;
@@ -20,8 +22,11 @@ import java.util.List;
 public class WeatherDataCleanupService {
 
     private final RawShortTermWeatherRepository shortTermWeatherRepository;
+    private final DailyForecastAggregateRepository dailyForecastAggregateRepository;
+    private final CurrentShortTermForecastRepository currentShortTermForecastRepository;
     private final RawMediumTermWeatherRepository mediumTermWeatherRepository;
     private final DailyRecommendationRepository dailyRecommendationRepository;
+    private final RecommendationVersionService recommendationVersionService;
 
     /**
      * 오래된 날씨 데이터 정리
@@ -122,6 +127,11 @@ public class WeatherDataCleanupService {
                 // 실제 삭제 실행 및 삭제된 레코드 수 반환
                 recordsDeleted = shortTermWeatherRepository.deleteOldData(cutoffDate);
                 log.info("단기예보 데이터 삭제 완료: 예상 {}, 실제 삭제 {}", recordsFound, recordsDeleted);
+
+                // 같은 기간의 현재 예보 / 단기예보 일 집계도 함께 삭제
+                int currentDeleted = currentShortTermForecastRepository.deleteOldForecasts(cutoffDate);
+                int aggregatesDeleted = dailyForecastAggregateRepository.deleteOldAggregates(cutoffDate);
+                log.info("현재 예보 / 단기예보 일 집계 삭제 완료: {} 건 / {} 건", currentDeleted, aggregatesDeleted);
             } else if (dryRun) {
                 log.info("단기예보 데이터 정리 시뮬레이션: {} 건이 삭제 대상입니다", recordsFound);
             }
@@ -221,6 +231,9 @@ public class WeatherDataCleanupService {
                         oldestDate, newestDate, count);
             }
 
+            // 새 버전 공개로 밀려난 이전 버전 행 (보관 기간과 무관하게 정리 대상)
+            long supersededFound = recommendationVersionService.countSupersededRecommendations();
+
             int recordsDeleted = 0;
             if (!dryRun && recordsFound > 0) {
                 // 실제 삭제 실행 및 삭제된 레코드 수 반환
@@ -230,6 +243,15 @@ public class WeatherDataCleanupService {
                 log.info("추천정보 데이터 정리 시뮬레이션: {} 건이 삭제 대상입니다", recordsFound);
             }
 
+            if (!dryRun && supersededFound > 0) {
+                int supersededDeleted = recommendationVersionService.deleteSupersededRecommendations();
+                recordsDeleted += supersededDeleted;
+                log.info("이전 버전 추천정보 삭제 완료: 예상 {}, 실제 삭제 {}", supersededFound, supersededDeleted);
+            } else if (dryRun) {
+                log.info("이전 버전 추천정보 정리 시뮬레이션: {} 건이 삭제 대상입니다", supersededFound);
+            }
+            recordsFound += supersededFound;
+
             // 공간 절약량 계산 (추천정보: 평균 256B per record)
             long spaceSavedMB = recordsDeleted * 256 / (1024 * 1024);
 
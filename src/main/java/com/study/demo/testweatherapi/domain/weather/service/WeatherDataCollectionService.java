@@ -1,31 +1,40 @@
 package com.study.demo.testweatherapi.domain.weather.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.demo.testweatherapi.domain.weather.converter.WeatherSyncConverter;
 import com.study.demo.testweatherapi.domain.weather.dto.response.WeatherSyncResDTO;
 import com.study.demo.testweatherapi.domain.weather.entity.RawMediumTermWeather;
 import com.study.demo.testweatherapi.domain.weather.entity.RawShortTermWeather;
 import com.study.demo.testweatherapi.domain.weather.entity.Region;
+import com.study.demo.testweatherapi.domain.weather.entity.RegionCode;
 import com.study.demo.testweatherapi.domain.weather.exception.WeatherErrorCode;
 import com.study.demo.testweatherapi.domain.weather.exception.WeatherException;
-import com.study.demo.testweatherapi.domain.weather.repository.RawMediumTermWeatherRepository;
-import com.study.demo.testweatherapi.domain.weather.repository.RawShortTermWeatherRepository;
+import com.study.demo.testweatherapi.domain.weather.parser.ShortTermForecastParser;
+import com.study.demo.testweatherapi.domain.weather.parser.ShortTermForecastRow;
+import com.study.demo.testweatherapi.domain.weather.parser.Typ01TextParser;
 import com.study.demo.testweatherapi.domain.weather.repository.RegionRepository;
+import com.study.demo.testweatherapi.global.client.HedgedRequestExecutor;
+import com.study.demo.testweatherapi.global.client.ResponseBodies;
+import com.study.demo.testweatherapi.global.config.WeatherCollectionConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -33,10 +42,15 @@ import java.util.regex.Pattern;
 public class WeatherDataCollectionService {
 
     private final WebClient webClient;
-    private final ObjectMapper objectMapper;
+    private final ShortTermForecastParser shortTermForecastParser;
+    private final Typ01TextParser typ01TextParser;
     private final RegionRepository regionRepository;
-    private final RawShortTermWeatherRepository shortTermWeatherRepository;
-    private final RawMediumTermWeatherRepository mediumTermWeatherRepository;
+    private final WeatherDataUpsertService upsertService;
+    private final WeatherCollectionConfig collectionConfig;
+    private final ExecutorService weatherVirtualThreadExecutor;
+    private final WeatherCollectionRetryQueue retryQueue;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+    private final WeatherRequestPlanner requestPlanner;
 
     @Value("${weather.api.key}")
     private String apiKey;
@@ -52,353 +66,529 @@ public class WeatherDataCollectionService {
 
     /**
      * 단기 예보 데이터 수집 및 저장
+     * API 호출/파싱은 트랜잭션 없이 진행하고, 지역별 저장만 WeatherDataUpsertService에서 각각 커밋
+     * (중간에 실패해도 이미 저장된 지역은 유지됨)
      */
-    @Transactional
     public WeatherSyncResDTO.ShortTermSyncResult collectShortTermWeatherData(
             List<Long> regionIds, LocalDate baseDate, String baseTime, boolean forceUpdate) {
 
         LocalDateTime startTime = LocalDateTime.now();
-        log.info("단기 예보 수집 시작: regionIds={}, baseDate={}, baseTime={}", regionIds, baseDate, baseTime);
+        log.info("단기 예보 수집 시작: regionIds={}, baseDate={}, baseTime={}, mode={}",
+                regionIds, baseDate, baseTime, collectionConfig.getShortTermMode());
 
-        List<Region> targetRegions = getTargetRegions(regionIds);
-        List<WeatherSyncResDTO.RegionSyncResult> regionResults = new ArrayList<>();
-        List<String> errorMessages = new ArrayList<>();
+        List<Region> requestedRegions = getTargetRegions(regionIds);
+        SyncAccumulator accumulator = new SyncAccumulator();
 
-        int totalDataPoints = 0, newDataPoints = 0, updatedDataPoints = 0;
-        int successfulRegions = 0, failedRegions = 0;
+        // 일일 호출 한도 내에서 격자별 호출 할당 (부족하면 우선순위 낮은 지역은 연기)
+        // 연기된 지역은 실패로 기록하지 않고 (재시도 큐에도 넣지 않음) 다음 주기 계획에서 우선순위를 올려 수집
+        WeatherRequestPlanner.Plan plan = requestPlanner.plan("SHORT_TERM", requestedRegions,
+                region -> List.of(GridCell.of(region).toString()));
+        accumulator.recordDeferred(plan.deferred());
 
-        for (Region region : targetRegions) {
-            long regionStartTime = System.currentTimeMillis();
+        List<Region> targetRegions = plan.selected();
+        Map<GridCell, List<Region>> regionsByCell = groupRegionsByGridCell(targetRegions);
 
-            try {
-                log.debug("지역 {} 단기 예보 수집 시작", region.getName());
+        log.debug("단기 예보 수집 대상: 지역 {}개 -> 격자 {}개", targetRegions.size(), regionsByCell.size());
 
-                // 1. 기상청 API 호출
-                String response = callShortTermWeatherApi(region, baseDate, baseTime);
+        switch (collectionConfig.getShortTermMode()) {
+            case REACTIVE -> collectShortTermWeatherDataReactive(
+                    regionsByCell, baseDate, baseTime, forceUpdate, accumulator);
+            case VIRTUAL_THREAD -> collectShortTermWeatherDataOnVirtualThreads(
+                    regionsByCell, baseDate, baseTime, forceUpdate, accumulator);
+            default -> {
+                for (Map.Entry<GridCell, List<Region>> entry : regionsByCell.entrySet()) {
+                    collectShortTermGridCell(entry.getKey(), entry.getValue(), baseDate, baseTime,
+                            forceUpdate, accumulator, null, null);
+                }
+            }
+        }
 
-                // 2. JSON 응답 파싱
-                List<RawShortTermWeather> weatherDataList = parseShortTermWeatherResponse(response, region);
+        // 실패 지역은 재시도 큐로 (다음 cron까지 기다리지 않음)
+        retryQueue.recordShortTermResults(accumulator.resultByRegionId(), baseDate, baseTime);
 
-                // 3. 데이터베이스 저장 (Upsert)
-                UpsertResult upsertResult = upsertShortTermWeatherData(weatherDataList, forceUpdate);
+        LocalDateTime endTime = LocalDateTime.now();
+        log.info("단기 예보 수집 완료: 성공 {}/{} 지역, 연기 {} 지역 (API 호출 {}회, 헤지 {}회), 신규 {}, 업데이트 {} 데이터",
+                accumulator.successfulRegions, requestedRegions.size(), accumulator.deferredRegions,
+                regionsByCell.size(), accumulator.hedgedRequests,
+                accumulator.newDataPoints, accumulator.updatedDataPoints);
 
-                totalDataPoints += upsertResult.totalProcessed();
-                newDataPoints += upsertResult.newRecords();
-                updatedDataPoints += upsertResult.updatedRecords();
-                successfulRegions++;
+        return WeatherSyncConverter.toShortTermSyncResult(
+                requestedRegions.size(), accumulator.successfulRegions, accumulator.failedRegions,
+                accumulator.deferredRegions, accumulator.totalDataPoints, accumulator.newDataPoints, accumulator.updatedDataPoints,
+                baseDate, baseTime, startTime, endTime, accumulator.hedgedRequests,
+                accumulator.regionResults, accumulator.errorMessages);
+    }
 
-                long processingTime = System.currentTimeMillis() - regionStartTime;
-                regionResults.add(WeatherSyncConverter.toRegionSyncResult(
-                        region.getId(), region.getName(), true,
-                        upsertResult.totalProcessed(), upsertResult.newRecords(), upsertResult.updatedRecords(),
-                        null, processingTime));
+    /**
+     * 격자 하나의 단기 예보 조회-파싱-저장 (SEQUENTIAL / VIRTUAL_THREAD 모드 공용)
+     * @param requestPermits 동시 API 요청 수 제한용 Semaphore (순차 실행이면 null)
+     * @param storePermits 동시 저장 트랜잭션 수 제한용 Semaphore (순차 실행이면 null)
+     */
+    private void collectShortTermGridCell(GridCell cell, List<Region> cellRegions, LocalDate baseDate, String baseTime,
+                                          boolean forceUpdate, SyncAccumulator accumulator,
+                                          Semaphore requestPermits, Semaphore storePermits) {
+        long cellStartTime = System.currentTimeMillis();
 
-                log.debug("지역 {} 단기 예보 수집 완료: 신규 {}, 업데이트 {}",
-                        region.getName(), upsertResult.newRecords(), upsertResult.updatedRecords());
+        List<ShortTermForecastRow> forecastRows;
+        try {
+            log.debug("격자 {} 단기 예보 수집 시작 (지역 {}개)", cell, cellRegions.size());
 
-            } catch (Exception e) {
-                failedRegions++;
-                long processingTime = System.currentTimeMillis() - regionStartTime;
-                String errorMessage = String.format("지역 %s 처리 실패: %s", region.getName(), e.getMessage());
-                errorMessages.add(errorMessage);
+            // 1. 기상청 API 호출 (격자당 1회)
+            byte[] response = withPermit(requestPermits, () -> callShortTermWeatherApi(cell, baseDate, baseTime, accumulator));
 
-                regionResults.add(WeatherSyncConverter.toRegionSyncResult(
-                        region.getId(), region.getName(), false, 0, 0, 0,
-                        errorMessage, processingTime));
+            // 2. JSON 응답 파싱 (격자당 1회)
+            forecastRows = parseShortTermWeatherResponse(response, cell);
+
+        } catch (Exception e) {
+            accumulator.recordFailure(cellRegions, e, System.currentTimeMillis() - cellStartTime);
+            log.error("격자 {} 단기 예보 수집 실패: 지역 {}", cell, regionNames(cellRegions), e);
+            return;
+        }
+
+        // 3. 같은 격자의 모든 지역에 저장 (Upsert)
+        storeShortTermForecastRows(forecastRows, cellRegions, forceUpdate, cellStartTime, accumulator, storePermits);
+    }
+
+    /**
+     * 단기 예보 수집 (VIRTUAL_THREAD 모드)
+     * 격자마다 가상 스레드 하나에서 조회-파싱-저장을 진행하고, 동시 API 요청 수와 동시 저장 트랜잭션 수를 각각 Semaphore로 제한
+     * 블로킹 호출이 가상 스레드만 묶어두므로 플랫폼 스레드 풀 크기와 무관하게 격자 수만큼 진행 가능하지만,
+     * 저장은 DB 커넥션 풀을 넘지 않도록 storeConcurrency개까지만 동시에 진행
+     */
+    private void collectShortTermWeatherDataOnVirtualThreads(
+            Map<GridCell, List<Region>> regionsByCell, LocalDate baseDate, String baseTime,
+            boolean forceUpdate, SyncAccumulator accumulator) {
+
+        Semaphore requestPermits = new Semaphore(Math.max(1, collectionConfig.getConcurrency()));
+        Semaphore storePermits = new Semaphore(Math.max(1, collectionConfig.getStoreConcurrency()));
+        log.debug("단기 예보 VIRTUAL_THREAD 수집: 격자 {}개, 동시 요청 제한={}, 동시 저장 제한={}",
+                regionsByCell.size(), requestPermits.availablePermits(), storePermits.availablePermits());
+
+        List<Future<?>> tasks = new ArrayList<>(regionsByCell.size());
+        for (Map.Entry<GridCell, List<Region>> entry : regionsByCell.entrySet()) {
+            tasks.add(weatherVirtualThreadExecutor.submit(() -> collectShortTermGridCell(
+                    entry.getKey(), entry.getValue(), baseDate, baseTime, forceUpdate, accumulator,
+                    requestPermits, storePermits)));
+        }
+
+        awaitAll(tasks);
+    }
 
-                log.error("지역 {} 단기 예보 수집 실패", region.getName(), e);
+    /**
+     * 단기 예보 수집 (REACTIVE 모드)
+     * 격자 목록을 Flux로 흘려보내며 최대 concurrency 개의 API 요청을 동시에 진행하고,
+     * 응답이 도착하는 순서대로 호출 스레드에서 파싱/저장한다.
+     * toIterable(prefetch)로 소비하므로 저장이 밀리면 새 요청 발행도 함께 멈춘다 (backpressure).
+     */
+    private void collectShortTermWeatherDataReactive(
+            Map<GridCell, List<Region>> regionsByCell, LocalDate baseDate, String baseTime,
+            boolean forceUpdate, SyncAccumulator accumulator) {
+
+        int concurrency = Math.max(1, collectionConfig.getConcurrency());
+        int prefetch = Math.max(1, collectionConfig.getPrefetch());
+        log.debug("단기 예보 REACTIVE 수집: 격자 {}개, concurrency={}, prefetch={}",
+                regionsByCell.size(), concurrency, prefetch);
+
+        Flux<ShortTermFetchResult> responses = Flux.fromIterable(regionsByCell.entrySet())
+                .flatMap(entry -> fetchShortTermWeather(entry.getKey(), entry.getValue(), baseDate, baseTime,
+                                accumulator),
+                        concurrency, prefetch);
+
+        for (ShortTermFetchResult fetchResult : responses.toIterable(prefetch)) {
+            List<Region> cellRegions = fetchResult.regions();
+
+            if (fetchResult.error() != null) {
+                accumulator.recordFailure(cellRegions, fetchResult.error(),
+                        System.currentTimeMillis() - fetchResult.startTimeMs());
+                continue;
             }
+
+            List<ShortTermForecastRow> forecastRows;
+            try {
+                forecastRows = parseShortTermWeatherResponse(fetchResult.response(), fetchResult.cell());
+            } catch (Exception e) {
+                accumulator.recordFailure(cellRegions, e, System.currentTimeMillis() - fetchResult.startTimeMs());
+                log.error("격자 {} 단기 예보 파싱 실패: 지역 {}", fetchResult.cell(), regionNames(cellRegions), e);
+                continue;
+            }
+
+            storeShortTermForecastRows(forecastRows, cellRegions, forceUpdate,
+                    fetchResult.startTimeMs(), accumulator, null);
         }
+    }
 
-        LocalDateTime endTime = LocalDateTime.now();
-        log.info("단기 예보 수집 완료: 성공 {}/{} 지역, 신규 {}, 업데이트 {} 데이터",
-                successfulRegions, targetRegions.size(), newDataPoints, updatedDataPoints);
+    /**
+     * 파싱된 격자 예보를 같은 격자의 각 지역에 저장하고 지역별 결과 기록
+     * @param storePermits 동시 저장 트랜잭션 수 제한용 Semaphore (호출 스레드에서만 저장하면 null)
+     */
+    private void storeShortTermForecastRows(List<ShortTermForecastRow> forecastRows, List<Region> cellRegions,
+                                            boolean forceUpdate, long cellStartTime, SyncAccumulator accumulator,
+                                            Semaphore storePermits) {
+        for (Region region : cellRegions) {
+            try {
+                List<RawShortTermWeather> weatherDataList = forecastRows.stream()
+                        .map(row -> row.toEntity(region))
+                        .toList();
+                WeatherDataUpsertService.UpsertResult upsertResult = withPermit(storePermits,
+                        () -> upsertService.upsertShortTermWeatherData(weatherDataList, forceUpdate));
 
-        return WeatherSyncConverter.toShortTermSyncResult(
-                targetRegions.size(), successfulRegions, failedRegions,
-                totalDataPoints, newDataPoints, updatedDataPoints,
-                baseDate, baseTime, startTime, endTime, regionResults, errorMessages);
+                accumulator.recordSuccess(region, upsertResult, System.currentTimeMillis() - cellStartTime);
+
+                log.debug("지역 {} 단기 예보 수집 완료: 신규 {}, 업데이트 {}",
+                        region.getName(), upsertResult.newRecords(), upsertResult.updatedRecords());
+
+            } catch (Exception e) {
+                accumulator.recordFailure(region, e, System.currentTimeMillis() - cellStartTime);
+                log.error("지역 {} 단기 예보 저장 실패", region.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * 단기예보 비동기 조회 (REACTIVE 모드용)
+     * 실패는 스트림을 끊지 않도록 결과 객체에 담아 전달
+     */
+    private Mono<ShortTermFetchResult> fetchShortTermWeather(
+            GridCell cell, List<Region> cellRegions, LocalDate baseDate, String baseTime,
+            SyncAccumulator accumulator) {
+        return Mono.defer(() -> {
+            long startTimeMs = System.currentTimeMillis();
+            return requestShortTermWeather(cell, baseDate, baseTime, accumulator)
+                    .map(response -> new ShortTermFetchResult(cell, cellRegions, response, null, startTimeMs))
+                    .onErrorResume(e -> {
+                        log.error("단기예보 API 호출 실패: gridX={}, gridY={}, baseDate={}, baseTime={}, 지역={}",
+                                cell.nx(), cell.ny(), baseDate, baseTime, regionNames(cellRegions), e);
+                        return Mono.just(new ShortTermFetchResult(cell, cellRegions, null,
+                                new WeatherException(WeatherErrorCode.SHORT_TERM_FORECAST_ERROR), startTimeMs));
+                    });
+        });
     }
 
     /**
      * 중기 예보 데이터 수집 및 저장
+     * 지역이 아닌 지역코드 기준으로 수집: landRegCode/tempRegCode별로 한 번씩만 호출/파싱한 뒤
+     * 해당 코드를 사용하는 모든 지역에 결합해서 저장
+     * 저장은 지역별 트랜잭션으로 커밋 (API 호출 중에는 DB 커넥션을 잡지 않음)
      */
-    @Transactional
     public WeatherSyncResDTO.MediumTermSyncResult collectMediumTermWeatherData(
             List<Long> regionIds, LocalDate tmfc, boolean forceUpdate) {
 
         LocalDateTime startTime = LocalDateTime.now();
-        log.info("중기 예보 수집 시작: regionIds={}, tmfc={}", regionIds, tmfc);
-
-        List<Region> targetRegions = getTargetRegions(regionIds);
-        List<WeatherSyncResDTO.RegionSyncResult> regionResults = new ArrayList<>();
-        List<String> errorMessages = new ArrayList<>();
-
-        int totalDataPoints = 0, newDataPoints = 0, updatedDataPoints = 0;
-        int successfulRegions = 0, failedRegions = 0;
+        log.info("중기 예보 수집 시작: regionIds={}, tmfc={}, bulk={}",
+                regionIds, tmfc, collectionConfig.isMediumTermBulk());
+
+        List<Region> requestedRegions = getTargetRegions(regionIds);
+        SyncAccumulator accumulator = new SyncAccumulator();
+        boolean bulk = collectionConfig.isMediumTermBulk();
+
+        // 일일 호출 한도 내에서 지역코드별 호출 할당 (bulk 모드는 육상/기온 각 1회)
+        WeatherRequestPlanner.Plan plan = requestPlanner.plan("MEDIUM_TERM", requestedRegions,
+                region -> mediumTermRequestKeys(region, bulk));
+        accumulator.recordDeferred(plan.deferred());
+        List<Region> targetRegions = plan.selected();
+
+        // 1. 수집 대상 지역코드 추출 (중복 제거)
+        Set<String> landRegCodes = new LinkedHashSet<>();
+        Set<String> tempRegCodes = new LinkedHashSet<>();
+        for (Region region : targetRegions) {
+            RegionCode regionCode = region.getRegionCode();
+            if (regionCode != null && regionCode.getLandRegCode() != null && regionCode.getTempRegCode() != null) {
+                landRegCodes.add(regionCode.getLandRegCode());
+                tempRegCodes.add(regionCode.getTempRegCode());
+            }
+        }
 
+        log.debug("중기 예보 수집 대상: 지역 {}개 -> 육상코드 {}개, 기온코드 {}개",
+                targetRegions.size(), landRegCodes.size(), tempRegCodes.size());
+
+        // 2. 기상청 API 호출 (육상 예보 + 기온 예보)
+        //    bulk 모드: 전체 구역 문서를 종류별 1회 / 기본: 지역코드별 1회
+        //    VIRTUAL_THREAD 모드: 지역코드별 호출을 가상 스레드로 동시에 진행 (동시 요청 수는 육상/기온 합산 제한)
+        Semaphore requestPermits = isMediumTermOnVirtualThreads()
+                ? new Semaphore(Math.max(1, collectionConfig.getConcurrency()))
+                : null;
+        CompletableFuture<MediumTermCodeData<MediumTermLandData>> landFuture = supplyMediumTermAsync(() -> bulk
+                ? fetchMediumTermDataInBulk(landRegCodes,
+                        this::callMediumTermLandWeatherApi, this::parseMediumTermLandData)
+                : fetchMediumTermDataByCode(landRegCodes,
+                        this::callMediumTermLandWeatherApi, this::parseMediumTermLandData, requestPermits));
+        CompletableFuture<MediumTermCodeData<MediumTermTempData>> tempFuture = supplyMediumTermAsync(() -> bulk
+                ? fetchMediumTermDataInBulk(tempRegCodes,
+                        this::callMediumTermTempWeatherApi, this::parseMediumTermTempData)
+                : fetchMediumTermDataByCode(tempRegCodes,
+                        this::callMediumTermTempWeatherApi, this::parseMediumTermTempData, requestPermits));
+
+        MediumTermCodeData<MediumTermLandData> landData = landFuture.join();
+        MediumTermCodeData<MediumTermTempData> tempData = tempFuture.join();
+
+        // 3. 지역별로 코드 데이터 결합 후 저장 (Upsert)
         for (Region region : targetRegions) {
             long regionStartTime = System.currentTimeMillis();
 
             try {
-                log.debug("지역 {} 중기 예보 수집 시작", region.getName());
-
-                // 1. 기상청 API 호출 (육상 예보 + 기온 예보)
-                CompletableFuture<String> landResponseFuture = CompletableFuture.supplyAsync(() ->
-                        callMediumTermLandWeatherApi(region, tmfc));
-                CompletableFuture<String> tempResponseFuture = CompletableFuture.supplyAsync(() ->
-                        callMediumTermTempWeatherApi(region, tmfc));
-
-                String landResponse = landResponseFuture.get();
-                String tempResponse = tempResponseFuture.get();
-
-                // 2. 텍스트 응답 파싱
-                List<RawMediumTermWeather> weatherDataList = parseMediumTermWeatherResponse(
-                        landResponse, tempResponse, region);
+                RegionCode regionCode = region.getRegionCode();
+                if (regionCode == null || regionCode.getLandRegCode() == null || regionCode.getTempRegCode() == null) {
+                    throw new WeatherException(WeatherErrorCode.INVALID_REGION_CODE);
+                }
 
-                // 3. 데이터베이스 저장 (Upsert)
-                UpsertResult upsertResult = upsertMediumTermWeatherData(weatherDataList, forceUpdate);
+                Map<MediumTermPeriod, MediumTermLandData> landDataMap = landData.get(regionCode.getLandRegCode());
+                Map<MediumTermPeriod, MediumTermTempData> tempDataMap = tempData.get(regionCode.getTempRegCode());
 
-                totalDataPoints += upsertResult.totalProcessed();
-                newDataPoints += upsertResult.newRecords();
-                updatedDataPoints += upsertResult.updatedRecords();
-                successfulRegions++;
+                List<RawMediumTermWeather> weatherDataList = joinMediumTermWeatherData(
+                        landDataMap, tempDataMap, region);
 
-                long processingTime = System.currentTimeMillis() - regionStartTime;
-                regionResults.add(WeatherSyncConverter.toRegionSyncResult(
-                        region.getId(), region.getName(), true,
-                        upsertResult.totalProcessed(), upsertResult.newRecords(), upsertResult.updatedRecords(),
-                        null, processingTime));
+                WeatherDataUpsertService.UpsertResult upsertResult =
+                        upsertService.upsertMediumTermWeatherData(weatherDataList, forceUpdate);
+                accumulator.recordSuccess(region, upsertResult, System.currentTimeMillis() - regionStartTime);
 
                 log.debug("지역 {} 중기 예보 수집 완료: 신규 {}, 업데이트 {}",
                         region.getName(), upsertResult.newRecords(), upsertResult.updatedRecords());
 
             } catch (Exception e) {
-                failedRegions++;
-                long processingTime = System.currentTimeMillis() - regionStartTime;
-                String errorMessage = String.format("지역 %s 처리 실패: %s", region.getName(), e.getMessage());
-                errorMessages.add(errorMessage);
-
-                regionResults.add(WeatherSyncConverter.toRegionSyncResult(
-                        region.getId(), region.getName(), false, 0, 0, 0,
-                        errorMessage, processingTime));
-
+                accumulator.recordFailure(region, e, System.currentTimeMillis() - regionStartTime);
                 log.error("지역 {} 중기 예보 수집 실패", region.getName(), e);
             }
         }
 
+        retryQueue.recordMediumTermResults(accumulator.resultByRegionId(), tmfc);
+
         LocalDateTime endTime = LocalDateTime.now();
-        log.info("중기 예보 수집 완료: 성공 {}/{} 지역, 신규 {}, 업데이트 {} 데이터",
-                successfulRegions, targetRegions.size(), newDataPoints, updatedDataPoints);
+        log.info("중기 예보 수집 완료: 성공 {}/{} 지역, 연기 {} 지역 (API 호출 {}회), 신규 {}, 업데이트 {} 데이터",
+                accumulator.successfulRegions, requestedRegions.size(), accumulator.deferredRegions,
+                bulk ? 2 : landRegCodes.size() + tempRegCodes.size(),
+                accumulator.newDataPoints, accumulator.updatedDataPoints);
 
         return WeatherSyncConverter.toMediumTermSyncResult(
-                targetRegions.size(), successfulRegions, failedRegions,
-                totalDataPoints, newDataPoints, updatedDataPoints,
-                tmfc, startTime, endTime, regionResults, errorMessages);
+                requestedRegions.size(), accumulator.successfulRegions, accumulator.failedRegions,
+                accumulator.deferredRegions, accumulator.totalDataPoints, accumulator.newDataPoints, accumulator.updatedDataPoints,
+                tmfc, startTime, endTime, accumulator.regionResults, accumulator.errorMessages);
     }
 
     /**
-     * 단기예보 API 호출
+     * 지역코드별 중기 예보 조회 및 파싱 (코드당 1회)
+     * 실패한 코드는 예외를 보관해 두었다가 해당 코드를 사용하는 지역 처리 시 전달
      */
-    private String callShortTermWeatherApi(Region region, LocalDate baseDate, String baseTime) {
+    private <T> MediumTermCodeData<T> fetchMediumTermDataByCode(
+            Set<String> regCodes, Function<String, byte[]> apiCall,
+            Function<byte[], Map<String, Map<MediumTermPeriod, T>>> parser, Semaphore requestPermits) {
+
+        if (requestPermits == null) {
+            MediumTermCodeData<T> codeData = new MediumTermCodeData<>();
+            for (String regCode : regCodes) {
+                fetchMediumTermDataForCode(regCode, apiCall, parser, codeData, null);
+            }
+            return codeData;
+        }
+
+        // VIRTUAL_THREAD 모드: 코드마다 가상 스레드 하나 (결과 맵은 동시 기록 가능하게)
+        MediumTermCodeData<T> codeData = new MediumTermCodeData<>(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        List<Future<?>> tasks = new ArrayList<>(regCodes.size());
+        for (String regCode : regCodes) {
+            tasks.add(weatherVirtualThreadExecutor.submit(() ->
+                    fetchMediumTermDataForCode(regCode, apiCall, parser, codeData, requestPermits)));
+        }
+        awaitAll(tasks);
+        return codeData;
+    }
+
+    private <T> void fetchMediumTermDataForCode(
+            String regCode, Function<String, byte[]> apiCall,
+            Function<byte[], Map<String, Map<MediumTermPeriod, T>>> parser,
+            MediumTermCodeData<T> codeData, Semaphore requestPermits) {
         try {
-            // BigDecimal 격자 좌표를 정수로 변환
-            int gridX = region.getGridX().intValue();  // 60.00 -> 60
-            int gridY = region.getGridY().intValue();  // 127.00 -> 127
+            byte[] response = withPermit(requestPermits, () -> apiCall.apply(regCode));
+            Map<String, Map<MediumTermPeriod, T>> parsed = parser.apply(response);
+            codeData.parsedData().put(regCode, parsed.getOrDefault(regCode, Collections.emptyMap()));
+        } catch (Exception e) {
+            codeData.failures().put(regCode, e);
+        }
+    }
 
-            log.debug("단기예보 API 호출: regionId={}, gridX={}, gridY={}, baseDate={}, baseTime={}",
-                    region.getId(), gridX, gridY, baseDate, baseTime);
+    /**
+     * 육상/기온 예보 조회를 비동기로 시작
+     * VIRTUAL_THREAD 모드면 가상 스레드, 아니면 기존처럼 공용 ForkJoinPool 사용
+     */
+    private <T> CompletableFuture<T> supplyMediumTermAsync(Supplier<T> supplier) {
+        return isMediumTermOnVirtualThreads()
+                ? CompletableFuture.supplyAsync(supplier, weatherVirtualThreadExecutor)
+                : CompletableFuture.supplyAsync(supplier);
+    }
 
-            String response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path(shortTermForecastUrl)  // "/VilageFcst"
-                            .queryParam("authKey", apiKey)
-                            .queryParam("pageNo", 1)
-                            .queryParam("numOfRows", 1052)
-                            .queryParam("dataType", "JSON")
-                            .queryParam("base_date", baseDate.format(DateTimeFormatter.ofPattern("yyyyMMdd")))
-                            .queryParam("base_time", baseTime)
-                            .queryParam("nx", gridX)
-                            .queryParam("ny", gridY)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+    private boolean isMediumTermOnVirtualThreads() {
+        return collectionConfig.getMediumTermMode() == WeatherCollectionConfig.ExecutionMode.VIRTUAL_THREAD;
+    }
+
+    /**
+     * 전체 구역 중기 예보를 한 번에 조회하고 REG_ID별로 분리 (bulk 모드)
+     * 문서 조회 자체가 실패하면 모든 대상 코드를 실패로 기록
+     */
+    private <T> MediumTermCodeData<T> fetchMediumTermDataInBulk(
+            Set<String> regCodes, Function<String, byte[]> apiCall,
+            Function<byte[], Map<String, Map<MediumTermPeriod, T>>> parser) {
+
+        MediumTermCodeData<T> codeData = new MediumTermCodeData<>();
+        if (regCodes.isEmpty()) {
+            return codeData;
+        }
 
-            if (response == null || response.trim().isEmpty()) {
-                throw new WeatherException(WeatherErrorCode.SHORT_TERM_FORECAST_ERROR);
+        try {
+            Map<String, Map<MediumTermPeriod, T>> parsed = parser.apply(apiCall.apply(null));
+            for (String regCode : regCodes) {
+                codeData.parsedData().put(regCode, parsed.getOrDefault(regCode, Collections.emptyMap()));
+            }
+            log.debug("중기 예보 bulk 파싱: 응답 구역 {}개, 대상 코드 {}개", parsed.size(), regCodes.size());
+        } catch (Exception e) {
+            for (String regCode : regCodes) {
+                codeData.failures().put(regCode, e);
             }
+        }
+
+        return codeData;
+    }
 
-            log.debug("단기예보 API 응답 수신 완료: regionId={}, 응답길이={}",
-                    region.getId(), response.length());
+    /**
+     * 단기예보 API 호출
+     */
+    private byte[] callShortTermWeatherApi(GridCell cell, LocalDate baseDate, String baseTime,
+                                           SyncAccumulator accumulator) {
+        try {
+            byte[] response = requestShortTermWeather(cell, baseDate, baseTime, accumulator).block();
+
+            log.debug("단기예보 API 응답 수신 완료: gridX={}, gridY={}, 응답크기={} bytes",
+                    cell.nx(), cell.ny(), response.length);
 
             return response;
 
         } catch (Exception e) {
-            log.error("단기예보 API 호출 실패: regionId={}, gridX={}, gridY={}, baseDate={}, baseTime={}",
-                    region.getId(), region.getGridX(), region.getGridY(), baseDate, baseTime, e);
+            log.error("단기예보 API 호출 실패: gridX={}, gridY={}, baseDate={}, baseTime={}",
+                    cell.nx(), cell.ny(), baseDate, baseTime, e);
             throw new WeatherException(WeatherErrorCode.SHORT_TERM_FORECAST_ERROR);
         }
     }
 
     /**
-     * 중기 육상 예보 API 호출
+     * 단기예보 API 요청 (구독 시점에 호출)
+     * 응답은 문자열로 디코딩하지 않고 바이트 그대로 파서에 전달
+     * 빈 응답은 SHORT_TERM_FORECAST_ERROR로 처리
      */
-    private String callMediumTermLandWeatherApi(Region region, LocalDate tmfc) {
-        try {
-            // RegionCode를 통해 landRegCode 가져오기
-            String landRegCode = region.getRegionCode() != null ?
-                    region.getRegionCode().getLandRegCode() : null;
+    private Mono<byte[]> requestShortTermWeather(GridCell cell, LocalDate baseDate, String baseTime,
+                                                 SyncAccumulator accumulator) {
+        log.debug("단기예보 API 호출: gridX={}, gridY={}, baseDate={}, baseTime={}",
+                cell.nx(), cell.ny(), baseDate, baseTime);
+
+        // 응답이 최근 응답 시간 백분위를 넘기면 같은 요청을 한 번 더 보내고 먼저 온 응답 사용 (설정 시)
+        return hedgedRequestExecutor.execute(shortTermForecastUrl,
+                () -> requestShortTermWeatherOnce(cell, baseDate, baseTime), accumulator::recordHedge);
+    }
 
-            if (landRegCode == null) {
-                throw new WeatherException(WeatherErrorCode.INVALID_REGION_CODE);
-            }
+    private Mono<byte[]> requestShortTermWeatherOnce(GridCell cell, LocalDate baseDate, String baseTime) {
+        return ResponseBodies.toBytes(webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(shortTermForecastUrl)  // "/VilageFcst"
+                        .queryParam("authKey", apiKey)
+                        .queryParam("pageNo", 1)
+                        .queryParam("numOfRows", 1052)
+                        .queryParam("dataType", "JSON")
+                        .queryParam("base_date", baseDate.format(DateTimeFormatter.ofPattern("yyyyMMdd")))
+                        .queryParam("base_time", baseTime)
+                        .queryParam("nx", cell.nx())
+                        .queryParam("ny", cell.ny())
+                        .build())
+                .retrieve())
+                .switchIfEmpty(Mono.error(() -> new WeatherException(WeatherErrorCode.SHORT_TERM_FORECAST_ERROR)));
+    }
 
-            log.debug("중기 육상예보 API 호출: regionId={}, landRegCode={}",
-                    region.getId(), landRegCode);
+    /**
+     * 중기 육상 예보 API 호출
+     * landRegCode가 null이면 reg 파라미터 없이 전체 구역 문서를 조회 (bulk 모드)
+     */
+    private byte[] callMediumTermLandWeatherApi(String landRegCode) {
+        try {
+            log.debug("중기 육상예보 API 호출: landRegCode={}", landRegCode);
 
-            String response = webClient.get()
+            byte[] response = ResponseBodies.toBytes(webClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path(mediumTermLandUrl)
                             .queryParam("authKey", apiKey)
-                            .queryParam("reg", landRegCode)  // RegionCode에서 가져온 landRegCode 사용
+                            .queryParamIfPresent("reg", Optional.ofNullable(landRegCode))  // null이면 전체 구역
                             .build())
-                    .retrieve()
-                    .bodyToMono(String.class)
+                    .retrieve())
                     .block();
 
-            if (response == null || response.trim().isEmpty()) {
+            if (response == null) {
                 throw new WeatherException(WeatherErrorCode.MEDIUM_TERM_FORECAST_ERROR);
             }
 
-            log.debug("중기 육상예보 API 응답 수신 완료: regionId={}, 응답길이={}",
-                    region.getId(), response.length());
+            log.debug("중기 육상예보 API 응답 수신 완료: landRegCode={}, 응답크기={} bytes",
+                    landRegCode, response.length);
 
             return response;
 
         } catch (Exception e) {
-            log.error("중기 육상 예보 API 호출 실패: regionId={}, landRegCode={}",
-                    region.getId(), region.getRegionCode().getLandRegCode(), e);
+            log.error("중기 육상 예보 API 호출 실패: landRegCode={}", landRegCode, e);
             throw new WeatherException(WeatherErrorCode.MEDIUM_TERM_FORECAST_ERROR);
         }
     }
 
     /**
      * 중기 기온 예보 API 호출
+     * tempRegCode가 null이면 reg 파라미터 없이 전체 구역 문서를 조회 (bulk 모드)
      */
-    private String callMediumTermTempWeatherApi(Region region, LocalDate tmfc) {
+    private byte[] callMediumTermTempWeatherApi(String tempRegCode) {
         try {
-            // RegionCode를 통해 tempRegCode 가져오기
-            String tempRegCode = region.getRegionCode() != null ?
-                    region.getRegionCode().getTempRegCode() : null;
-
-            if (tempRegCode == null) {
-                throw new WeatherException(WeatherErrorCode.INVALID_REGION_CODE);
-            }
-
-            log.debug("중기 기온예보 API 호출: regionId={}, tempRegCode={}",
-                    region.getId(), tempRegCode);
+            log.debug("중기 기온예보 API 호출: tempRegCode={}", tempRegCode);
 
-            String response = webClient.get()
+            byte[] response = ResponseBodies.toBytes(webClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path(mediumTermTempUrl)
                             .queryParam("authKey", apiKey)
-                            .queryParam("reg", tempRegCode)  // RegionCode에서 가져온 tempRegCode 사용
+                            .queryParamIfPresent("reg", Optional.ofNullable(tempRegCode))  // null이면 전체 구역
                             .build())
-                    .retrieve()
-                    .bodyToMono(String.class)
+                    .retrieve())
                     .block();
 
-            if (response == null || response.trim().isEmpty()) {
+            if (response == null) {
                 throw new WeatherException(WeatherErrorCode.MEDIUM_TERM_FORECAST_ERROR);
             }
 
-            log.debug("중기 기온예보 API 응답 수신 완료: regionId={}, 응답길이={}",
-                    region.getId(), response.length());
+            log.debug("중기 기온예보 API 응답 수신 완료: tempRegCode={}, 응답크기={} bytes",
+                    tempRegCode, response.length);
 
             return response;
 
         } catch (Exception e) {
-            log.error("중기 기온 예보 API 호출 실패: regionId={}, tempRegCode={}",
-                    region.getId(), region.getRegionCode().getTempRegCode(), e);
+            log.error("중기 기온 예보 API 호출 실패: tempRegCode={}", tempRegCode, e);
             throw new WeatherException(WeatherErrorCode.MEDIUM_TERM_FORECAST_ERROR);
         }
     }
 
     /**
-     * 단기 예보 JSON 응답 파싱
+     * 단기 예보 JSON 응답 파싱 (스트리밍 파서 사용)
      */
-    private List<RawShortTermWeather> parseShortTermWeatherResponse(String jsonResponse, Region region) {
+    private List<ShortTermForecastRow> parseShortTermWeatherResponse(byte[] jsonResponse, GridCell cell) {
         try {
-            JsonNode root = objectMapper.readTree(jsonResponse);
-            JsonNode items = root.path("response").path("body").path("items").path("item");
-
-            if (!items.isArray()) {
-                return Collections.emptyList();
-            }
-
-            // 동일한 시간대별로 데이터 그룹화
-            Map<String, Map<String, String>> groupedData = new HashMap<>();
+            List<ShortTermForecastRow> results = shortTermForecastParser.parse(jsonResponse);
 
-            for (JsonNode item : items) {
-                String baseDate = item.path("baseDate").asText();
-                String baseTime = item.path("baseTime").asText();
-                String fcstDate = item.path("fcstDate").asText();
-                String fcstTime = item.path("fcstTime").asText();
-                String category = item.path("category").asText();
-                String fcstValue = item.path("fcstValue").asText();
-
-                String key = String.join("_", baseDate, baseTime, fcstDate, fcstTime);
-                groupedData.computeIfAbsent(key, k -> new HashMap<>()).put(category, fcstValue);
-            }
-
-            List<RawShortTermWeather> results = new ArrayList<>();
-
-            for (Map.Entry<String, Map<String, String>> entry : groupedData.entrySet()) {
-                String[] keyParts = entry.getKey().split("_");
-                Map<String, String> values = entry.getValue();
-
-                // 필요한 카테고리(TMP, SKY, POP, PTY, PCP)가 모두 있는지 확인
-                if (hasRequiredCategories(values)) {
-                    RawShortTermWeather weather = RawShortTermWeather.builder()
-                            .region(region)
-                            .baseDate(LocalDate.parse(keyParts[0], DateTimeFormatter.ofPattern("yyyyMMdd")))
-                            .baseTime(keyParts[1])
-                            .fcstDate(LocalDate.parse(keyParts[2], DateTimeFormatter.ofPattern("yyyyMMdd")))
-                            .fcstTime(keyParts[3])
-                            .tmp(Double.parseDouble(values.get("TMP")))
-                            .sky(convertSkyValue(values.get("SKY")))
-                            .pop(Double.parseDouble(values.get("POP")))
-                            .pty(convertPtyValue(values.get("PTY")))
-                            .pcp(convertPcpValue(values.get("PCP")))
-                            .build();
-
-                    results.add(weather);
-                }
-            }
-
-            log.debug("단기예보 파싱 완료: regionId={}, 파싱된 데이터 수={}",
-                    region.getId(), results.size());
+            log.debug("단기예보 파싱 완료: gridX={}, gridY={}, 파싱된 데이터 수={}",
+                    cell.nx(), cell.ny(), results.size());
             return results;
 
         } catch (Exception e) {
-            log.error("단기 예보 JSON 파싱 실패: regionId={}", region.getId(), e);
+            log.error("단기 예보 JSON 파싱 실패: gridX={}, gridY={}", cell.nx(), cell.ny(), e);
             throw new WeatherException(WeatherErrorCode.API_RESPONSE_PARSING_ERROR);
         }
     }
 
     /**
-     * 중기 예보 텍스트 응답 파싱
+     * 파싱된 중기 육상/기온 예보를 발표/발효시각 기준으로 결합
      */
-    private List<RawMediumTermWeather> parseMediumTermWeatherResponse(
-            String landResponse, String tempResponse, Region region) {
+    private List<RawMediumTermWeather> joinMediumTermWeatherData(
+            Map<MediumTermPeriod, MediumTermLandData> landDataMap, Map<MediumTermPeriod, MediumTermTempData> tempDataMap,
+            Region region) {
         try {
-            Map<String, MediumTermLandData> landDataMap = parseMediumTermLandData(landResponse);
-            Map<String, MediumTermTempData> tempDataMap = parseMediumTermTempData(tempResponse);
-
             List<RawMediumTermWeather> results = new ArrayList<>();
 
-            for (String key : landDataMap.keySet()) {
+            for (MediumTermPeriod key : landDataMap.keySet()) {
                 MediumTermLandData landData = landDataMap.get(key);
                 MediumTermTempData tempData = tempDataMap.get(key);
 
@@ -413,8 +603,8 @@ public class WeatherDataCollectionService {
                         if (pop != null && minTmp != null && maxTmp != null) {
                             RawMediumTermWeather weather = RawMediumTermWeather.builder()
                                     .region(region)
-                                    .tmfc(LocalDate.parse(landData.tmfc().substring(0, 8), DateTimeFormatter.ofPattern("yyyyMMdd")))
-                                    .tmef(LocalDate.parse(landData.tmef().substring(0, 8), DateTimeFormatter.ofPattern("yyyyMMdd")))
+                                    .tmfc(landData.tmfc())
+                                    .tmef(landData.tmef())
                                     .sky(convertMediumTermSkyValue(landData.sky()))
                                     .pop(pop)
                                     .minTmp(minTmp)
@@ -440,7 +630,7 @@ public class WeatherDataCollectionService {
             return results;
 
         } catch (Exception e) {
-            log.error("중기 예보 텍스트 파싱 실패: regionId={}", region.getId(), e);
+            log.error("중기 예보 데이터 결합 실패: regionId={}", region.getId(), e);
             throw new WeatherException(WeatherErrorCode.API_RESPONSE_PARSING_ERROR);
         }
     }
@@ -458,39 +648,69 @@ public class WeatherDataCollectionService {
         }
     }
 
-    private boolean hasRequiredCategories(Map<String, String> values) {
-        return values.containsKey("TMP") && values.containsKey("SKY") &&
-                values.containsKey("POP") && values.containsKey("PTY") && values.containsKey("PCP");
+    /**
+     * 지역 하나의 중기 예보 수집에 필요한 호출 키 (지역코드가 없으면 호출 없음)
+     */
+    private List<String> mediumTermRequestKeys(Region region, boolean bulk) {
+        if (bulk) {
+            return List.of("land", "temp");
+        }
+        RegionCode regionCode = region.getRegionCode();
+        if (regionCode == null || regionCode.getLandRegCode() == null || regionCode.getTempRegCode() == null) {
+            return List.of();
+        }
+        return List.of("land:" + regionCode.getLandRegCode(), "temp:" + regionCode.getTempRegCode());
     }
 
-    private String convertSkyValue(String skyCode) {
-        return switch (skyCode) {
-            case "1" -> "맑음";
-            case "3" -> "구름많음";
-            case "4" -> "흐림";
-            default -> "알수없음";
-        };
+    /**
+     * 대상 지역을 격자 좌표(nx, ny)별로 묶기 (조회 순서 유지)
+     */
+    private Map<GridCell, List<Region>> groupRegionsByGridCell(List<Region> regions) {
+        Map<GridCell, List<Region>> regionsByCell = new LinkedHashMap<>();
+        for (Region region : regions) {
+            regionsByCell.computeIfAbsent(GridCell.of(region), cell -> new ArrayList<>()).add(region);
+        }
+        return regionsByCell;
     }
 
-    private String convertPtyValue(String ptyCode) {
-        return switch (ptyCode) {
-            case "0" -> "없음";
-            case "1" -> "비";
-            case "2" -> "비/눈";
-            case "3" -> "눈";
-            default -> "알수없음";
-        };
-    }
+    /**
+     * 동시 요청 제한 Semaphore를 잡고 호출 (null이면 제한 없이 바로 호출)
+     */
+    private <T> T withPermit(Semaphore permits, Supplier<T> call) {
+        if (permits == null) {
+            return call.get();
+        }
 
-    private Double convertPcpValue(String pcpValue) {
-        if ("강수없음".equals(pcpValue)) return 0.0;
+        permits.acquireUninterruptibly();
         try {
-            return Double.parseDouble(pcpValue.replaceAll("[^0-9.]", ""));
-        } catch (Exception e) {
-            return 0.0;
+            return call.get();
+        } finally {
+            permits.release();
         }
     }
 
+    /**
+     * 가상 스레드 작업이 모두 끝날 때까지 대기
+     * 개별 작업의 실패는 작업 안에서 지역별 결과로 기록되므로 여기서는 로그만 남김
+     */
+    private void awaitAll(List<Future<?>> tasks) {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                tasks.forEach(remaining -> remaining.cancel(true));
+                throw new WeatherException(WeatherErrorCode.DATA_COLLECTION_ERROR);
+            } catch (ExecutionException e) {
+                log.error("가상 스레드 수집 작업 실패", e.getCause());
+            }
+        }
+    }
+
+    private String regionNames(List<Region> regions) {
+        return regions.stream().map(Region::getName).toList().toString();
+    }
+
     private String convertMediumTermSkyValue(String skyCode) {
         return switch (skyCode) {
             case "WB01" -> "맑음";
@@ -501,140 +721,78 @@ public class WeatherDataCollectionService {
         };
     }
 
-    private UpsertResult upsertShortTermWeatherData(List<RawShortTermWeather> weatherDataList, boolean forceUpdate) {
-        int totalProcessed = 0, newRecords = 0, updatedRecords = 0;
-
-        for (RawShortTermWeather weatherData : weatherDataList) {
-            Optional<RawShortTermWeather> existingOpt = shortTermWeatherRepository
-                    .findByRegionIdAndBaseDateAndBaseTimeAndFcstDateAndFcstTime(
-                            weatherData.getRegion().getId(),
-                            weatherData.getBaseDate(),
-                            weatherData.getBaseTime(),
-                            weatherData.getFcstDate(),
-                            weatherData.getFcstTime()
-                    );
-
-            if (existingOpt.isEmpty()) {
-                shortTermWeatherRepository.save(weatherData);
-                newRecords++;
-            } else if (forceUpdate) {
-                // 기존 데이터 업데이트 로직
-                updatedRecords++;
-            }
-            totalProcessed++;
-        }
-
-        return new UpsertResult(totalProcessed, newRecords, updatedRecords);
-    }
-
-    private UpsertResult upsertMediumTermWeatherData(List<RawMediumTermWeather> weatherDataList, boolean forceUpdate) {
-        int totalProcessed = 0, newRecords = 0, updatedRecords = 0;
+    /**
+     * 중기 육상예보 응답 파싱 (REG_ID별로 분리)
+     * 지역코드 하나의 응답이든 전체 구역 응답(bulk)이든 한 번의 순회로 처리
+     */
+    private Map<String, Map<MediumTermPeriod, MediumTermLandData>> parseMediumTermLandData(byte[] response) {
+        Map<String, Map<MediumTermPeriod, MediumTermLandData>> result = new HashMap<>();
 
-        for (RawMediumTermWeather weatherData : weatherDataList) {
-            Optional<RawMediumTermWeather> existingOpt = mediumTermWeatherRepository
-                    .findByRegionIdAndTmfcAndTmef(
-                            weatherData.getRegion().getId(),
-                            weatherData.getTmfc(),
-                            weatherData.getTmef()
+        try {
+            boolean found = typ01TextParser.parse(response, row -> {
+                // 컬럼 구조: REG_ID TM_FC TM_EF MOD STN C SKY PRE CONF WF RN_ST
+                if (row.columnCount() >= 11) {
+                    MediumTermLandData landData = new MediumTermLandData(
+                            row.date(1),   // TM_FC
+                            row.date(2),   // TM_EF
+                            row.text(6),   // SKY
+                            row.text(10)   // RN_ST
                     );
 
-            if (existingOpt.isEmpty()) {
-                mediumTermWeatherRepository.save(weatherData);
-                newRecords++;
-            } else if (forceUpdate) {
-                // 기존 데이터 업데이트 로직
-                updatedRecords++;
-            }
-            totalProcessed++;
-        }
-
-        return new UpsertResult(totalProcessed, newRecords, updatedRecords);
-    }
-
-    private Map<String, MediumTermLandData> parseMediumTermLandData(String response) {
-        Map<String, MediumTermLandData> result = new HashMap<>();
-
-        try {
-            Pattern pattern = Pattern.compile("#START7777(.*?)#7777END", Pattern.DOTALL);
-            Matcher matcher = pattern.matcher(response);
-
-            if (matcher.find()) {
-                String data = matcher.group(1);
-                String[] lines = data.split("\n");
-
-                for (String line : lines) {
-                    if (line.trim().isEmpty() || line.startsWith("#")) continue;
-
-                    String[] parts = line.trim().split("\\s+");
-                    if (parts.length >= 11) {
-                        MediumTermLandData landData = new MediumTermLandData(
-                                parts[1],  // TM_FC
-                                parts[2],  // TM_EF
-                                parts[6],  // SKY
-                                parts[10]  // RN_ST
-                        );
-
-                        String key = parts[1] + "_" + parts[2];
-                        result.put(key, landData);
-                    }
+                    MediumTermPeriod key = new MediumTermPeriod(row.timestamp(1), row.timestamp(2));
+                    result.computeIfAbsent(row.text(0), regCode -> new HashMap<>()).put(key, landData);
                 }
+            });
+
+            if (!found) {
+                log.warn("중기 육상예보 응답에서 #START7777...#7777END 패턴을 찾을 수 없음");
             }
         } catch (Exception e) {
             log.error("중기 육상예보 파싱 실패", e);
         }
 
-        log.debug("중기 육상예보 파싱 완료: {} 건", result.size());
+        log.debug("중기 육상예보 파싱 완료: 지역코드 {}개", result.size());
         return result;
     }
 
-    private Map<String, MediumTermTempData> parseMediumTermTempData(String response) {
-        Map<String, MediumTermTempData> result = new HashMap<>();
+    /**
+     * 중기 기온예보 응답 파싱 (REG_ID별로 분리)
+     */
+    private Map<String, Map<MediumTermPeriod, MediumTermTempData>> parseMediumTermTempData(byte[] response) {
+        Map<String, Map<MediumTermPeriod, MediumTermTempData>> result = new HashMap<>();
 
         try {
-            Pattern pattern = Pattern.compile("#START7777(.*?)#7777END", Pattern.DOTALL);
-            Matcher matcher = pattern.matcher(response);
-
-            if (matcher.find()) {
-                String data = matcher.group(1);
-                String[] lines = data.split("\n");
-
-                for (String line : lines) {
-                    if (line.trim().isEmpty() || line.startsWith("#")) continue;
-
-                    String[] parts = line.trim().split("\\s+");
-                    // 컬럼 구조: REG_ID TM_FC TM_EF MOD STN C MIN MAX MIN_L MIN_H MAX_L MAX_H
-                    // parts[6] = MIN, parts[7] = MAX 이므로 길이는 최소 8이어야 함
-                    if (parts.length >= 8) {
-                        try {
-                            MediumTermTempData tempData = new MediumTermTempData(
-                                    parts[1],  // TM_FC
-                                    parts[2],  // TM_EF
-                                    parts[6],  // MIN (26, 25 등)
-                                    parts[7]   // MAX (34, 33 등)
-                            );
-
-                            String key = parts[1] + "_" + parts[2];
-                            result.put(key, tempData);
-
-                            log.trace("중기 기온예보 라인 파싱: key={}, min={}, max={}",
-                                    key, parts[6], parts[7]);
-                        } catch (Exception e) {
-                            log.warn("중기 기온예보 라인 파싱 실패 (스킵): line='{}', error={}",
-                                    line.trim(), e.getMessage());
-                        }
-                    } else {
-                        log.debug("중기 기온예보 라인 길이 부족 (스킵): line='{}', parts.length={}",
-                                line.trim(), parts.length);
-                    }
+            boolean found = typ01TextParser.parse(response, row -> {
+                // 컬럼 구조: REG_ID TM_FC TM_EF MOD STN C MIN MAX MIN_L MIN_H MAX_L MAX_H
+                // 6번 컬럼 = MIN, 7번 컬럼 = MAX 이므로 컬럼 수는 최소 8이어야 함
+                if (row.columnCount() >= 8) {
+                    MediumTermTempData tempData = new MediumTermTempData(
+                            row.date(1),   // TM_FC
+                            row.date(2),   // TM_EF
+                            row.text(6),   // MIN (26, 25 등)
+                            row.text(7)    // MAX (34, 33 등)
+                    );
+
+                    MediumTermPeriod key = new MediumTermPeriod(row.timestamp(1), row.timestamp(2));
+                    String regCode = row.text(0);
+                    result.computeIfAbsent(regCode, code -> new HashMap<>()).put(key, tempData);
+
+                    log.trace("중기 기온예보 라인 파싱: regCode={}, key={}, min={}, max={}",
+                            regCode, key, tempData.min(), tempData.max());
+                } else {
+                    log.debug("중기 기온예보 라인 컬럼 부족 (스킵): line='{}', columnCount={}",
+                            row.line(), row.columnCount());
                 }
-            } else {
+            });
+
+            if (!found) {
                 log.warn("중기 기온예보 응답에서 #START7777...#7777END 패턴을 찾을 수 없음");
             }
         } catch (Exception e) {
             log.error("중기 기온예보 전체 파싱 실패", e);
         }
 
-        log.debug("중기 기온예보 파싱 완료: {} 건", result.size());
+        log.debug("중기 기온예보 파싱 완료: 지역코드 {}개", result.size());
         return result;
     }
 
@@ -707,7 +865,107 @@ public class WeatherDataCollectionService {
 
     // ==== 내부 데이터 클래스들 ====
 
-    private record UpsertResult(int totalProcessed, int newRecords, int updatedRecords) {}
-    private record MediumTermLandData(String tmfc, String tmef, String sky, String rnSt) {}
-    private record MediumTermTempData(String tmfc, String tmef, String min, String max) {}
+    private record ShortTermFetchResult(
+            GridCell cell, List<Region> regions, byte[] response, Exception error, long startTimeMs) {}
+
+    /**
+     * 단기예보 격자 좌표 (BigDecimal 격자 좌표를 정수로 변환, 60.00 -> 60)
+     */
+    private record GridCell(int nx, int ny) {
+        private static GridCell of(Region region) {
+            return new GridCell(region.getGridX().intValue(), region.getGridY().intValue());
+        }
+    }
+
+    /**
+     * 중기예보 발표/발효시각 복합 키 (yyyyMMddHHmm 정수)
+     */
+    private record MediumTermPeriod(long tmfc, long tmef) {}
+
+    private record MediumTermLandData(LocalDate tmfc, LocalDate tmef, String sky, String rnSt) {}
+    private record MediumTermTempData(LocalDate tmfc, LocalDate tmef, String min, String max) {}
+
+    /**
+     * 지역코드별 파싱 결과 캐시 (한 번의 수집 실행 동안 유지)
+     */
+    private record MediumTermCodeData<T>(
+            Map<String, Map<MediumTermPeriod, T>> parsedData, Map<String, Exception> failures) {
+
+        private MediumTermCodeData() {
+            this(new HashMap<>(), new HashMap<>());
+        }
+
+        /**
+         * 지역코드의 파싱 결과 조회 (해당 코드 조회가 실패했으면 그 예외를 다시 던짐)
+         */
+        private Map<MediumTermPeriod, T> get(String regCode) throws Exception {
+            Exception failure = failures.get(regCode);
+            if (failure != null) {
+                throw failure;
+            }
+            return parsedData.getOrDefault(regCode, Collections.emptyMap());
+        }
+    }
+
+    /**
+     * 지역별 처리 결과 누적기
+     * VIRTUAL_THREAD 모드에서는 여러 스레드가 동시에 기록하므로 기록 메서드는 synchronized
+     */
+    private static class SyncAccumulator {
+        private final List<WeatherSyncResDTO.RegionSyncResult> regionResults = new ArrayList<>();
+        private final List<String> errorMessages = new ArrayList<>();
+        private int totalDataPoints, newDataPoints, updatedDataPoints;
+        private int successfulRegions, failedRegions, deferredRegions;
+        private int hedgedRequests;
+
+        private synchronized void recordSuccess(Region region, WeatherDataUpsertService.UpsertResult upsertResult, long processingTime) {
+            totalDataPoints += upsertResult.totalProcessed();
+            newDataPoints += upsertResult.newRecords();
+            updatedDataPoints += upsertResult.updatedRecords();
+            successfulRegions++;
+
+            regionResults.add(WeatherSyncConverter.toRegionSyncResult(
+                    region.getId(), region.getName(), true,
+                    upsertResult.totalProcessed(), upsertResult.newRecords(), upsertResult.updatedRecords(),
+                    null, processingTime));
+        }
+
+        /**
+         * 호출 할당 부족으로 이번 주기에서 제외된 지역 (실패와 별도로 집계, 지역별 결과에는 남기지 않음)
+         */
+        private synchronized void recordDeferred(List<Region> regions) {
+            deferredRegions += regions.size();
+        }
+
+        private synchronized void recordHedge() {
+            hedgedRequests++;
+        }
+
+        private synchronized void recordFailure(List<Region> regions, Exception e, long processingTime) {
+            for (Region region : regions) {
+                recordFailure(region, e, processingTime);
+            }
+        }
+
+        private synchronized void recordFailure(Region region, Exception e, long processingTime) {
+            failedRegions++;
+            String errorMessage = String.format("지역 %s 처리 실패: %s", region.getName(), e.getMessage());
+            errorMessages.add(errorMessage);
+
+            regionResults.add(WeatherSyncConverter.toRegionSyncResult(
+                    region.getId(), region.getName(), false, 0, 0, 0,
+                    errorMessage, processingTime));
+        }
+
+        /**
+         * 지역별 성공 여부 (같은 지역이 여러 번 기록되면 실패 우선)
+         */
+        private synchronized Map<Long, Boolean> resultByRegionId() {
+            Map<Long, Boolean> results = new LinkedHashMap<>();
+            for (WeatherSyncResDTO.RegionSyncResult result : regionResults) {
+                results.merge(result.regionId(), result.success(), Boolean::logicalAnd);
+            }
+            return results;
+        }
+    }
 }
@@ -0,0 +1,292 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.study.demo.testweatherapi.domain.weather.entity.CurrentShortTermForecast;
+import com.study.demo.testweatherapi.domain.weather.entity.RawMediumTermWeather;
+import com.study.demo.testweatherapi.domain.weather.entity.RawShortTermWeather;
+import com.study.demo.testweatherapi.domain.weather.repository.RawMediumTermWeatherRepository;
+import com.study.demo.testweatherapi.domain.weather.repository.RawShortTermWeatherRepository;
+import com.study.demo.testweatherapi.global.config.WeatherCollectionConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 수집한 예보 데이터 저장 전용 서비스
+ * API 호출/파싱은 트랜잭션 밖(WeatherDataCollectionService)에서 하고,
+ * 지역(또는 배치) 단위 쓰기만 짧은 트랜잭션으로 커밋한다
+ *
+ * NATIVE_UPSERT는 MySQL 영향 행 수로 신규/변경 여부를 판단하므로, 기동 시 연결이 영향 행 수(useAffectedRows=true)를
+ * 돌려주는지 확인하고 아니면 기동을 중단한다 (Connector/J 기본값은 찾은 행 수라 그대로 둔 중복 행도 1로 집계됨)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeatherDataUpsertService implements SmartInitializingSingleton {
+
+    /**
+     * 영향 행 수 확인용 임시 테이블 (연결 전용, 확인 후 삭제)
+     */
+    private static final String PROBE_TABLE = "upsert_affected_rows_probe";
+
+    private final RawShortTermWeatherRepository shortTermWeatherRepository;
+    private final RawMediumTermWeatherRepository mediumTermWeatherRepository;
+    private final WeatherCollectionConfig collectionConfig;
+    private final WeatherRecommendationDirtySet recommendationDirtySet;
+    private final CurrentShortTermForecastService currentShortTermForecastService;
+    private final DailyForecastAggregateService dailyForecastAggregateService;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * NATIVE_UPSERT 사용 시 영향 행 수 설정 확인 (스케줄러가 시작되기 전에 실행)
+     * 찾은 행 수로 집계되면 매 호출마다 입력 전체가 변경으로 보여 현재 예보 교체 / 추천 재생성이 항상 전체로 일어나므로
+     * 조용히 동작하지 않고 기동을 중단한다
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (collectionConfig.getShortTermUpsertStrategy() != WeatherCollectionConfig.UpsertStrategy.NATIVE_UPSERT
+                && collectionConfig.getMediumTermUpsertStrategy() != WeatherCollectionConfig.UpsertStrategy.NATIVE_UPSERT) {
+            return;
+        }
+
+        int unchangedDuplicateCount = probeUnchangedDuplicateCount();
+        if (unchangedDuplicateCount != 0) {
+            log.error("NATIVE_UPSERT는 영향 행 수 집계가 필요함: 그대로 둔 중복 행의 집계값={} (기대값 0)", unchangedDuplicateCount);
+            throw new IllegalStateException(
+                    "NATIVE_UPSERT 저장 방식은 JDBC URL에 useAffectedRows=true가 필요함 (현재 찾은 행 수로 집계됨)");
+        }
+        log.info("NATIVE_UPSERT 영향 행 수 집계 확인 완료");
+    }
+
+    /**
+     * 단기 예보 저장 (호출 단위로 커밋)
+     * 설정된 저장 방식(PER_ROW / BATCH / NATIVE_UPSERT)에 따라 처리
+     */
+    @Transactional
+    public UpsertResult upsertShortTermWeatherData(List<RawShortTermWeather> weatherDataList, boolean forceUpdate) {
+        switch (collectionConfig.getShortTermUpsertStrategy()) {
+            case BATCH -> {
+                return batchUpsertShortTermWeatherData(weatherDataList, forceUpdate);
+            }
+            case NATIVE_UPSERT -> {
+                int affectedRows = shortTermWeatherRepository.upsertAll(weatherDataList, forceUpdate);
+                // 영향 행 수만으로는 어떤 행이 바뀌었는지 알 수 없으므로 입력 전체를 재생성 대상으로 기록
+                if (affectedRows > 0) {
+                    applyShortTermChanges(weatherDataList);
+                }
+                return UpsertResult.fromAffectedRows(weatherDataList.size(), affectedRows, forceUpdate);
+            }
+            default -> { }
+        }
+
+        int totalProcessed = 0, newRecords = 0, updatedRecords = 0;
+        List<RawShortTermWeather> changedRows = new ArrayList<>();
+
+        for (RawShortTermWeather weatherData : weatherDataList) {
+            Optional<RawShortTermWeather> existingOpt = shortTermWeatherRepository
+                    .findByRegionIdAndBaseDateAndBaseTimeAndFcstDateAndFcstTime(
+                            weatherData.getRegion().getId(),
+                            weatherData.getBaseDate(),
+                            weatherData.getBaseTime(),
+                            weatherData.getFcstDate(),
+                            weatherData.getFcstTime()
+                    );
+
+            if (existingOpt.isEmpty()) {
+                shortTermWeatherRepository.save(weatherData);
+                changedRows.add(weatherData);
+                newRecords++;
+            } else if (forceUpdate) {
+                // 기존 데이터 업데이트 (변경 감지로 반영)
+                if (applyShortTermUpdate(existingOpt.get(), weatherData)) {
+                    changedRows.add(weatherData);
+                }
+                updatedRecords++;
+            }
+            totalProcessed++;
+        }
+
+        applyShortTermChanges(changedRows);
+        return new UpsertResult(totalProcessed, newRecords, updatedRecords);
+    }
+
+    /**
+     * 단기 예보 배치 Upsert
+     * (지역, 기준시각)별로 기존 데이터를 한 번에 조회한 뒤 없는 행만 JDBC 배치로 INSERT
+     * forceUpdate인 경우 기존 행은 변경 감지로 업데이트
+     */
+    private UpsertResult batchUpsertShortTermWeatherData(List<RawShortTermWeather> weatherDataList, boolean forceUpdate) {
+        int newRecords = 0, updatedRecords = 0;
+        List<RawShortTermWeather> changedRows = new ArrayList<>();
+
+        Map<ShortTermBaseKey, List<RawShortTermWeather>> dataByBase = new LinkedHashMap<>();
+        for (RawShortTermWeather weatherData : weatherDataList) {
+            dataByBase.computeIfAbsent(ShortTermBaseKey.of(weatherData), key -> new ArrayList<>()).add(weatherData);
+        }
+
+        for (Map.Entry<ShortTermBaseKey, List<RawShortTermWeather>> entry : dataByBase.entrySet()) {
+            ShortTermBaseKey baseKey = entry.getKey();
+
+            // 1. 기존 자연키(fcstDate, fcstTime) 한 번에 조회
+            Map<ForecastSlot, RawShortTermWeather> existingBySlot = new HashMap<>();
+            for (RawShortTermWeather existing : shortTermWeatherRepository.findByRegionIdAndBaseDateAndBaseTime(
+                    baseKey.regionId(), baseKey.baseDate(), baseKey.baseTime())) {
+                existingBySlot.put(ForecastSlot.of(existing), existing);
+            }
+
+            // 2. 신규/기존 분리
+            List<RawShortTermWeather> newRows = new ArrayList<>();
+            for (RawShortTermWeather weatherData : entry.getValue()) {
+                RawShortTermWeather existing = existingBySlot.get(ForecastSlot.of(weatherData));
+                if (existing == null) {
+                    newRows.add(weatherData);
+                } else if (forceUpdate) {
+                    if (applyShortTermUpdate(existing, weatherData)) {
+                        changedRows.add(weatherData);
+                    }
+                    updatedRecords++;
+                }
+            }
+
+            // 3. 신규 행만 배치 INSERT
+            newRecords += shortTermWeatherRepository.batchInsert(newRows);
+            changedRows.addAll(newRows);
+        }
+
+        applyShortTermChanges(changedRows);
+        return new UpsertResult(weatherDataList.size(), newRecords, updatedRecords);
+    }
+
+    /**
+     * 저장된(신규/변경) 단기 예보를 현재 예보, 일 집계, 추천 재생성 대상에 반영
+     * 원시 예보 이력과 같은 트랜잭션에서 현재 예보를 교체하므로 함께 커밋/롤백됨
+     */
+    private void applyShortTermChanges(List<RawShortTermWeather> changedRows) {
+        List<CurrentShortTermForecast> touchedCellRows = currentShortTermForecastService.swapIn(changedRows);
+        dailyForecastAggregateService.applyCurrentForecast(touchedCellRows);
+        recommendationDirtySet.markShortTerm(changedRows);
+    }
+
+    /**
+     * 기존 행에 새 예보 값 반영
+     * @return 값이 실제로 바뀌었는지 (추천 재생성 대상 판단용)
+     */
+    private boolean applyShortTermUpdate(RawShortTermWeather existing, RawShortTermWeather weatherData) {
+        boolean changed = !Objects.equals(existing.getTmp(), weatherData.getTmp())
+                || !Objects.equals(existing.getSky(), weatherData.getSky())
+                || !Objects.equals(existing.getPop(), weatherData.getPop())
+                || !Objects.equals(existing.getPty(), weatherData.getPty())
+                || !Objects.equals(existing.getPcp(), weatherData.getPcp());
+
+        existing.updateForecast(weatherData.getTmp(), weatherData.getSky(),
+                weatherData.getPop(), weatherData.getPty(), weatherData.getPcp());
+        return changed;
+    }
+
+    /**
+     * 중기 예보 저장 (호출 단위로 커밋)
+     */
+    @Transactional
+    public UpsertResult upsertMediumTermWeatherData(List<RawMediumTermWeather> weatherDataList, boolean forceUpdate) {
+        if (collectionConfig.getMediumTermUpsertStrategy() == WeatherCollectionConfig.UpsertStrategy.NATIVE_UPSERT) {
+            int affectedRows = mediumTermWeatherRepository.upsertAll(weatherDataList, forceUpdate);
+            if (affectedRows > 0) {
+                recommendationDirtySet.markMediumTerm(weatherDataList);
+            }
+            return UpsertResult.fromAffectedRows(weatherDataList.size(), affectedRows, forceUpdate);
+        }
+
+        int totalProcessed = 0, newRecords = 0, updatedRecords = 0;
+        List<RawMediumTermWeather> changedRows = new ArrayList<>();
+
+        for (RawMediumTermWeather weatherData : weatherDataList) {
+            Optional<RawMediumTermWeather> existingOpt = mediumTermWeatherRepository
+                    .findByRegionIdAndTmfcAndTmef(
+                            weatherData.getRegion().getId(),
+                            weatherData.getTmfc(),
+                            weatherData.getTmef()
+                    );
+
+            if (existingOpt.isEmpty()) {
+                mediumTermWeatherRepository.save(weatherData);
+                changedRows.add(weatherData);
+                newRecords++;
+            } else if (forceUpdate) {
+                // 기존 데이터 업데이트 (변경 감지로 반영)
+                RawMediumTermWeather existing = existingOpt.get();
+                if (!Objects.equals(existing.getSky(), weatherData.getSky())
+                        || !Objects.equals(existing.getPop(), weatherData.getPop())
+                        || !Objects.equals(existing.getMinTmp(), weatherData.getMinTmp())
+                        || !Objects.equals(existing.getMaxTmp(), weatherData.getMaxTmp())) {
+                    changedRows.add(weatherData);
+                }
+                existing.updateForecast(weatherData.getSky(), weatherData.getPop(),
+                        weatherData.getMinTmp(), weatherData.getMaxTmp());
+                updatedRecords++;
+            }
+            totalProcessed++;
+        }
+
+        recommendationDirtySet.markMediumTerm(changedRows);
+        return new UpsertResult(totalProcessed, newRecords, updatedRecords);
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    /**
+     * 같은 키로 no-op Upsert를 두 번 실행해 두 번째 문장의 집계값 확인
+     * 영향 행 수 모드면 0, 찾은 행 수 모드면 1
+     * 임시 테이블은 연결 전용이고 생성/삭제가 암묵적 커밋을 일으키지 않으므로 다른 데이터에 영향 없음
+     */
+    private int probeUnchangedDuplicateCount() {
+        return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMPORARY TABLE " + PROBE_TABLE + " (id INT PRIMARY KEY)");
+                try {
+                    String upsert = "INSERT INTO " + PROBE_TABLE + " (id) VALUES (1) ON DUPLICATE KEY UPDATE id = id";
+                    statement.executeUpdate(upsert);
+                    return statement.executeUpdate(upsert);
+                } finally {
+                    statement.execute("DROP TEMPORARY TABLE IF EXISTS " + PROBE_TABLE);
+                }
+            }
+        });
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    public record UpsertResult(int totalProcessed, int newRecords, int updatedRecords) {
+        /**
+         * MySQL 영향 행 수로부터 신규/갱신 건수 계산
+         * ON DUPLICATE KEY UPDATE id = id (forceUpdate 아님): 신규 행은 1, 그대로 둔 중복 행은 0
+         * ON DUPLICATE KEY UPDATE (forceUpdate): 신규 행은 1, 갱신 행은 2 (updated_at이 항상 바뀌므로 0은 나오지 않음)
+         * 그대로 둔 행이 0으로 집계되려면 useAffectedRows=true가 필요 (기동 시 afterSingletonsInstantiated에서 확인)
+         */
+        private static UpsertResult fromAffectedRows(int totalProcessed, int affectedRows, boolean forceUpdate) {
+            if (!forceUpdate) {
+                return new UpsertResult(totalProcessed, affectedRows, 0);
+            }
+            int updatedRecords = Math.max(0, affectedRows - totalProcessed);
+            return new UpsertResult(totalProcessed, affectedRows - 2 * updatedRecords, updatedRecords);
+        }
+    }
+
+    private record ShortTermBaseKey(Long regionId, LocalDate baseDate, String baseTime) {
+        private static ShortTermBaseKey of(RawShortTermWeather weather) {
+            return new ShortTermBaseKey(weather.getRegion().getId(), weather.getBaseDate(), weather.getBaseTime());
+        }
+    }
+
+    private record ForecastSlot(LocalDate fcstDate, String fcstTime) {
+        private static ForecastSlot of(RawShortTermWeather weather) {
+            return new ForecastSlot(weather.getFcstDate(), weather.getFcstTime());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.study.demo.testweatherapi.domain.weather.entity.RawMediumTermWeather;
+import com.study.demo.testweatherapi.domain.weather.entity.RawShortTermWeather;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 추천 재생성 대상 (지역, 예보일) 집합
+ * 수집 저장 단계에서 원시 예보가 새로 들어왔거나 값이 바뀐 칸만 기록하고,
+ * 정기 추천 생성은 이 칸만 꺼내 다시 계산한다 (전체 재계산은 하루 1회 안전망으로만 실행)
+ *
+ * 메모리에만 보관하므로 재시작 시 유실될 수 있으며, 이 경우도 하루 1회 전체 재계산에서 보정된다
+ */
+@Slf4j
+@Component
+public class WeatherRecommendationDirtySet {
+
+    private final Set<DirtyCell> cells = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 단기 예보 저장 결과 반영 (행마다 (지역, 예보일) 기록)
+     */
+    public void markShortTerm(Collection<RawShortTermWeather> changedRows) {
+        List<DirtyCell> dirtyCells = new ArrayList<>(changedRows.size());
+        for (RawShortTermWeather row : changedRows) {
+            dirtyCells.add(new DirtyCell(row.getRegion().getId(), row.getFcstDate()));
+        }
+        mark(dirtyCells);
+    }
+
+    /**
+     * 중기 예보 저장 결과 반영 (행마다 (지역, 발효일) 기록)
+     */
+    public void markMediumTerm(Collection<RawMediumTermWeather> changedRows) {
+        List<DirtyCell> dirtyCells = new ArrayList<>(changedRows.size());
+        for (RawMediumTermWeather row : changedRows) {
+            dirtyCells.add(new DirtyCell(row.getRegion().getId(), row.getTmef()));
+        }
+        mark(dirtyCells);
+    }
+
+    /**
+     * 날짜 범위 안의 재생성 대상을 꺼내 지역별 날짜 묶음으로 반환
+     * 범위 밖 칸은 남겨 두고, 이미 지난 날짜는 재생성 의미가 없으므로 버림
+     */
+    public Map<Long, Set<LocalDate>> drain(LocalDate startDate, LocalDate endDate) {
+        LocalDate today = LocalDate.now();
+        Map<Long, Set<LocalDate>> datesByRegion = new LinkedHashMap<>();
+
+        for (Iterator<DirtyCell> iterator = cells.iterator(); iterator.hasNext(); ) {
+            DirtyCell cell = iterator.next();
+
+            if (cell.forecastDate().isBefore(today)) {
+                iterator.remove();
+                continue;
+            }
+            if (cell.forecastDate().isBefore(startDate) || cell.forecastDate().isAfter(endDate)) {
+                continue;
+            }
+
+            iterator.remove();
+            datesByRegion.computeIfAbsent(cell.regionId(), key -> new TreeSet<>()).add(cell.forecastDate());
+        }
+
+        return datesByRegion;
+    }
+
+    /**
+     * 꺼냈지만 재생성에 실패한 칸을 다시 기록 (다음 주기에 재시도)
+     */
+    public void restore(Map<Long, Set<LocalDate>> datesByRegion) {
+        datesByRegion.forEach((regionId, dates) ->
+                dates.forEach(date -> cells.add(new DirtyCell(regionId, date))));
+    }
+
+    public int size() {
+        return cells.size();
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 기록
+     * 커밋 전에 기록하면 추천 생성이 칸을 먼저 꺼내 커밋 전 데이터로 계산하고 변경을 놓칠 수 있음
+     */
+    private void mark(List<DirtyCell> dirtyCells) {
+        if (dirtyCells.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cells.addAll(dirtyCells);
+                }
+            });
+        } else {
+            cells.addAll(dirtyCells);
+        }
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    public record DirtyCell(Long regionId, LocalDate forecastDate) {}
+}
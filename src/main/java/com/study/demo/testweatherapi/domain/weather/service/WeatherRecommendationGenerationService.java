@@ -2,39 +2,49 @@ package com.study.demo.testweatherapi.domain.weather.service;
 
 import com.study.demo.testweatherapi.domain.weather.converter.WeatherSyncConverter;
 import com.study.demo.testweatherapi.domain.weather.dto.response.WeatherSyncResDTO;
-import com.study.demo.testweatherapi.domain.weather.entity.*;
-import com.study.demo.testweatherapi.domain.weather.entity.enums.WeatherType;
-import com.study.demo.testweatherapi.domain.weather.exception.WeatherErrorCode;
-import com.study.demo.testweatherapi.domain.weather.exception.WeatherException;
-import com.study.demo.testweatherapi.domain.weather.repository.*;
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+import com.study.demo.testweatherapi.domain.weather.entity.WeatherTemplate;
+import com.study.demo.testweatherapi.domain.weather.repository.RegionRepository;
+import com.study.demo.testweatherapi.domain.weather.repository.WeatherTemplateRepository;
+import com.study.demo.testweatherapi.domain.weather.service.WeatherRecommendationPartitionService.PartitionResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+/**
+ * 날씨 추천 정보 생성
+ * 대상 지역을 파티션(지역 묶음)으로 나눠 recommendationTaskExecutor에서 병렬로 처리하고,
+ * 파티션마다 독립된 트랜잭션(WeatherRecommendationPartitionService)으로 커밋한 뒤 결과를 합친다
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WeatherRecommendationGenerationService {
 
     private final RegionRepository regionRepository;
-    private final RawShortTermWeatherRepository shortTermWeatherRepository;
-    private final RawMediumTermWeatherRepository mediumTermWeatherRepository;
     private final WeatherTemplateRepository weatherTemplateRepository;
-    private final DailyRecommendationRepository dailyRecommendationRepository;
-    private final WeatherClassificationService classificationService;
+    private final WeatherRecommendationPartitionService partitionService;
+    private final WeatherRecommendationDirtySet recommendationDirtySet;
+    private final RecommendationVersionService versionService;
+    private final Executor recommendationTaskExecutor;
+
+    // 파티션 하나에 묶는 지역 수 (파티션마다 일괄 조회 1회 + 트랜잭션 1개)
+    @Value("${scheduler.weather.recommendation.partition-size:100}")
+    private int partitionSize;
 
     /**
      * 날씨 추천 정보 생성 (메인 메서드)
      * 지정된 지역들과 날짜 범위에 대해 추천 정보 생성
      */
-    @Transactional
     public WeatherSyncResDTO.RecommendationGenerationResult generateRecommendations(
             List<Long> regionIds, LocalDate startDate, LocalDate endDate, boolean forceRegenerate) {
         // 기존 호환성을 위한 오버로드
@@ -44,7 +54,6 @@ public class WeatherRecommendationGenerationService {
     /**
      * 날씨 추천 정보 생성 (타입별 처리 추가)
      */
-    @Transactional
     public WeatherSyncResDTO.RecommendationGenerationResult generateRecommendations(
             List<Long> regionIds, LocalDate startDate, LocalDate endDate,
             boolean forceRegenerate, String recommendationType) {
@@ -54,299 +63,137 @@ public class WeatherRecommendationGenerationService {
                 recommendationType, regionIds, startDate, endDate, forceRegenerate);
 
         List<Region> targetRegions = getTargetRegions(regionIds);
-        List<WeatherSyncResDTO.RegionRecommendationResult> regionResults = new ArrayList<>();
-        List<String> errorMessages = new ArrayList<>();
-        Map<WeatherType, Integer> weatherStats = new HashMap<>();
-
-        int totalRecommendations = 0, newRecommendations = 0, updatedRecommendations = 0;
-        int successfulRegions = 0, failedRegions = 0;
-
-        // 템플릿 데이터 미리 로드
-        List<WeatherTemplate> allTemplates = weatherTemplateRepository.findAllWithKeywords();
-        Map<String, WeatherTemplate> templateMap = createTemplateMap(allTemplates);
-        log.debug("{} 추천 생성: 템플릿 맵 생성 완료 ({}개)", recommendationType, templateMap.size());
-
-        for (Region region : targetRegions) {
-            long regionStartTime = System.currentTimeMillis();
-
-            try {
-                log.debug("{} 추천 생성: 지역 {} 처리 시작", recommendationType, region.getName());
-
-                RegionRecommendationResult regionResult = generateRecommendationsForRegion(
-                        region, startDate, endDate, forceRegenerate, templateMap, recommendationType);
-
-                totalRecommendations += regionResult.recommendationsGenerated();
-                newRecommendations += regionResult.newRecommendations();
-                updatedRecommendations += regionResult.updatedRecommendations();
-                successfulRegions++;
-
-                // 날씨 타입별 통계 업데이트
-                updateWeatherStats(weatherStats, regionResult.weatherTypeStats());
-
-                long processingTime = System.currentTimeMillis() - regionStartTime;
-                regionResults.add(new WeatherSyncResDTO.RegionRecommendationResult(
-                        region.getId(), region.getName(), true,
-                        regionResult.recommendationsGenerated(),
-                        regionResult.newRecommendations(),
-                        regionResult.updatedRecommendations(),
-                        regionResult.processedDates(),
-                        null, processingTime));
-
-                log.debug("{} 추천 생성: 지역 {} 완료 - 신규 {}, 업데이트 {}, 처리시간 {}ms",
-                        recommendationType, region.getName(),
-                        regionResult.newRecommendations(), regionResult.updatedRecommendations(), processingTime);
-
-            } catch (Exception e) {
-                failedRegions++;
-                long processingTime = System.currentTimeMillis() - regionStartTime;
-                String errorMessage = String.format("지역 %s 추천 생성 실패: %s", region.getName(), e.getMessage());
-                errorMessages.add(errorMessage);
-
-                regionResults.add(new WeatherSyncResDTO.RegionRecommendationResult(
-                        region.getId(), region.getName(), false, 0, 0, 0,
-                        Collections.emptyList(), errorMessage, processingTime));
-
-                log.error("{} 추천 생성: 지역 {} 실패", recommendationType, region.getName(), e);
-            }
-        }
-
-        LocalDateTime endTime = LocalDateTime.now();
-        log.info("{} 추천 정보 생성 완료: 성공 {}/{} 지역, 신규 {}, 업데이트 {} 추천, 처리시간 {}ms",
-                recommendationType, successfulRegions, targetRegions.size(),
-                newRecommendations, updatedRecommendations,
-                ChronoUnit.MILLIS.between(startTime, endTime));
-
-        return WeatherSyncConverter.toRecommendationGenerationResult(
-                targetRegions.size(), successfulRegions, failedRegions,
-                totalRecommendations, newRecommendations, updatedRecommendations,
-                startDate, endDate, startTime, endTime, regionResults, weatherStats, errorMessages);
+        return generateForRegions(targetRegions, startDate, endDate, forceRegenerate, null,
+                recommendationType, startTime);
     }
 
     /**
-     * 특정 지역에 대한 추천 정보 생성
+     * 변경된 예보 칸만 추천 재생성 (정기 실행용)
+     * 수집 단계에서 기록한 (지역, 예보일) 중 날짜 범위 안의 칸만 꺼내 강제 재생성하고,
+     * 실패한 지역의 칸과 성공한 지역 중 생성하지 못한 날짜의 칸은 다음 주기에 다시 시도하도록 되돌려 놓음
      */
-    private RegionRecommendationResult generateRecommendationsForRegion(
-            Region region, LocalDate startDate, LocalDate endDate, boolean forceRegenerate,
-            Map<String, WeatherTemplate> templateMap, String recommendationType) {
-
-        int recommendationsGenerated = 0, newRecommendations = 0, updatedRecommendations = 0;
-        List<String> processedDates = new ArrayList<>();
-        Map<WeatherType, Integer> weatherTypeStats = new HashMap<>();
+    public WeatherSyncResDTO.RecommendationGenerationResult generateDirtyRecommendations(
+            LocalDate startDate, LocalDate endDate, String recommendationType) {
 
-        // 날짜별로 추천 정보 생성
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            try {
-                long daysFromToday = ChronoUnit.DAYS.between(LocalDate.now(), currentDate);
-
-                // 타입별 로깅 개선
-                log.debug("{} 추천 생성: {} 지역 {} ({}일후)",
-                        recommendationType, region.getName(), currentDate, daysFromToday);
-
-                RecommendationResult result = generateRecommendationForDate(
-                        region, currentDate, forceRegenerate, templateMap);
-
-                if (result != null) {
-                    recommendationsGenerated++;
-                    if (result.isNew()) {
-                        newRecommendations++;
-                    } else {
-                        updatedRecommendations++;
-                    }
-
-                    processedDates.add(currentDate.toString());
-                    weatherTypeStats.merge(result.weatherType(), 1, Integer::sum);
-
-                    log.trace("날짜 {} 추천 {}됨: {}", currentDate,
-                            result.isNew() ? "생성" : "업데이트", result.weatherType());
+        LocalDateTime startTime = LocalDateTime.now();
+        Map<Long, Set<LocalDate>> dirtyDatesByRegion = recommendationDirtySet.drain(startDate, endDate);
+        int dirtyCells = dirtyDatesByRegion.values().stream().mapToInt(Set::size).sum();
+        log.info("{} 변경분 추천 생성 시작: startDate={}, endDate={}, 대상 지역 {}개, 대상 칸 {}개 (남은 칸 {}개)",
+                recommendationType, startDate, endDate, dirtyDatesByRegion.size(), dirtyCells,
+                recommendationDirtySet.size());
+
+        List<Region> targetRegions = dirtyDatesByRegion.isEmpty()
+                ? List.of()
+                : regionRepository.findAllById(dirtyDatesByRegion.keySet());
+
+        WeatherSyncResDTO.RecommendationGenerationResult result = generateForRegions(
+                targetRegions, startDate, endDate, true, dirtyDatesByRegion, recommendationType, startTime);
+
+        Map<Long, Set<LocalDate>> failedDatesByRegion = new HashMap<>();
+        for (WeatherSyncResDTO.RegionRecommendationResult regionResult : result.regionResults()) {
+            Set<LocalDate> dirtyDates = dirtyDatesByRegion.get(regionResult.regionId());
+            if (!regionResult.success()) {
+                failedDatesByRegion.put(regionResult.regionId(), dirtyDates);
+            } else if (!regionResult.failedDates().isEmpty()) {
+                Set<LocalDate> failedDates = new TreeSet<>();
+                for (String failedDate : regionResult.failedDates()) {
+                    failedDates.add(LocalDate.parse(failedDate));
                 }
-
-            } catch (Exception e) {
-                log.warn("지역 {} 날짜 {} 추천 생성 실패: {}",
-                        region.getName(), currentDate, e.getMessage());
+                failedDates.retainAll(dirtyDates);
+                failedDatesByRegion.put(regionResult.regionId(), failedDates);
             }
-
-            currentDate = currentDate.plusDays(1);
         }
-
-        log.debug("지역 {} 추천 생성 완료: 처리일수 {}, 생성 {}, 업데이트 {}",
-                region.getName(), processedDates.size(), newRecommendations, updatedRecommendations);
-
-        return new RegionRecommendationResult(
-                recommendationsGenerated, newRecommendations, updatedRecommendations,
-                processedDates, weatherTypeStats);
-    }
-
-    /**
-     * 특정 지역의 특정 날짜에 대한 추천 정보 생성
-     */
-    private RecommendationResult generateRecommendationForDate(
-            Region region, LocalDate date, boolean forceRegenerate,
-            Map<String, WeatherTemplate> templateMap) {
-
-        // 1. 기존 추천 정보 확인
-        Optional<DailyRecommendation> existingRecommendation =
-                dailyRecommendationRepository.findByRegionIdAndDateWithTemplate(region.getId(), date);
-
-        if (existingRecommendation.isPresent() && !forceRegenerate) {
-            log.trace("기존 추천 정보 존재하여 스킵: regionId={}, date={}", region.getId(), date);
-            return null;
+        if (!failedDatesByRegion.isEmpty()) {
+            recommendationDirtySet.restore(failedDatesByRegion);
+            log.warn("{} 변경분 추천 생성 실패 칸 {}개 (지역 {}개)를 다음 주기로 이월", recommendationType,
+                    failedDatesByRegion.values().stream().mapToInt(Set::size).sum(), failedDatesByRegion.size());
         }
 
-        // 2. 날씨 데이터 분류
-        WeatherClassificationService.WeatherClassificationResult classification =
-                classifyWeatherForDate(region, date);
-
-        if (!classification.isValid()) {
-            log.warn("유효하지 않은 날씨 분류 결과: regionId={}, date={}, classification={}",
-                    region.getId(), date, classification.getSummary());
-            return null;
-        }
-
-        // 3. 템플릿 매칭
-        WeatherTemplate matchedTemplate = findMatchingTemplate(classification, templateMap);
-
-        if (matchedTemplate == null) {
-            log.warn("매칭되는 템플릿 없음: regionId={}, date={}, classification={}",
-                    region.getId(), date, classification.getSummary());
-            return null;
-        }
-
-        // 4. 추천 정보 저장
-        boolean isNew = existingRecommendation.isEmpty();
-        DailyRecommendation recommendation = saveOrUpdateRecommendation(
-                existingRecommendation.orElse(null), region, date, matchedTemplate);
-
-        log.trace("추천 정보 {}됨: regionId={}, date={}, template={}, weatherType={}",
-                isNew ? "생성" : "업데이트", region.getId(), date,
-                matchedTemplate.getId(), classification.weatherType());
-
-        return new RecommendationResult(classification.weatherType(), isNew);
+        return result;
     }
 
+    // ==== 유틸리티 메서드들 ====
+
     /**
-     * 특정 날짜의 날씨 데이터 분류
-     * 실제 데이터 존재 여부를 확인해서 적절한 예보 사용
+     * 대상 지역을 파티션으로 나눠 병렬 생성 후 결과 합산
+     * 실행마다 새 버전을 발급받아 그 버전으로 쓰고, 모든 파티션이 끝나면 버전을 한 번에 공개
      */
-    private WeatherClassificationService.WeatherClassificationResult classifyWeatherForDate(
-            Region region, LocalDate date) {
-        LocalDate today = LocalDate.now();
-        long daysFromToday = ChronoUnit.DAYS.between(today, date);
+    private WeatherSyncResDTO.RecommendationGenerationResult generateForRegions(
+            List<Region> targetRegions, LocalDate startDate, LocalDate endDate, boolean forceRegenerate,
+            Map<Long, Set<LocalDate>> targetDatesByRegion, String recommendationType, LocalDateTime startTime) {
 
-        // 1. 먼저 단기예보 데이터 확인 (우선순위 높음)
-        List<RawShortTermWeather> shortTermData =
-                shortTermWeatherRepository.findLatestByRegionIdAndFcstDate(region.getId(), date);
+        // 템플릿 데이터 미리 로드 (모든 파티션이 읽기 전용으로 공유)
+        List<WeatherTemplate> allTemplates = weatherTemplateRepository.findAllWithKeywords();
+        Map<String, WeatherTemplate> templateMap = Map.copyOf(createTemplateMap(allTemplates));
+        log.debug("{} 추천 생성: 템플릿 맵 생성 완료 ({}개)", recommendationType, templateMap.size());
 
-        if (!shortTermData.isEmpty()) {
-            log.trace("단기예보 데이터 사용: regionId={}, date={}, 데이터 수={}, daysFromToday={}",
-                    region.getId(), date, shortTermData.size(), daysFromToday);
-            return classificationService.classifyShortTermWeather(shortTermData, region.getId(), date);
+        List<List<Region>> partitions = partitionRegions(targetRegions);
+        Long generationVersion = partitions.isEmpty() ? null : versionService.allocate();
+        log.debug("{} 추천 생성: 지역 {}개를 파티션 {}개로 분할 (파티션 크기 {}, 버전 {})",
+                recommendationType, targetRegions.size(), partitions.size(), partitionSize, generationVersion);
+
+        List<CompletableFuture<PartitionResult>> tasks = new ArrayList<>(partitions.size());
+        for (List<Region> partition : partitions) {
+            tasks.add(CompletableFuture.supplyAsync(() -> generatePartition(
+                            partition, startDate, endDate, forceRegenerate, targetDatesByRegion, generationVersion,
+                            templateMap, recommendationType),
+                    recommendationTaskExecutor));
         }
 
-        // 2. 단기예보 데이터가 없으면 중기예보 데이터 확인
-        List<RawMediumTermWeather> mediumTermData =
-                mediumTermWeatherRepository.findLatestByRegionIdAndTmef(region.getId(), date);
+        // 파티션 결과는 각자 불변 객체로 돌아오므로 호출 스레드에서 순서대로 합침 (공유 카운터/락 없음)
+        PartitionResult result = tasks.stream()
+                .map(CompletableFuture::join)
+                .reduce(PartitionResult.EMPTY, PartitionResult::merge);
 
-        if (!mediumTermData.isEmpty()) {
-            log.trace("중기예보 데이터 사용: regionId={}, date={}, 데이터 수={}, daysFromToday={}",
-                    region.getId(), date, mediumTermData.size(), daysFromToday);
-            return classificationService.classifyMediumTermWeather(mediumTermData, region.getId(), date);
+        // 실패한 파티션은 롤백되어 이번 버전 행이 없으므로, 성공한 파티션 결과만 공개됨
+        if (generationVersion != null) {
+            versionService.publish(generationVersion);
         }
 
-        // 3. 둘 다 없으면 예외 처리
-        log.warn("날씨 데이터가 없어서 추천 생성 실패: regionId={}, date={}, daysFromToday={}",
-                region.getId(), date, daysFromToday);
-        throw new WeatherException(WeatherErrorCode.WEATHER_DATA_NOT_FOUND);
-    }
-
-    /**
-     * 분류 결과에 매칭되는 템플릿 찾기
-     */
-    private WeatherTemplate findMatchingTemplate(
-            WeatherClassificationService.WeatherClassificationResult classification,
-            Map<String, WeatherTemplate> templateMap) {
-
-        String templateKey = createTemplateKey(
-                classification.weatherType(),
-                classification.tempCategory(),
-                classification.precipCategory());
-
-        WeatherTemplate template = templateMap.get(templateKey);
-
-        if (template == null) {
-            log.debug("정확한 템플릿 매칭 실패, 대체 템플릿 탐색: {}", templateKey);
-            // 대체 템플릿 찾기 (강수 카테고리를 낮춰서 시도)
-            template = findAlternativeTemplate(classification, templateMap);
-        }
-
-        if (template != null) {
-            log.trace("템플릿 매칭 성공: {} -> templateId={}", templateKey, template.getId());
-        }
+        LocalDateTime endTime = LocalDateTime.now();
+        log.info("{} 추천 정보 생성 완료: 성공 {}/{} 지역, 신규 {}, 업데이트 {}, 변경 없음 {} 추천, 파티션 {}개, 처리시간 {}ms",
+                recommendationType, result.successfulRegions(), targetRegions.size(),
+                result.newRecommendations(), result.updatedRecommendations(), result.unchangedRecommendations(),
+                partitions.size(),
+                ChronoUnit.MILLIS.between(startTime, endTime));
 
-        return template;
+        return WeatherSyncConverter.toRecommendationGenerationResult(
+                targetRegions.size(), result.successfulRegions(), result.failedRegions(),
+                result.totalRecommendations(), result.newRecommendations(), result.updatedRecommendations(),
+                result.unchangedRecommendations(), startDate, endDate, startTime, endTime, result.regionResults(), result.weatherStats(),
+                result.errorMessages());
     }
 
     /**
-     * 대체 템플릿 찾기
-     * 강수 카테고리 우선순위: HEAVY > LIGHT > NONE
+     * 파티션 하나 실행 (파티션 트랜잭션 자체가 실패하면 파티션의 모든 지역을 실패로 기록)
      */
-    private WeatherTemplate findAlternativeTemplate(
-            WeatherClassificationService.WeatherClassificationResult classification,
-            Map<String, WeatherTemplate> templateMap) {
-
-        // 강수 카테고리를 단계적으로 낮춰가며 시도
-        var precipCategories = List.of(
-                classification.precipCategory(),
-                com.study.demo.testweatherapi.domain.weather.entity.enums.PrecipCategory.LIGHT,
-                com.study.demo.testweatherapi.domain.weather.entity.enums.PrecipCategory.NONE
-        );
-
-        for (var precipCategory : precipCategories) {
-            String alternativeKey = createTemplateKey(
-                    classification.weatherType(),
-                    classification.tempCategory(),
-                    precipCategory);
-
-            WeatherTemplate template = templateMap.get(alternativeKey);
-            if (template != null) {
-                log.debug("대체 템플릿 찾음: {} -> {}, templateId={}",
-                        classification.precipCategory(), precipCategory, template.getId());
-                return template;
-            }
+    private PartitionResult generatePartition(
+            List<Region> partition, LocalDate startDate, LocalDate endDate, boolean forceRegenerate,
+            Map<Long, Set<LocalDate>> targetDatesByRegion, Long generationVersion,
+            Map<String, WeatherTemplate> templateMap, String recommendationType) {
+        long partitionStartTime = System.currentTimeMillis();
+        try {
+            return partitionService.generatePartition(partition, startDate, endDate, forceRegenerate,
+                    targetDatesByRegion, generationVersion, templateMap, recommendationType);
+        } catch (Exception e) {
+            log.error("{} 추천 생성: 파티션 실패 (지역 {}개, 첫 지역 {})",
+                    recommendationType, partition.size(), partition.get(0).getName(), e);
+            return PartitionResult.failed(partition, e, System.currentTimeMillis() - partitionStartTime);
         }
-
-        log.warn("대체 템플릿도 찾을 수 없음: weather={}, temp={}, precip={}",
-                classification.weatherType(), classification.tempCategory(), classification.precipCategory());
-        return null;
     }
 
     /**
-     * 추천 정보 저장 또는 업데이트
+     * 대상 지역을 partitionSize 단위로 분할
      */
-    private DailyRecommendation saveOrUpdateRecommendation(
-            DailyRecommendation existing, Region region, LocalDate date, WeatherTemplate template) {
-
-        if (existing != null) {
-            // 기존 데이터 업데이트 (실제로는 immutable이므로 새로 생성)
-            dailyRecommendationRepository.delete(existing);
-            log.trace("기존 추천 정보 삭제: id={}", existing.getId());
+    private List<List<Region>> partitionRegions(List<Region> regions) {
+        int size = Math.max(1, partitionSize);
+        List<List<Region>> partitions = new ArrayList<>((regions.size() + size - 1) / size);
+        for (int from = 0; from < regions.size(); from += size) {
+            partitions.add(List.copyOf(regions.subList(from, Math.min(from + size, regions.size()))));
         }
-
-        DailyRecommendation newRecommendation = DailyRecommendation.builder()
-                .region(region)
-                .weatherTemplate(template)
-                .forecastDate(date)
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        DailyRecommendation saved = dailyRecommendationRepository.save(newRecommendation);
-        log.trace("새 추천 정보 저장: id={}, templateId={}", saved.getId(), template.getId());
-
-        return saved;
+        return partitions;
     }
 
-    // ==== 유틸리티 메서드들 ====
-
     /**
      * 대상 지역 조회
      */
@@ -368,7 +215,7 @@ public class WeatherRecommendationGenerationService {
     private Map<String, WeatherTemplate> createTemplateMap(List<WeatherTemplate> templates) {
         Map<String, WeatherTemplate> templateMap = templates.stream()
                 .collect(Collectors.toMap(
-                        template -> createTemplateKey(
+                        template -> WeatherRecommendationPartitionService.createTemplateKey(
                                 template.getWeather(),
                                 template.getTempCategory(),
                                 template.getPrecipCategory()),
@@ -382,45 +229,4 @@ public class WeatherRecommendationGenerationService {
         log.debug("템플릿 맵 생성 완료: 총 {}개 템플릿", templateMap.size());
         return templateMap;
     }
-
-    /**
-     * 템플릿 키 생성
-     */
-    private String createTemplateKey(
-            com.study.demo.testweatherapi.domain.weather.entity.enums.WeatherType weather,
-            com.study.demo.testweatherapi.domain.weather.entity.enums.TempCategory tempCategory,
-            com.study.demo.testweatherapi.domain.weather.entity.enums.PrecipCategory precipCategory) {
-        return String.format("%s_%s_%s", weather, tempCategory, precipCategory);
-    }
-
-    /**
-     * 날씨 타입별 통계 업데이트
-     */
-    private void updateWeatherStats(Map<WeatherType, Integer> globalStats,
-                                    Map<WeatherType, Integer> regionStats) {
-        for (Map.Entry<WeatherType, Integer> entry : regionStats.entrySet()) {
-            globalStats.merge(entry.getKey(), entry.getValue(), Integer::sum);
-        }
-    }
-
-    // ==== 내부 결과 클래스들 ====
-
-    /**
-     * 지역별 추천 생성 결과
-     */
-    private record RegionRecommendationResult(
-            int recommendationsGenerated,
-            int newRecommendations,
-            int updatedRecommendations,
-            List<String> processedDates,
-            Map<WeatherType, Integer> weatherTypeStats
-    ) {}
-
-    /**
-     * 개별 추천 생성 결과
-     */
-    private record RecommendationResult(
-            WeatherType weatherType,
-            boolean isNew
-    ) {}
 }
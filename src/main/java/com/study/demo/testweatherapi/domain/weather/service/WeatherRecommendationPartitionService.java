@@ -0,0 +1,518 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.study.demo.testweatherapi.domain.weather.dto.response.WeatherSyncResDTO;
+import com.study.demo.testweatherapi.domain.weather.entity.*;
+import com.study.demo.testweatherapi.domain.weather.entity.enums.WeatherType;
+import com.study.demo.testweatherapi.domain.weather.exception.WeatherErrorCode;
+import com.study.demo.testweatherapi.domain.weather.exception.WeatherException;
+import com.study.demo.testweatherapi.domain.weather.repository.DailyRecommendationRepository;
+import com.study.demo.testweatherapi.domain.weather.repository.DailyForecastAggregateRepository;
+import com.study.demo.testweatherapi.domain.weather.repository.RawMediumTermWeatherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 추천 정보 생성 작업 단위(파티션) 처리 전용 서비스
+ * 지역 묶음 하나의 입력 조회 -> 분류 -> 저장을 짧은 트랜잭션 하나로 커밋한다
+ * 여러 파티션을 병렬로 실행하고 결과를 합치는 것은 WeatherRecommendationGenerationService에서 담당
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WeatherRecommendationPartitionService {
+
+    private final DailyForecastAggregateRepository dailyForecastAggregateRepository;
+    private final RawMediumTermWeatherRepository mediumTermWeatherRepository;
+    private final DailyRecommendationRepository dailyRecommendationRepository;
+    private final WeatherClassificationService classificationService;
+    private final DailyForecastAggregateService dailyForecastAggregateService;
+
+    /**
+     * 파티션(지역 묶음) 추천 정보 생성
+     * 지역별 실패는 결과에 기록하고 다음 지역을 계속 처리하며, 반환값은 다른 파티션과 공유하지 않는 불변 결과
+     * @param targetDatesByRegion 지역별로 처리할 날짜 (null이면 모든 지역에 대해 startDate ~ endDate 전체)
+     * @param generationVersion 이번 생성 실행의 버전 (새로 쓰는 행은 모두 이 버전, 실행이 끝나야 조회에 노출)
+     */
+    @Transactional
+    public PartitionResult generatePartition(
+            List<Region> regions, LocalDate startDate, LocalDate endDate, boolean forceRegenerate,
+            Map<Long, Set<LocalDate>> targetDatesByRegion, Long generationVersion,
+            Map<String, WeatherTemplate> templateMap, String recommendationType) {
+
+        List<WeatherSyncResDTO.RegionRecommendationResult> regionResults = new ArrayList<>(regions.size());
+        List<String> errorMessages = new ArrayList<>();
+        Map<WeatherType, Integer> weatherStats = new EnumMap<>(WeatherType.class);
+
+        int totalRecommendations = 0, newRecommendations = 0, updatedRecommendations = 0, unchangedRecommendations = 0;
+        int successfulRegions = 0, failedRegions = 0;
+
+        // 파티션 단위로 단기 일 집계/중기 예보와 기존 추천을 한 번에 조회 (지역×날짜별 조회 없음)
+        RecommendationInputs inputs = loadRecommendationInputs(regions, startDate, endDate);
+
+        for (Region region : regions) {
+            long regionStartTime = System.currentTimeMillis();
+
+            try {
+                log.debug("{} 추천 생성: 지역 {} 처리 시작", recommendationType, region.getName());
+
+                Collection<LocalDate> targetDates = targetDatesByRegion == null
+                        ? startDate.datesUntil(endDate.plusDays(1)).toList()
+                        : targetDatesByRegion.getOrDefault(region.getId(), Set.of());
+
+                RegionRecommendationResult regionResult = generateRecommendationsForRegion(
+                        region, targetDates, forceRegenerate, generationVersion, templateMap, inputs,
+                        recommendationType);
+
+                totalRecommendations += regionResult.recommendationsGenerated();
+                newRecommendations += regionResult.newRecommendations();
+                updatedRecommendations += regionResult.updatedRecommendations();
+                unchangedRecommendations += regionResult.unchangedRecommendations();
+                successfulRegions++;
+
+                // 날씨 타입별 통계 업데이트
+                regionResult.weatherTypeStats().forEach((type, count) -> weatherStats.merge(type, count, Integer::sum));
+
+                long processingTime = System.currentTimeMillis() - regionStartTime;
+                regionResults.add(new WeatherSyncResDTO.RegionRecommendationResult(
+                        region.getId(), region.getName(), true,
+                        regionResult.recommendationsGenerated(),
+                        regionResult.newRecommendations(),
+                        regionResult.updatedRecommendations(),
+                        regionResult.unchangedRecommendations(),
+                        regionResult.processedDates(),
+                        regionResult.failedDates(),
+                        null, processingTime));
+
+                log.debug("{} 추천 생성: 지역 {} 완료 - 신규 {}, 업데이트 {}, 변경 없음 {}, 실패 날짜 {}, 처리시간 {}ms",
+                        recommendationType, region.getName(), regionResult.newRecommendations(),
+                        regionResult.updatedRecommendations(), regionResult.unchangedRecommendations(),
+                        regionResult.failedDates().size(), processingTime);
+
+            } catch (Exception e) {
+                failedRegions++;
+                long processingTime = System.currentTimeMillis() - regionStartTime;
+                String errorMessage = String.format("지역 %s 추천 생성 실패: %s", region.getName(), e.getMessage());
+                errorMessages.add(errorMessage);
+
+                regionResults.add(new WeatherSyncResDTO.RegionRecommendationResult(
+                        region.getId(), region.getName(), false, 0, 0, 0, 0,
+                        Collections.emptyList(), Collections.emptyList(), errorMessage, processingTime));
+
+                log.error("{} 추천 생성: 지역 {} 실패", recommendationType, region.getName(), e);
+            }
+        }
+
+        return new PartitionResult(successfulRegions, failedRegions,
+                totalRecommendations, newRecommendations, updatedRecommendations, unchangedRecommendations,
+                List.copyOf(regionResults), Map.copyOf(weatherStats), List.copyOf(errorMessages));
+    }
+
+    /**
+     * 특정 지역에 대한 추천 정보 생성
+     */
+    private RegionRecommendationResult generateRecommendationsForRegion(
+            Region region, Collection<LocalDate> targetDates, boolean forceRegenerate, Long generationVersion,
+            Map<String, WeatherTemplate> templateMap, RecommendationInputs inputs, String recommendationType) {
+
+        int recommendationsGenerated = 0, newRecommendations = 0, updatedRecommendations = 0;
+        int unchangedRecommendations = 0;
+        List<String> processedDates = new ArrayList<>();
+        List<String> failedDates = new ArrayList<>();
+        Map<WeatherType, Integer> weatherTypeStats = new HashMap<>();
+
+        // 날짜별로 추천 정보 생성
+        for (LocalDate currentDate : targetDates) {
+            try {
+                long daysFromToday = ChronoUnit.DAYS.between(LocalDate.now(), currentDate);
+
+                // 타입별 로깅 개선
+                log.debug("{} 추천 생성: {} 지역 {} ({}일후)",
+                        recommendationType, region.getName(), currentDate, daysFromToday);
+
+                RecommendationResult result = generateRecommendationForDate(
+                        region, currentDate, forceRegenerate, generationVersion, templateMap, inputs);
+
+                if (result != null) {
+                    recommendationsGenerated++;
+                    switch (result.outcome()) {
+                        case NEW -> newRecommendations++;
+                        case UPDATED -> updatedRecommendations++;
+                        case UNCHANGED -> unchangedRecommendations++;
+                    }
+
+                    processedDates.add(currentDate.toString());
+                    weatherTypeStats.merge(result.weatherType(), 1, Integer::sum);
+
+                    log.trace("날짜 {} 추천 {}: {}", currentDate, result.outcome(), result.weatherType());
+                }
+
+            } catch (Exception e) {
+                // 지역 전체는 성공으로 두고 날짜만 실패로 기록 (변경분 생성은 이 날짜만 다음 주기로 이월)
+                failedDates.add(currentDate.toString());
+                log.warn("지역 {} 날짜 {} 추천 생성 실패: {}",
+                        region.getName(), currentDate, e.getMessage());
+            }
+        }
+
+        log.debug("지역 {} 추천 생성 완료: 처리일수 {}, 생성 {}, 업데이트 {}, 변경 없음 {}, 실패 {}",
+                region.getName(), processedDates.size(), newRecommendations, updatedRecommendations,
+                unchangedRecommendations, failedDates.size());
+
+        return new RegionRecommendationResult(
+                recommendationsGenerated, newRecommendations, updatedRecommendations, unchangedRecommendations,
+                processedDates, failedDates, weatherTypeStats);
+    }
+
+    /**
+     * 특정 지역의 특정 날짜에 대한 추천 정보 생성
+     * @return 기존 추천이 있어 건너뛰면 null (날씨 데이터 / 템플릿이 없으면 예외)
+     */
+    private RecommendationResult generateRecommendationForDate(
+            Region region, LocalDate date, boolean forceRegenerate, Long generationVersion,
+            Map<String, WeatherTemplate> templateMap, RecommendationInputs inputs) {
+
+        // 1. 기존 추천 정보 확인
+        Optional<DailyRecommendation> existingRecommendation =
+                Optional.ofNullable(inputs.existingRecommendation(region.getId(), date));
+
+        if (existingRecommendation.isPresent() && !forceRegenerate) {
+            log.trace("기존 추천 정보 존재하여 스킵: regionId={}, date={}", region.getId(), date);
+            return null;
+        }
+
+        // 2. 날씨 데이터 분류
+        WeatherClassificationService.WeatherClassificationResult classification =
+                classifyWeatherForDate(region, date, inputs);
+
+        if (!classification.isValid()) {
+            log.warn("유효하지 않은 날씨 분류 결과: regionId={}, date={}, classification={}",
+                    region.getId(), date, classification.getSummary());
+            throw new WeatherException(WeatherErrorCode.WEATHER_CLASSIFICATION_ERROR);
+        }
+
+        // 3. 템플릿 매칭
+        WeatherTemplate matchedTemplate = findMatchingTemplate(classification, templateMap);
+
+        if (matchedTemplate == null) {
+            log.warn("매칭되는 템플릿 없음: regionId={}, date={}, classification={}",
+                    region.getId(), date, classification.getSummary());
+            throw new WeatherException(WeatherErrorCode.WEATHER_TEMPLATE_NOT_FOUND);
+        }
+
+        // 4. 추천 정보 저장 (템플릿이 그대로면 쓰기 생략)
+        WriteOutcome outcome = saveOrUpdateRecommendation(
+                existingRecommendation.orElse(null), region, date, matchedTemplate, generationVersion);
+
+        log.trace("추천 정보 {}: regionId={}, date={}, template={}, weatherType={}",
+                outcome, region.getId(), date, matchedTemplate.getId(), classification.weatherType());
+
+        return new RecommendationResult(classification.weatherType(), outcome);
+    }
+
+    /**
+     * 특정 날짜의 날씨 데이터 분류
+     * 실제 데이터 존재 여부를 확인해서 적절한 예보 사용
+     */
+    private WeatherClassificationService.WeatherClassificationResult classifyWeatherForDate(
+            Region region, LocalDate date, RecommendationInputs inputs) {
+        LocalDate today = LocalDate.now();
+        long daysFromToday = ChronoUnit.DAYS.between(today, date);
+
+        // 1. 먼저 단기예보 일 집계 확인 (우선순위 높음)
+        DailyForecastAggregate shortTermAggregate = inputs.shortTermAggregate(region.getId(), date);
+
+        if (shortTermAggregate != null) {
+            log.trace("단기예보 일 집계 사용: regionId={}, date={}, 시간별 예보 수={}, daysFromToday={}",
+                    region.getId(), date, shortTermAggregate.getReadingCount(), daysFromToday);
+            return classificationService.classifyShortTermWeather(shortTermAggregate, region.getId(), date);
+        }
+
+        // 2. 단기예보 데이터가 없으면 중기예보 데이터 확인
+        List<RawMediumTermWeather> mediumTermData = inputs.mediumTermData(region.getId(), date);
+
+        if (!mediumTermData.isEmpty()) {
+            log.trace("중기예보 데이터 사용: regionId={}, date={}, 데이터 수={}, daysFromToday={}",
+                    region.getId(), date, mediumTermData.size(), daysFromToday);
+            return classificationService.classifyMediumTermWeather(mediumTermData, region.getId(), date);
+        }
+
+        // 3. 둘 다 없으면 예외 처리
+        log.warn("날씨 데이터가 없어서 추천 생성 실패: regionId={}, date={}, daysFromToday={}",
+                region.getId(), date, daysFromToday);
+        throw new WeatherException(WeatherErrorCode.WEATHER_DATA_NOT_FOUND);
+    }
+
+    /**
+     * 분류 결과에 매칭되는 템플릿 찾기
+     */
+    private WeatherTemplate findMatchingTemplate(
+            WeatherClassificationService.WeatherClassificationResult classification,
+            Map<String, WeatherTemplate> templateMap) {
+
+        String templateKey = createTemplateKey(
+                classification.weatherType(),
+                classification.tempCategory(),
+                classification.precipCategory());
+
+        WeatherTemplate template = templateMap.get(templateKey);
+
+        if (template == null) {
+            log.debug("정확한 템플릿 매칭 실패, 대체 템플릿 탐색: {}", templateKey);
+            // 대체 템플릿 찾기 (강수 카테고리를 낮춰서 시도)
+            template = findAlternativeTemplate(classification, templateMap);
+        }
+
+        if (template != null) {
+            log.trace("템플릿 매칭 성공: {} -> templateId={}", templateKey, template.getId());
+        }
+
+        return template;
+    }
+
+    /**
+     * 대체 템플릿 찾기
+     * 강수 카테고리 우선순위: HEAVY > LIGHT > NONE
+     */
+    private WeatherTemplate findAlternativeTemplate(
+            WeatherClassificationService.WeatherClassificationResult classification,
+            Map<String, WeatherTemplate> templateMap) {
+
+        // 강수 카테고리를 단계적으로 낮춰가며 시도
+        var precipCategories = List.of(
+                classification.precipCategory(),
+                com.study.demo.testweatherapi.domain.weather.entity.enums.PrecipCategory.LIGHT,
+                com.study.demo.testweatherapi.domain.weather.entity.enums.PrecipCategory.NONE
+        );
+
+        for (var precipCategory : precipCategories) {
+            String alternativeKey = createTemplateKey(
+                    classification.weatherType(),
+                    classification.tempCategory(),
+                    precipCategory);
+
+            WeatherTemplate template = templateMap.get(alternativeKey);
+            if (template != null) {
+                log.debug("대체 템플릿 찾음: {} -> {}, templateId={}",
+                        classification.precipCategory(), precipCategory, template.getId());
+                return template;
+            }
+        }
+
+        log.warn("대체 템플릿도 찾을 수 없음: weather={}, temp={}, precip={}",
+                classification.weatherType(), classification.tempCategory(), classification.precipCategory());
+        return null;
+    }
+
+    /**
+     * 추천 정보 저장 또는 업데이트
+     * 매칭된 템플릿이 기존(최신 버전 행)과 같으면 아무것도 쓰지 않고,
+     * 다르면 기존 행은 그대로 두고 이번 생성 버전으로 새 행을 추가 (조회 중인 행은 수정/삭제하지 않음)
+     */
+    private WriteOutcome saveOrUpdateRecommendation(
+            DailyRecommendation existing, Region region, LocalDate date, WeatherTemplate template,
+            Long generationVersion) {
+
+        // 연관 프록시의 id 조회는 초기화를 일으키지 않으므로 템플릿 조회 쿼리 없음
+        if (existing != null && Objects.equals(existing.getWeatherTemplate().getId(), template.getId())) {
+            log.trace("추천 템플릿 변경 없음, 쓰기 생략: id={}, templateId={}", existing.getId(), template.getId());
+            return WriteOutcome.UNCHANGED;
+        }
+
+        DailyRecommendation newRecommendation = DailyRecommendation.builder()
+                .region(region)
+                .weatherTemplate(template)
+                .forecastDate(date)
+                .updatedAt(LocalDateTime.now())
+                .generationVersion(generationVersion)
+                .build();
+
+        DailyRecommendation saved = dailyRecommendationRepository.save(newRecommendation);
+        log.trace("새 추천 정보 저장: id={}, templateId={}, version={}", saved.getId(), template.getId(), generationVersion);
+
+        return existing == null ? WriteOutcome.NEW : WriteOutcome.UPDATED;
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    /**
+     * 지역 묶음의 추천 생성 입력 일괄 조회
+     * 단기예보 일 집계, 중기예보, 기존 추천을 각각 한 번씩 조회해서 (지역, 날짜)별로 묶음
+     * 일 집계가 하나도 없는 지역 중 현재 예보도 없는 지역(도입 이전 수집분)만 원시 예보로 집계를 만들어 사용
+     */
+    private RecommendationInputs loadRecommendationInputs(
+            List<Region> regions, LocalDate startDate, LocalDate endDate) {
+        long loadStartTime = System.currentTimeMillis();
+        List<Long> regionIds = regions.stream().map(Region::getId).toList();
+
+        List<DailyForecastAggregate> shortTermAggregates = new ArrayList<>(
+                dailyForecastAggregateRepository.findByRegionIdsAndForecastDateBetween(regionIds, startDate, endDate));
+
+        Set<Long> aggregatedRegionIds = new HashSet<>();
+        shortTermAggregates.forEach(aggregate -> aggregatedRegionIds.add(aggregate.getRegion().getId()));
+        List<Long> missingRegionIds = regionIds.stream().filter(id -> !aggregatedRegionIds.contains(id)).toList();
+        if (!missingRegionIds.isEmpty()) {
+            shortTermAggregates.addAll(dailyForecastAggregateService.backfill(missingRegionIds, startDate, endDate));
+        }
+        List<RawMediumTermWeather> mediumTermRows =
+                mediumTermWeatherRepository.findByRegionIdsAndTmefBetween(regionIds, startDate, endDate);
+        List<DailyRecommendation> recommendations =
+                dailyRecommendationRepository.findByRegionIdsAndDateRange(regionIds, startDate, endDate);
+
+        Map<Long, Map<LocalDate, DailyForecastAggregate>> shortTermByRegion = new HashMap<>();
+        for (DailyForecastAggregate aggregate : shortTermAggregates) {
+            shortTermByRegion.computeIfAbsent(aggregate.getRegion().getId(), key -> new HashMap<>())
+                    .put(aggregate.getForecastDate(), aggregate);
+        }
+
+        Map<Long, Map<LocalDate, List<RawMediumTermWeather>>> mediumTermByRegion = new HashMap<>();
+        for (RawMediumTermWeather row : mediumTermRows) {
+            mediumTermByRegion.computeIfAbsent(row.getRegion().getId(), key -> new HashMap<>())
+                    .computeIfAbsent(row.getTmef(), key -> new ArrayList<>())
+                    .add(row);
+        }
+
+        // (지역, 날짜)마다 가장 높은 버전 행을 기존 추천으로 사용
+        Map<Long, Map<LocalDate, DailyRecommendation>> recommendationsByRegion = new HashMap<>();
+        for (DailyRecommendation recommendation : recommendations) {
+            recommendationsByRegion.computeIfAbsent(recommendation.getRegion().getId(), key -> new HashMap<>())
+                    .merge(recommendation.getForecastDate(), recommendation, (current, candidate) ->
+                            candidate.getGenerationVersion() > current.getGenerationVersion() ? candidate : current);
+        }
+
+        log.debug("추천 생성 입력 일괄 조회: 지역 {}개, 단기 일 집계 {}건, 중기 {}건, 기존 추천 {}건, {}ms",
+                regions.size(), shortTermAggregates.size(), mediumTermRows.size(), recommendations.size(),
+                System.currentTimeMillis() - loadStartTime);
+
+        return new RecommendationInputs(shortTermByRegion, mediumTermByRegion, recommendationsByRegion);
+    }
+
+    /**
+     * 템플릿 키 생성
+     */
+    static String createTemplateKey(
+            com.study.demo.testweatherapi.domain.weather.entity.enums.WeatherType weather,
+            com.study.demo.testweatherapi.domain.weather.entity.enums.TempCategory tempCategory,
+            com.study.demo.testweatherapi.domain.weather.entity.enums.PrecipCategory precipCategory) {
+        return String.format("%s_%s_%s", weather, tempCategory, precipCategory);
+    }
+
+    // ==== 내부 결과 클래스들 ====
+
+    /**
+     * 파티션 처리 결과 (불변)
+     * 파티션마다 따로 만들어지고 호출 스레드에서 merge로 합치므로 공유 카운터나 락이 필요 없음
+     */
+    public record PartitionResult(
+            int successfulRegions,
+            int failedRegions,
+            int totalRecommendations,
+            int newRecommendations,
+            int updatedRecommendations,
+            int unchangedRecommendations,
+            List<WeatherSyncResDTO.RegionRecommendationResult> regionResults,
+            Map<WeatherType, Integer> weatherStats,
+            List<String> errorMessages
+    ) {
+        public static final PartitionResult EMPTY =
+                new PartitionResult(0, 0, 0, 0, 0, 0, List.of(), Map.of(), List.of());
+
+        /**
+         * 파티션 전체 실패 (트랜잭션 커밋 실패 등) - 파티션의 모든 지역을 실패로 기록
+         */
+        public static PartitionResult failed(List<Region> regions, Exception e, long processingTimeMs) {
+            List<WeatherSyncResDTO.RegionRecommendationResult> regionResults = new ArrayList<>(regions.size());
+            List<String> errorMessages = new ArrayList<>(regions.size());
+            for (Region region : regions) {
+                String errorMessage = String.format("지역 %s 추천 생성 실패: %s", region.getName(), e.getMessage());
+                errorMessages.add(errorMessage);
+                regionResults.add(new WeatherSyncResDTO.RegionRecommendationResult(
+                        region.getId(), region.getName(), false, 0, 0, 0, 0,
+                        Collections.emptyList(), Collections.emptyList(), errorMessage, processingTimeMs));
+            }
+            return new PartitionResult(0, regions.size(), 0, 0, 0, 0,
+                    List.copyOf(regionResults), Map.of(), List.copyOf(errorMessages));
+        }
+
+        public PartitionResult merge(PartitionResult other) {
+            List<WeatherSyncResDTO.RegionRecommendationResult> mergedRegionResults =
+                    new ArrayList<>(regionResults.size() + other.regionResults.size());
+            mergedRegionResults.addAll(regionResults);
+            mergedRegionResults.addAll(other.regionResults);
+
+            Map<WeatherType, Integer> mergedWeatherStats = new EnumMap<>(WeatherType.class);
+            mergedWeatherStats.putAll(weatherStats);
+            other.weatherStats.forEach((type, count) -> mergedWeatherStats.merge(type, count, Integer::sum));
+
+            List<String> mergedErrorMessages = new ArrayList<>(errorMessages.size() + other.errorMessages.size());
+            mergedErrorMessages.addAll(errorMessages);
+            mergedErrorMessages.addAll(other.errorMessages);
+
+            return new PartitionResult(
+                    successfulRegions + other.successfulRegions,
+                    failedRegions + other.failedRegions,
+                    totalRecommendations + other.totalRecommendations,
+                    newRecommendations + other.newRecommendations,
+                    updatedRecommendations + other.updatedRecommendations,
+                    unchangedRecommendations + other.unchangedRecommendations,
+                    mergedRegionResults, mergedWeatherStats, mergedErrorMessages);
+        }
+    }
+
+    /**
+     * 지역별 추천 생성 결과
+     */
+    private record RegionRecommendationResult(
+            int recommendationsGenerated,
+            int newRecommendations,
+            int updatedRecommendations,
+            int unchangedRecommendations,
+            List<String> processedDates,
+            List<String> failedDates,
+            Map<WeatherType, Integer> weatherTypeStats
+    ) {}
+
+    /**
+     * 지역 묶음의 추천 생성 입력 ((지역, 날짜)별 단기/중기 예보, 기존 추천)
+     */
+    private record RecommendationInputs(
+            Map<Long, Map<LocalDate, DailyForecastAggregate>> shortTermByRegion,
+            Map<Long, Map<LocalDate, List<RawMediumTermWeather>>> mediumTermByRegion,
+            Map<Long, Map<LocalDate, DailyRecommendation>> recommendationsByRegion
+    ) {
+        DailyForecastAggregate shortTermAggregate(Long regionId, LocalDate date) {
+            return shortTermByRegion.getOrDefault(regionId, Map.of()).get(date);
+        }
+
+        List<RawMediumTermWeather> mediumTermData(Long regionId, LocalDate date) {
+            return mediumTermByRegion.getOrDefault(regionId, Map.of()).getOrDefault(date, List.of());
+        }
+
+        DailyRecommendation existingRecommendation(Long regionId, LocalDate date) {
+            return recommendationsByRegion.getOrDefault(regionId, Map.of()).get(date);
+        }
+    }
+
+    /**
+     * 개별 추천 생성 결과
+     */
+    private record RecommendationResult(
+            WeatherType weatherType,
+            WriteOutcome outcome
+    ) {}
+
+    /**
+     * 추천 저장 결과 (신규 삽입 / 템플릿 갱신 / 변경 없어 쓰기 생략)
+     */
+    private enum WriteOutcome {
+        NEW,
+        UPDATED,
+        UNCHANGED
+    }
+}
@@ -0,0 +1,121 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+import com.study.demo.testweatherapi.global.client.KmaQuotaGuard;
+import com.study.demo.testweatherapi.global.config.WeatherQuotaConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 기상청 호출 수 기반 수집 계획
+ * 수집 대상 지역에 필요한 호출(격자/지역코드별 1회)을 KmaQuotaGuard에서 할당받고,
+ * 할당이 부족하면 우선순위(Region.priority)가 높은 지역부터 호출을 배정
+ * 배정받지 못한 지역은 이번 주기에서 제외하고, 연속으로 연기된 횟수만큼 다음 계획에서 우선순위를 올려
+ * 같은 지역이 매 주기 밀려나지 않게 함 (aging)
+ * weather.api.quota.planning-enabled가 꺼져 있으면 할당 없이 전체 지역을 그대로 수집
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeatherRequestPlanner {
+
+    private final KmaQuotaGuard quotaGuard;
+    private final WeatherQuotaConfig quotaConfig;
+
+    /**
+     * 계획 종류별 지역의 연속 연기 횟수 (수집되면 초기화)
+     */
+    private final Map<String, Map<Long, Integer>> deferralCountsByPlan = new ConcurrentHashMap<>();
+
+    /**
+     * 수집 계획 수립
+     * @param planName 계획 종류 (단기/중기 등, 종류별로 연기 횟수를 따로 관리)
+     * @param requestKeys 지역 하나를 수집하는 데 필요한 호출 키 (같은 키는 한 번만 호출하므로 지역 간 공유)
+     */
+    public Plan plan(String planName, List<Region> regions, Function<Region, Collection<String>> requestKeys) {
+        Set<String> allKeys = new HashSet<>();
+        for (Region region : regions) {
+            allKeys.addAll(requestKeys.apply(region));
+        }
+
+        if (!quotaConfig.isPlanningEnabled()) {
+            return new Plan(regions, List.of(), allKeys.size());
+        }
+
+        Map<Long, Integer> deferralCounts =
+                deferralCountsByPlan.computeIfAbsent(planName, key -> new ConcurrentHashMap<>());
+
+        int granted = quotaGuard.acquire(allKeys.size());
+        if (granted >= allKeys.size()) {
+            regions.forEach(region -> deferralCounts.remove(region.getId()));
+            return new Plan(regions, List.of(), allKeys.size());
+        }
+
+        // 할당 부족: (우선순위 + 연속 연기 횟수) 순으로 필요한 호출 수가 남은 할당 안에 들어오는 지역만 선택
+        Comparator<Region> byAgedPriority = Comparator
+                .comparingInt((Region region) -> agedPriority(region, deferralCounts))
+                .reversed()
+                .thenComparing(region -> deferralCounts.getOrDefault(region.getId(), 0), Comparator.reverseOrder())
+                .thenComparing(Region::getId);
+        List<Region> byPriority = new ArrayList<>(regions);
+        byPriority.sort(byAgedPriority);
+
+        Set<String> plannedKeys = new HashSet<>();
+        Set<Region> selected = new HashSet<>();
+        for (Region region : byPriority) {
+            Collection<String> keys = requestKeys.apply(region);
+            int additionalCalls = 0;
+            for (String key : keys) {
+                if (!plannedKeys.contains(key)) {
+                    additionalCalls++;
+                }
+            }
+
+            if (plannedKeys.size() + additionalCalls <= granted) {
+                plannedKeys.addAll(keys);
+                selected.add(region);
+            }
+        }
+
+        quotaGuard.release(granted - plannedKeys.size());
+
+        // 원래 순서 유지
+        List<Region> selectedRegions = new ArrayList<>(selected.size());
+        List<Region> deferredRegions = new ArrayList<>(regions.size() - selected.size());
+        for (Region region : regions) {
+            if (selected.contains(region)) {
+                selectedRegions.add(region);
+                deferralCounts.remove(region.getId());
+            } else {
+                deferredRegions.add(region);
+                deferralCounts.merge(region.getId(), 1, Integer::sum);
+            }
+        }
+
+        log.warn("기상청 호출 할당 부족({}): 필요 {}회 중 {}회 할당, 지역 {}개 수집 / {}개 연기",
+                planName, allKeys.size(), plannedKeys.size(), selectedRegions.size(), deferredRegions.size());
+
+        return new Plan(selectedRegions, deferredRegions, plannedKeys.size());
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    private int agedPriority(Region region, Map<Long, Integer> deferralCounts) {
+        int priority = region.getPriority() == null ? 0 : region.getPriority();
+        return priority + deferralCounts.getOrDefault(region.getId(), 0);
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    /**
+     * @param selected 이번 주기에 수집할 지역
+     * @param deferred 호출 할당 부족으로 연기된 지역
+     * @param plannedCalls 할당받은 호출 수
+     */
+    public record Plan(List<Region> selected, List<Region> deferred, int plannedCalls) {}
+}
@@ -0,0 +1,101 @@
+package com.study.demo.testweatherapi.global.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 엔드포인트 단위 서킷 브레이커
+ * CLOSED: 정상 / OPEN: 연속 실패로 차단 (요청 즉시 실패) / HALF_OPEN: 대기 시간 후 요청 1건으로 복구 확인
+ */
+@Slf4j
+class CircuitBreaker {
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String endpoint;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoTime;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    CircuitBreaker(String endpoint, int failureThreshold, Duration openDuration) {
+        this(endpoint, failureThreshold, openDuration, System::nanoTime);
+    }
+
+    /**
+     * 시간 소스 지정 (테스트용)
+     */
+    CircuitBreaker(String endpoint, int failureThreshold, Duration openDuration, LongSupplier nanoTime) {
+        this.endpoint = endpoint;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 요청 가능 여부 확인 (OPEN 유지 시간이 지났으면 HALF_OPEN으로 전환하고 시험 요청 1건 허용)
+     */
+    synchronized boolean tryAcquirePermission() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> {
+                if (nanoTime.getAsLong() - openedAtNanos < openDurationNanos) {
+                    yield false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                log.info("서킷 HALF_OPEN: endpoint={}, 시험 요청 허용", endpoint);
+                yield true;
+            }
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield false;
+                }
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("서킷 CLOSED: endpoint={}, 기상청 API 응답 정상화", endpoint);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAtNanos = nanoTime.getAsLong();
+            log.warn("서킷 OPEN: endpoint={}, 연속 실패 {}회, {}ms 동안 요청 차단",
+                    endpoint, consecutiveFailures, openDurationNanos / 1_000_000);
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 요청(취소)의 시험 요청 권한 반환
+     */
+    synchronized void releasePermission() {
+        trialInFlight = false;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,67 @@
+package com.study.demo.testweatherapi.global.client;
+
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reactor Netty 커넥션 풀 지표 수집기
+ * Micrometer 없이 ConnectionProvider가 넘겨주는 풀별 지표 객체를 보관했다가
+ * 관리자 API에서 현재 값(사용 중/유휴/대기 중 획득 요청 수)을 조회
+ */
+@Component
+public class ConnectionPoolMetricsRegistry implements ConnectionProvider.MeterRegistrar {
+
+    private final Map<String, RegisteredPool> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(id, new RegisteredPool(poolName, String.valueOf(remoteAddress), metrics));
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(id);
+    }
+
+    /**
+     * 원격 주소별 풀 상태 스냅샷
+     */
+    public List<PoolSnapshot> snapshot() {
+        List<PoolSnapshot> snapshots = new ArrayList<>(pools.size());
+        for (RegisteredPool pool : pools.values()) {
+            ConnectionPoolMetrics metrics = pool.metrics();
+            snapshots.add(new PoolSnapshot(
+                    pool.poolName(),
+                    pool.remoteAddress(),
+                    metrics.acquiredSize(),
+                    metrics.idleSize(),
+                    metrics.allocatedSize(),
+                    metrics.pendingAcquireSize(),
+                    metrics.maxAllocatedSize(),
+                    metrics.maxPendingAcquireSize()));
+        }
+        return snapshots;
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    private record RegisteredPool(String poolName, String remoteAddress, ConnectionPoolMetrics metrics) {}
+
+    public record PoolSnapshot(
+            String poolName,
+            String remoteAddress,
+            int activeConnections,      // 요청에 사용 중인 커넥션
+            int idleConnections,        // 재사용 대기 중인 커넥션
+            int allocatedConnections,   // 열려 있는 전체 커넥션
+            int pendingAcquires,        // 커넥션을 기다리는 요청
+            int maxConnections,
+            int maxPendingAcquires
+    ) {}
+}
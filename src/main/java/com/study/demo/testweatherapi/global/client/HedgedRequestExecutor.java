@@ -0,0 +1,108 @@
+package com.study.demo.testweatherapi.global.client;
+
+import com.study.demo.testweatherapi.global.config.WeatherResilienceConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 헤지 요청 실행기 (꼬리 지연 감소용)
+ * 첫 요청이 최근 응답 시간의 백분위(hedgePercentile)만큼 지나도 끝나지 않으면 같은 요청을 한 번 더 보내고
+ * 먼저 도착한 응답을 사용 (나머지 요청은 취소)
+ * 헤지 요청 수는 전체 요청 대비 비율(hedgeBudgetRatio)로 제한
+ */
+@Slf4j
+@Component
+public class HedgedRequestExecutor {
+
+    private final WeatherResilienceConfig config;
+    private final RetryBudget hedgeBudget;
+    private final Map<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+
+    public HedgedRequestExecutor(WeatherResilienceConfig config) {
+        this.config = config;
+        this.hedgeBudget = new RetryBudget(config.getHedgeBudgetRatio(), config.getHedgeBudgetMaxTokens());
+    }
+
+    /**
+     * 요청 실행 (헤지 비활성화 또는 표본 부족 시 요청 1건만 실행)
+     * @param operation 응답 시간 표본을 구분할 이름 (엔드포인트 단위)
+     * @param requestSupplier 구독할 때마다 새 요청을 보내는 Mono 생성기
+     * @param onHedge 헤지 요청을 실제로 보낼 때 호출 (집계용)
+     */
+    public <T> Mono<T> execute(String operation, Supplier<Mono<T>> requestSupplier, Runnable onHedge) {
+        if (!config.isHedgingEnabled()) {
+            return requestSupplier.get();
+        }
+
+        return Mono.defer(() -> {
+            LatencyTracker latencyTracker = latencyTrackers.computeIfAbsent(operation,
+                    key -> new LatencyTracker(config.getHedgeSampleSize()));
+            hedgeBudget.recordRequest();
+
+            Mono<T> primary = timed(requestSupplier, latencyTracker);
+            Duration hedgeDelay = hedgeDelay(latencyTracker);
+            if (hedgeDelay == null) {
+                return primary;
+            }
+
+            // 첫 요청이 이미 끝났거나(실패 포함) 예산이 없으면 헤지하지 않음
+            AtomicBoolean primaryDone = new AtomicBoolean();
+            AtomicReference<Throwable> primaryError = new AtomicReference<>();
+            Mono<T> trackedPrimary = primary
+                    .doOnError(primaryError::set)
+                    .doFinally(signal -> primaryDone.set(true));
+
+            Mono<T> hedge = Mono.delay(hedgeDelay)
+                    .then(Mono.defer(() -> {
+                        if (primaryDone.get() || !hedgeBudget.tryAcquire()) {
+                            return Mono.<T>empty();
+                        }
+                        log.debug("헤지 요청 발송: operation={}, 지연 기준 {}ms", operation, hedgeDelay.toMillis());
+                        onHedge.run();
+                        return timed(requestSupplier, latencyTracker);
+                    }));
+
+            return Mono.firstWithValue(trackedPrimary, hedge)
+                    .onErrorMap(NoSuchElementException.class,
+                            e -> primaryError.get() != null ? primaryError.get() : e);
+        });
+    }
+
+    public double getAvailableHedgeTokens() {
+        return hedgeBudget.availableTokens();
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    /**
+     * 헤지 지연 시간 (표본이 hedgeMinSamples 미만이면 null)
+     */
+    private Duration hedgeDelay(LatencyTracker latencyTracker) {
+        if (latencyTracker.size() < config.getHedgeMinSamples()) {
+            return null;
+        }
+        long delayMs = Math.max(config.getHedgeMinDelayMs(), latencyTracker.percentile(config.getHedgePercentile()));
+        return Duration.ofMillis(delayMs);
+    }
+
+    /**
+     * 성공한 응답의 소요 시간만 표본으로 기록 (취소/실패는 제외)
+     */
+    private <T> Mono<T> timed(Supplier<Mono<T>> requestSupplier, LatencyTracker latencyTracker) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return requestSupplier.get()
+                    .doOnNext(value -> latencyTracker.record(
+                            Duration.ofNanos(System.nanoTime() - startNanos).toMillis()));
+        });
+    }
+}
@@ -0,0 +1,201 @@
+package com.study.demo.testweatherapi.global.client;
+
+import com.study.demo.testweatherapi.global.config.WeatherQuotaConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 기상청 authKey 일일 호출 한도 관리
+ * - 필터: 실제로 나가는 요청(재시도/헤지 포함)을 엔드포인트별로 집계하고, 일일 한도에 도달하면 요청 차단
+ * - 계획: 수집 작업은 시작 전에 토큰 버킷에서 호출 수를 할당받음
+ *   버킷은 (일일 한도 - 예비분) / 하루 속도로 채워지므로 연속 실행이나 수동 트리거가 몰려도
+ *   한도를 한 번에 소진하지 않고 이후 주기 몫이 남음
+ */
+@Slf4j
+@Component
+public class KmaQuotaGuard implements ExchangeFilterFunction {
+
+    private static final double SECONDS_PER_DAY = 24 * 60 * 60;
+
+    // 기상청 호출 한도는 한국 시간 자정 기준으로 초기화됨 (서버 기본 시간대와 무관)
+    private static final ZoneId KMA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final WeatherQuotaConfig config;
+    private final Clock clock;                  // 날짜 경계 판단용
+    private final LongSupplier nanoTime;        // 토큰 적립용 (단조 증가 시간)
+
+    private LocalDate today;
+    private final Map<String, Integer> callsByEndpoint = new TreeMap<>();
+    private int usedToday;
+    private int plannedToday;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    @Autowired
+    public KmaQuotaGuard(WeatherQuotaConfig config) {
+        this(config, Clock.system(KMA_ZONE), System::nanoTime);
+    }
+
+    /**
+     * 시간 소스 지정 (테스트용)
+     */
+    KmaQuotaGuard(WeatherQuotaConfig config, Clock clock, LongSupplier nanoTime) {
+        this.config = config;
+        this.clock = clock;
+        this.nanoTime = nanoTime;
+        this.today = LocalDate.now(clock.withZone(KMA_ZONE));
+        this.tokens = Math.max(0, config.getBurstCapacity());
+        this.lastRefillNanos = nanoTime.getAsLong();
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!config.isEnabled()) {
+            return next.exchange(request);
+        }
+
+        // 재시도/헤지로 다시 구독될 때마다 한 건으로 집계
+        return Mono.defer(() -> {
+            String endpoint = request.url().getPath();
+            if (!recordCall(endpoint)) {
+                log.error("기상청 API 일일 호출 한도 도달로 요청 차단: endpoint={}, 한도={}",
+                        endpoint, config.getDailyLimit());
+                return Mono.error(new QuotaExceededException(endpoint));
+            }
+            return next.exchange(request);
+        });
+    }
+
+    /**
+     * 수집 계획용 호출 수 할당 (요청한 수보다 적게 할당될 수 있음)
+     * 토큰 버킷 잔량과 오늘 남은 계획 가능 호출 수 중 작은 값까지만 할당
+     * (burstCapacity가 0 이하면 토큰 버킷 없이 오늘 남은 계획 가능 호출 수까지 할당)
+     */
+    public synchronized int acquire(int requestedCalls) {
+        if (!config.isEnabled()) {
+            return requestedCalls;
+        }
+
+        rollOverIfNewDay();
+        refill();
+
+        int plannableRemaining = Math.max(0, plannableDailyLimit() - Math.max(usedToday, plannedToday));
+        int available = isBucketEnabled() ? Math.min((int) tokens, plannableRemaining) : plannableRemaining;
+        int granted = Math.min(requestedCalls, available);
+
+        if (isBucketEnabled()) {
+            tokens -= granted;
+        }
+        plannedToday += granted;
+        return granted;
+    }
+
+    /**
+     * 할당받았지만 쓰지 않은 호출 수 반납
+     */
+    public synchronized void release(int unusedCalls) {
+        if (!config.isEnabled() || unusedCalls <= 0) {
+            return;
+        }
+        if (isBucketEnabled()) {
+            tokens = Math.min(config.getBurstCapacity(), tokens + unusedCalls);
+        }
+        plannedToday = Math.max(0, plannedToday - unusedCalls);
+    }
+
+    /**
+     * 오늘 호출 현황 (관리자 조회용)
+     */
+    public synchronized QuotaSnapshot snapshot() {
+        rollOverIfNewDay();
+        refill();
+        int plannableRemaining = Math.max(0, plannableDailyLimit() - Math.max(usedToday, plannedToday));
+        return new QuotaSnapshot(
+                today,
+                config.getDailyLimit(),
+                usedToday,
+                Math.max(0, config.getDailyLimit() - usedToday),
+                plannedToday,
+                plannableRemaining,
+                isBucketEnabled() ? tokens : plannableRemaining,
+                new LinkedHashMap<>(callsByEndpoint));
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    private synchronized boolean recordCall(String endpoint) {
+        rollOverIfNewDay();
+        if (usedToday >= config.getDailyLimit()) {
+            return false;
+        }
+        usedToday++;
+        callsByEndpoint.merge(endpoint, 1, Integer::sum);
+        return true;
+    }
+
+    private int plannableDailyLimit() {
+        return (int) (config.getDailyLimit() * (1.0 - config.getReservedRatio()));
+    }
+
+    private boolean isBucketEnabled() {
+        return config.getBurstCapacity() > 0;
+    }
+
+    private void refill() {
+        if (!isBucketEnabled()) {
+            return;
+        }
+        long now = nanoTime.getAsLong();
+        double elapsedSeconds = (now - lastRefillNanos) / 1_000_000_000.0;
+        lastRefillNanos = now;
+        tokens = Math.min(config.getBurstCapacity(), tokens + elapsedSeconds * plannableDailyLimit() / SECONDS_PER_DAY);
+    }
+
+    private void rollOverIfNewDay() {
+        LocalDate now = LocalDate.now(clock.withZone(KMA_ZONE));
+        if (!now.equals(today)) {
+            log.info("기상청 API 일일 호출 집계 초기화: {} 사용 {}건 {}", today, usedToday, callsByEndpoint);
+            today = now;
+            usedToday = 0;
+            plannedToday = 0;
+            callsByEndpoint.clear();
+        }
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    public record QuotaSnapshot(
+            LocalDate date,
+            int dailyLimit,
+            int usedToday,                      // 실제로 보낸 요청 수 (재시도/헤지 포함)
+            int remainingToday,                 // 일일 한도까지 남은 요청 수
+            int plannedToday,                   // 수집 계획으로 할당된 호출 수
+            int plannableRemaining,             // 예비분을 제외하고 더 계획할 수 있는 호출 수
+            double availableTokens,             // 지금 바로 할당 가능한 호출 수 (토큰 버킷)
+            Map<String, Integer> callsByEndpoint
+    ) {}
+
+    /**
+     * 일일 호출 한도 도달로 요청 차단
+     */
+    public static class QuotaExceededException extends RuntimeException {
+        public QuotaExceededException(String endpoint) {
+            super("기상청 API 일일 호출 한도 도달: " + endpoint);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.study.demo.testweatherapi.global.client;
+
+import com.study.demo.testweatherapi.global.config.WeatherResilienceConfig;
+import io.netty.handler.timeout.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.PrematureCloseException;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기상청 WebClient 복원력 필터
+ * - 엔드포인트(path)별 서킷 브레이커: 연속 실패 시 일정 시간 요청을 보내지 않고 즉시 실패
+ * - 타임아웃/연결 오류/5xx/429는 지수 백오프 + jitter로 재시도
+ * - 전체 재시도량은 재시도 예산(요청 수 대비 비율)으로 제한해 장애 중 부하를 키우지 않음
+ * - 응답 본문까지 필터 안에서 받은 뒤 성공으로 기록하므로, 본문 수신 중 타임아웃/연결 끊김도 재시도와 서킷 집계 대상
+ */
+@Slf4j
+@Component
+public class KmaResilienceFilter implements ExchangeFilterFunction {
+
+    private final WeatherResilienceConfig config;
+    private final RetryBudget retryBudget;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    public KmaResilienceFilter(WeatherResilienceConfig config) {
+        this.config = config;
+        this.retryBudget = new RetryBudget(config.getRetryBudgetRatio(), config.getRetryBudgetMaxTokens());
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        // 조회(GET)만 재시도 대상
+        if (!config.isEnabled() || request.method() != HttpMethod.GET) {
+            return next.exchange(request);
+        }
+
+        String endpoint = request.url().getPath();
+        CircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(endpoint, key ->
+                new CircuitBreaker(key, config.getCircuitFailureThreshold(), Duration.ofMillis(config.getCircuitOpenMs())));
+
+        // 요청 수는 구독 시점에 집계 (재시도는 안쪽 Mono만 다시 구독하므로 한 번만 집계됨)
+        return Mono.defer(() -> {
+            retryBudget.recordRequest();
+            return Mono.defer(() -> exchangeOnce(request, next, circuitBreaker, endpoint))
+                    .retryWhen(Retry.backoff(config.getMaxRetries(), Duration.ofMillis(config.getInitialBackoffMs()))
+                            .maxBackoff(Duration.ofMillis(config.getMaxBackoffMs()))
+                            .jitter(config.getJitter())
+                            .filter(error -> isRetryable(error) && acquireRetry(endpoint))
+                            .doBeforeRetry(signal -> log.warn("기상청 API 재시도 {}회차: endpoint={}, 원인={}",
+                                    signal.totalRetries() + 1, endpoint, signal.failure().toString()))
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        });
+    }
+
+    /**
+     * 엔드포인트별 서킷 상태 (모니터링용)
+     */
+    public Map<String, String> getCircuitStates() {
+        Map<String, String> states = new LinkedHashMap<>();
+        circuitBreakers.forEach((endpoint, breaker) -> states.put(endpoint, breaker.getState().name()));
+        return states;
+    }
+
+    public double getAvailableRetryTokens() {
+        return retryBudget.availableTokens();
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    /**
+     * 요청 1회 실행 (서킷 확인 + 결과 기록)
+     * 5xx/429 응답은 본문을 버리고 예외로 바꿔 재시도 판단에 넘김
+     * 그 외 응답은 본문을 끝까지 받은 뒤에 성공으로 기록하고, 받은 조각을 그대로 담은 응답으로 넘김 (복사 없음)
+     */
+    private Mono<ClientResponse> exchangeOnce(ClientRequest request, ExchangeFunction next,
+                                              CircuitBreaker circuitBreaker, String endpoint) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return Mono.error(new CircuitOpenException(endpoint));
+        }
+
+        return next.exchange(request)
+                .flatMap(response -> {
+                    if (isRetryableStatus(response.statusCode())) {
+                        return response.releaseBody()
+                                .then(Mono.<ClientResponse>error(new RetryableStatusException(endpoint, response.statusCode())));
+                    }
+                    return ResponseBodies.collect(response.body(BodyExtractors.toDataBuffers()))
+                            .map(buffers -> {
+                                circuitBreaker.onSuccess();
+                                return response.mutate().body(Flux.fromIterable(buffers)
+                                        .doOnDiscard(DataBuffer.class, DataBufferUtils::release)).build();
+                            });
+                })
+                .doOnError(error -> circuitBreaker.onFailure())
+                .doOnCancel(circuitBreaker::releasePermission);
+    }
+
+    private boolean acquireRetry(String endpoint) {
+        if (retryBudget.tryAcquire()) {
+            return true;
+        }
+        log.warn("재시도 예산 소진으로 재시도 생략: endpoint={}", endpoint);
+        return false;
+    }
+
+    private boolean isRetryable(Throwable error) {
+        return error instanceof RetryableStatusException
+                || error instanceof WebClientRequestException
+                || error instanceof PrematureCloseException
+                || error instanceof TimeoutException
+                || error instanceof java.util.concurrent.TimeoutException;
+    }
+
+    private boolean isRetryableStatus(HttpStatusCode statusCode) {
+        return statusCode.is5xxServerError() || statusCode.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    /**
+     * 서킷 OPEN 상태라 요청을 보내지 않고 실패
+     */
+    public static class CircuitOpenException extends RuntimeException {
+        public CircuitOpenException(String endpoint) {
+            super("기상청 API 서킷 OPEN 상태로 요청 차단: " + endpoint);
+        }
+    }
+
+    /**
+     * 재시도 대상 응답 상태 (5xx, 429)
+     */
+    public static class RetryableStatusException extends RuntimeException {
+        public RetryableStatusException(String endpoint, HttpStatusCode statusCode) {
+            super("기상청 API 오류 응답: " + endpoint + " " + statusCode.value());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.study.demo.testweatherapi.global.client;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 표본 (고정 크기 원형 버퍼)
+ * 헤지 요청 지연 시간을 정할 때 최근 N건의 백분위 응답 시간을 사용
+ */
+class LatencyTracker {
+
+    private final long[] samplesMs;
+    private int next;
+    private int size;
+
+    LatencyTracker(int capacity) {
+        this.samplesMs = new long[Math.max(1, capacity)];
+    }
+
+    synchronized void record(long latencyMs) {
+        samplesMs[next] = latencyMs;
+        next = (next + 1) % samplesMs.length;
+        size = Math.min(size + 1, samplesMs.length);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 최근 표본의 백분위 값 (percentile: 0.0 ~ 1.0, 표본이 없으면 -1)
+     */
+    long percentile(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (size == 0) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(samplesMs, size);
+        }
+        Arrays.sort(sorted);
+
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.min(sorted.length - 1, Math.max(0, index))];
+    }
+}
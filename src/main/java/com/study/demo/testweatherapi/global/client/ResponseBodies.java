@@ -0,0 +1,87 @@
+package com.study.demo.testweatherapi.global.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * WebClient 응답 본문을 문자열로 디코딩하지 않고 바이트로 받기 위한 유틸리티
+ * 수신한 DataBuffer 조각을 모아 전체 크기의 바이트 배열 하나에 바로 복사하고 버퍼는 즉시 반환한다
+ * (DataBufferUtils.join으로 합친 뒤 다시 꺼내면 버퍼 팩토리에 따라 본문을 두 번 복사하게 됨)
+ */
+public final class ResponseBodies {
+
+    /**
+     * 응답 본문 최대 크기 (bulk 중기예보 문서도 충분히 담을 수 있는 크기)
+     */
+    private static final int MAX_BODY_BYTES = 16 * 1024 * 1024;
+
+    private ResponseBodies() {
+    }
+
+    /**
+     * 응답 본문을 바이트 배열로 수집
+     * 공백만 있는 본문은 빈 Mono로 처리
+     */
+    public static Mono<byte[]> toBytes(WebClient.ResponseSpec responseSpec) {
+        return collect(responseSpec.bodyToFlux(DataBuffer.class))
+                .map(ResponseBodies::drain)
+                .filter(bytes -> !isBlank(bytes));
+    }
+
+    /**
+     * 본문 조각을 복사하지 않고 목록으로 수집 (최대 크기 초과 시 DataBufferLimitException)
+     * 수집한 조각은 호출한 쪽이 반환해야 함
+     */
+    public static Mono<List<DataBuffer>> collect(Flux<DataBuffer> body) {
+        return DataBufferUtils.takeUntilByteCount(body, MAX_BODY_BYTES + 1L)
+                .collectList()
+                // 헤지 요청 취소 등으로 중간에 끊기면 모아 둔 조각 반환
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .handle((buffers, sink) -> {
+                    if (sizeOf(buffers) > MAX_BODY_BYTES) {
+                        buffers.forEach(DataBufferUtils::release);
+                        sink.error(new DataBufferLimitException("응답 본문이 최대 크기를 초과: " + MAX_BODY_BYTES + " bytes"));
+                        return;
+                    }
+                    sink.next(buffers);
+                });
+    }
+
+    private static byte[] drain(List<DataBuffer> buffers) {
+        try {
+            byte[] bytes = new byte[sizeOf(buffers)];
+            int offset = 0;
+            for (DataBuffer buffer : buffers) {
+                int length = buffer.readableByteCount();
+                buffer.read(bytes, offset, length);
+                offset += length;
+            }
+            return bytes;
+        } finally {
+            buffers.forEach(DataBufferUtils::release);
+        }
+    }
+
+    private static int sizeOf(List<DataBuffer> buffers) {
+        int size = 0;
+        for (DataBuffer buffer : buffers) {
+            size += buffer.readableByteCount();
+        }
+        return size;
+    }
+
+    private static boolean isBlank(byte[] bytes) {
+        for (byte b : bytes) {
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
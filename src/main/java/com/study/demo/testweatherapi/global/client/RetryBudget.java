@@ -0,0 +1,35 @@
+package com.study.demo.testweatherapi.global.client;
+
+/**
+ * 전체 요청 대비 재시도 비율을 제한하는 토큰 버킷
+ * 요청마다 ratio 만큼 적립하고 재시도마다 1개씩 사용하므로
+ * 외부 API 장애 시 재시도가 요청량의 일정 비율을 넘지 않는다
+ */
+class RetryBudget {
+
+    private final double depositPerRequest;
+    private final double maxTokens;
+    private double tokens;
+
+    RetryBudget(double depositPerRequest, int maxTokens) {
+        this.depositPerRequest = depositPerRequest;
+        this.maxTokens = maxTokens;
+        this.tokens = maxTokens;
+    }
+
+    synchronized void recordRequest() {
+        tokens = Math.min(maxTokens, tokens + depositPerRequest);
+    }
+
+    synchronized boolean tryAcquire() {
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    synchronized double availableTokens() {
+        return tokens;
+    }
+}
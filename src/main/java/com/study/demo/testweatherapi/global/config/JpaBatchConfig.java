@@ -0,0 +1,82 @@
+package com.study.demo.testweatherapi.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JPA 배치 INSERT 설정
+ *
+ * IDENTITY 전략은 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 INSERT 배치를 끄므로,
+ * JPA로 대량 저장하는 엔티티(DailyRecommendation, RegionCode, DailyForecastAggregate,
+ * CurrentShortTermForecast)는 테이블 기반 pooled ID를 사용한다.
+ * ID를 ID_ALLOCATION_SIZE개씩 미리 받아 두므로 persist 시점에 DB 왕복이 없고, INSERT는 flush 때 배치로 전송됨
+ * (MySQL은 JDBC URL에 rewriteBatchedStatements=true가 있어야 실제 multi-row INSERT로 전송됨)
+ *
+ * 원시 예보(RawShortTermWeather, RawMediumTermWeather)와 Region은 대량 저장을 이미 JDBC 배치 / 네이티브 Upsert로
+ * 처리하며 이 경로는 ID를 DB AUTO_INCREMENT에 맡기므로 IDENTITY를 유지한다
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class JpaBatchConfig implements SmartInitializingSingleton {
+
+    public static final String ID_GENERATOR_TABLE = "id_generator";
+    public static final String ID_GENERATOR_SEGMENT_COLUMN = "sequence_name";
+    public static final String ID_GENERATOR_VALUE_COLUMN = "next_val";
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    /**
+     * pooled ID를 사용하는 테이블 (ID 생성기 세그먼트 = 테이블명)
+     */
+    private static final String[] POOLED_ID_TABLES = {
+            "daily_recommendation", "region_code", "daily_forecast_aggregate", "current_short_term_forecast"};
+
+    private static final String SEED_SQL_FORMAT =
+            "INSERT INTO " + ID_GENERATOR_TABLE + " (" + ID_GENERATOR_SEGMENT_COLUMN + ", " + ID_GENERATOR_VALUE_COLUMN + ") " +
+            "SELECT ?, COALESCE(MAX(id), 0) + ? FROM %s " +
+            "ON DUPLICATE KEY UPDATE " + ID_GENERATOR_VALUE_COLUMN + " = " +
+            "GREATEST(" + ID_GENERATOR_VALUE_COLUMN + ", VALUES(" + ID_GENERATOR_VALUE_COLUMN + "))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Hibernate 배치 설정 기본값 (spring.jpa.properties.hibernate.*로 지정한 값이 있으면 그대로 사용)
+     * 배치 크기는 ID 할당 크기와 맞춤
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jpaBatchPropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", ID_ALLOCATION_SIZE);
+            // 같은 테이블 INSERT/UPDATE끼리 모아야 엔티티가 섞여도 배치가 끊기지 않음
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+
+    /**
+     * ID 생성기 시작값 보정 (스케줄러가 시작되기 전에 실행)
+     * IDENTITY로 쌓인 기존 행과 겹치지 않도록 세그먼트 값을 MAX(id) + 할당 크기 이상으로 맞춤
+     * pooled 최적화기는 저장된 값에서 할당 크기만큼 앞선 구간부터 발급하므로 할당 크기만큼 여유를 둔다
+     * 보정에 실패하면 기존 ID와 겹치는 값이 발급될 수 있으므로 기동을 중단한다
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String table : POOLED_ID_TABLES) {
+            try {
+                jdbcTemplate.update(SEED_SQL_FORMAT.formatted(table), table, ID_ALLOCATION_SIZE + 1);
+            } catch (DataAccessException e) {
+                log.error("ID 생성기 시작값 보정 실패: table={}, error={}", table, e.getMessage());
+                throw new IllegalStateException("ID 생성기 시작값 보정 실패: " + table, e);
+            }
+        }
+        log.info("pooled ID 생성기 준비 완료: tables={}, allocationSize={}",
+                String.join(", ", POOLED_ID_TABLES), ID_ALLOCATION_SIZE);
+    }
+}
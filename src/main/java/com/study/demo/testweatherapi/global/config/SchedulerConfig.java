@@ -1,6 +1,7 @@
 package com.study.demo.testweatherapi.global.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -8,6 +9,9 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
 @Configuration
@@ -72,4 +76,41 @@ public class SchedulerConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 추천 정보 생성 파티션 병렬 처리용 스레드 풀
+     * CPU 코어 수(또는 설정값)만큼만 동시에 실행하며, 파티션마다 DB 커넥션을 하나씩 쓰므로
+     * 커넥션 풀 크기보다 작게 유지해야 한다. 큐가 가득 차면 호출 스레드에서 직접 실행 (작업 유실 없음)
+     */
+    @Bean("recommendationTaskExecutor")
+    public Executor recommendationTaskExecutor(
+            @Value("${scheduler.weather.recommendation.parallelism:0}") int parallelism) {
+        int poolSize = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("recommendation-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+
+        log.info("추천 생성 전용 스레드 풀 초기화 완료: size={}, queue={}", poolSize, executor.getQueueCapacity());
+        return executor;
+    }
+
+    /**
+     * 기상청 API 수집용 가상 스레드 실행기 (VIRTUAL_THREAD 모드)
+     * 작업마다 가상 스레드를 새로 만들기 때문에 풀 크기를 정할 필요가 없고,
+     * 동시 API 요청 수는 수집 서비스에서 Semaphore로 제한한다
+     */
+    @Bean(name = "weatherVirtualThreadExecutor", destroyMethod = "close")
+    public ExecutorService weatherVirtualThreadExecutor() {
+        log.info("날씨 수집용 가상 스레드 실행기 초기화");
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("weather-vt-", 0).factory());
+    }
 }
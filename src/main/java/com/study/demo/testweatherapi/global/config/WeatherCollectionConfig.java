@@ -0,0 +1,86 @@
+package com.study.demo.testweatherapi.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "scheduler.weather.collection")
+public class WeatherCollectionConfig {
+
+    /**
+     * 단기예보 수집 실행 방식
+     * SEQUENTIAL: 지역별로 순차 호출 (기본값)
+     * REACTIVE: Flux 기반으로 여러 지역을 동시에 호출
+     * VIRTUAL_THREAD: 격자별 조회-파싱-저장 작업을 가상 스레드에서 실행
+     */
+    private ExecutionMode shortTermMode = ExecutionMode.SEQUENTIAL;
+
+    /**
+     * 중기예보 수집 실행 방식
+     * SEQUENTIAL: 육상/기온을 공용 ForkJoinPool에서 병렬로, 지역코드는 순차 호출 (기본값, REACTIVE도 동일)
+     * VIRTUAL_THREAD: 육상/기온과 지역코드별 호출을 모두 가상 스레드에서 실행
+     */
+    private ExecutionMode mediumTermMode = ExecutionMode.SEQUENTIAL;
+
+    /**
+     * REACTIVE / VIRTUAL_THREAD 모드에서 동시에 진행할 최대 API 요청 수
+     */
+    private int concurrency = 8;
+
+    /**
+     * VIRTUAL_THREAD 모드에서 동시에 진행할 최대 저장 트랜잭션 수
+     * 저장은 트랜잭션마다 DB 커넥션을 하나씩 잡으므로 커넥션 풀 크기(Hikari maximum-pool-size, 기본 10)보다 작게 설정
+     */
+    private int storeConcurrency = 4;
+
+    /**
+     * REACTIVE 모드에서 저장 단계로 넘어가기 전에 버퍼링할 최대 응답 수
+     * 저장이 느려지면 이 값만큼만 쌓이고 이후 요청은 대기 (backpressure)
+     */
+    private int prefetch = 16;
+
+    /**
+     * 중기예보 bulk 수집 여부
+     * true: reg 파라미터 없이 전체 구역 문서를 육상/기온 각 1회만 받아 REG_ID별로 분리
+     * false: 지역코드별로 호출 (기본값)
+     */
+    private boolean mediumTermBulk = false;
+
+    /**
+     * 단기예보 저장 방식
+     * PER_ROW: 행마다 조회 후 save (기본값)
+     * BATCH: (지역, 기준시각)별 기존 키를 한 번에 조회하고 신규 행만 JDBC 배치 INSERT
+     * NATIVE_UPSERT: 자연키 유니크 제약 기반 multi-row INSERT ... ON DUPLICATE KEY UPDATE (MySQL)
+     *   기존 테이블은 db/migration/raw_weather_natural_keys.sql로 중복 행 정리 / 유니크 제약 추가 후 사용
+     *   JDBC URL에 useAffectedRows=true가 필요 (없으면 기동 실패)
+     * JDBC 배치 크기는 scheduler.weather.collection.jdbc-batch-size (기본 500, 저장소 구현에서 직접 읽음)
+     */
+    private UpsertStrategy shortTermUpsertStrategy = UpsertStrategy.PER_ROW;
+
+    /**
+     * 중기예보 저장 방식
+     * PER_ROW: 행마다 조회 후 save (기본값, BATCH도 동일하게 처리)
+     * NATIVE_UPSERT: 지역 하나의 중기예보를 한 문장으로 Upsert (MySQL)
+     *   단기예보와 같이 useAffectedRows=true 필요
+     */
+    private UpsertStrategy mediumTermUpsertStrategy = UpsertStrategy.PER_ROW;
+
+    /**
+     * 수집 실패 지역을 재시도 큐에서 다시 시도할 최대 횟수 (같은 지역, 같은 기준시각 기준)
+     */
+    private int retryQueueMaxAttempts = 3;
+
+    public enum ExecutionMode {
+        SEQUENTIAL,
+        REACTIVE,
+        VIRTUAL_THREAD
+    }
+
+    public enum UpsertStrategy {
+        PER_ROW,
+        BATCH,
+        NATIVE_UPSERT
+    }
+}
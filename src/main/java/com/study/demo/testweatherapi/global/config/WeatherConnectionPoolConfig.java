@@ -0,0 +1,41 @@
+package com.study.demo.testweatherapi.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "weather.api.pool")
+public class WeatherConnectionPoolConfig {
+
+    /**
+     * 최대 커넥션 수 (0 이하면 수집 동시 요청 수 x 2, 헤지 요청 여유분 포함)
+     */
+    private int maxConnections = 0;
+
+    /**
+     * 커넥션을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 실패)
+     */
+    private int pendingAcquireMaxCount = 64;
+
+    /**
+     * 커넥션 획득 대기 시간 상한
+     */
+    private long pendingAcquireTimeoutMs = 10000;
+
+    /**
+     * 유휴 커넥션 유지 시간 (서버/중간 장비가 먼저 끊기 전에 정리)
+     */
+    private long maxIdleTimeMs = 20000;
+
+    /**
+     * 커넥션 최대 수명 (DNS 변경 등 반영)
+     */
+    private long maxLifeTimeMs = 300000;
+
+    /**
+     * 만료 커넥션 백그라운드 정리 주기
+     */
+    private long evictInBackgroundMs = 30000;
+}
@@ -0,0 +1,42 @@
+package com.study.demo.testweatherapi.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "weather.api.quota")
+public class WeatherQuotaConfig {
+
+    /**
+     * 일일 호출 한도 관리 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * authKey 일일 호출 한도 (모든 엔드포인트 합계, 자정 기준 초기화)
+     * 이 값에 도달하면 이후 요청은 보내지 않고 즉시 실패
+     */
+    private int dailyLimit = 10000;
+
+    /**
+     * 호출 할당 기반 수집 계획 사용 여부
+     * 끄면 수집 작업은 할당 없이 전체 지역을 요청하고, 일일 한도 차단(enabled)만 적용됨
+     * 켤 때는 burstCapacity를 한 주기의 호출 수(격자/지역코드 수) 이상으로 잡아야 매 주기 연기가 생기지 않음
+     */
+    private boolean planningEnabled = false;
+
+    /**
+     * 수집 계획에서 제외하는 예비 비율
+     * 재시도/헤지/격자 변환 등 계획 밖 요청이 사용할 몫 (0.1 = 일일 한도의 10%)
+     */
+    private double reservedRatio = 0.1;
+
+    /**
+     * 토큰 버킷 최대 적립량 (한 번에 계획할 수 있는 최대 호출 수)
+     * 단기예보 한 주기의 격자 수보다 크게 잡아야 주기 전체가 한 번에 수집됨
+     * 0 이하면 토큰 버킷 없이 오늘 남은 계획 가능 호출 수로만 제한 (지역 수가 늘어도 연기가 생기지 않음)
+     */
+    private int burstCapacity = 0;
+}
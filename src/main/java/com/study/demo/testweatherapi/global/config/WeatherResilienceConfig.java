@@ -0,0 +1,91 @@
+package com.study.demo.testweatherapi.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "weather.api.resilience")
+public class WeatherResilienceConfig {
+
+    /**
+     * 재시도/서킷 브레이커 필터 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 요청 하나당 최대 재시도 횟수 (첫 요청 제외)
+     */
+    private int maxRetries = 2;
+
+    /**
+     * 첫 재시도 대기 시간 (이후 지수적으로 증가)
+     */
+    private long initialBackoffMs = 300;
+
+    /**
+     * 재시도 대기 시간 상한
+     */
+    private long maxBackoffMs = 3000;
+
+    /**
+     * 대기 시간에 섞을 무작위 비율 (0.0 ~ 1.0)
+     */
+    private double jitter = 0.5;
+
+    /**
+     * 재시도 예산: 요청 1건마다 적립되는 재시도 토큰 (0.2 = 전체 요청의 20%까지 재시도 허용)
+     */
+    private double retryBudgetRatio = 0.2;
+
+    /**
+     * 재시도 예산 최대 적립량 (장애 직후 한 번에 몰리는 재시도 상한)
+     */
+    private int retryBudgetMaxTokens = 20;
+
+    /**
+     * 엔드포인트별 연속 실패 횟수가 이 값에 도달하면 서킷 OPEN
+     */
+    private int circuitFailureThreshold = 5;
+
+    /**
+     * 서킷 OPEN 유지 시간 (이후 요청 1건으로 상태 확인)
+     */
+    private long circuitOpenMs = 30000;
+
+    /**
+     * 단기예보 헤지 요청 사용 여부 (느린 응답에 같은 요청을 한 번 더 보내고 먼저 온 응답 사용)
+     */
+    private boolean hedgingEnabled = false;
+
+    /**
+     * 헤지 기준 백분위: 최근 응답 시간의 이 백분위를 넘기면 헤지 요청 발송
+     */
+    private double hedgePercentile = 0.95;
+
+    /**
+     * 헤지 지연 시간 하한 (응답이 매우 빠를 때 불필요한 헤지 방지)
+     */
+    private long hedgeMinDelayMs = 200;
+
+    /**
+     * 응답 시간 표본 보관 개수 (최근 N건)
+     */
+    private int hedgeSampleSize = 200;
+
+    /**
+     * 헤지를 시작하기 위한 최소 표본 수 (표본이 부족하면 헤지하지 않음)
+     */
+    private int hedgeMinSamples = 20;
+
+    /**
+     * 헤지 예산: 요청 1건마다 적립되는 헤지 토큰 (0.05 = 전체 요청의 5%까지 헤지 허용)
+     */
+    private double hedgeBudgetRatio = 0.05;
+
+    /**
+     * 헤지 예산 최대 적립량
+     */
+    private int hedgeBudgetMaxTokens = 10;
+}
@@ -1,8 +1,12 @@
 package com.study.demo.testweatherapi.global.config;
 
+import com.study.demo.testweatherapi.global.client.ConnectionPoolMetricsRegistry;
+import com.study.demo.testweatherapi.global.client.KmaQuotaGuard;
+import com.study.demo.testweatherapi.global.client.KmaResilienceFilter;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -12,14 +16,22 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class WeatherWebClientConfig {
 
+    private final KmaResilienceFilter resilienceFilter;
+    private final KmaQuotaGuard quotaGuard;
+    private final WeatherConnectionPoolConfig poolConfig;
+    private final WeatherCollectionConfig collectionConfig;
+    private final ConnectionPoolMetricsRegistry poolMetricsRegistry;
+
     @Value("${weather.api.base-url}")
     private String baseUrl;
 
@@ -29,13 +41,38 @@ public class WeatherWebClientConfig {
     @Value("${weather.api.timeout.read}")
     private int readTimeout;
 
+    /**
+     * 기상청 API 전용 커넥션 풀
+     * 병렬 수집 시 매번 새 TLS 연결을 맺지 않도록 수집 동시성에 맞춰 커넥션을 유지하고 재사용
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider weatherConnectionProvider() {
+        int maxConnections = poolConfig.getMaxConnections() > 0
+                ? poolConfig.getMaxConnections()
+                : Math.max(1, collectionConfig.getConcurrency()) * 2;
+        log.info("기상청 API 커넥션 풀 설정: maxConnections={}, pendingAcquireMaxCount={}",
+                maxConnections, poolConfig.getPendingAcquireMaxCount());
+
+        return ConnectionProvider.builder("weather-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(poolConfig.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(poolConfig.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(poolConfig.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(poolConfig.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofMillis(poolConfig.getEvictInBackgroundMs()))
+                .metrics(true, () -> poolMetricsRegistry)
+                .build();
+    }
+
     /**
      * 기상청 API 전용 WebClient 설정
      */
     @Bean
-    public WebClient weatherWebClient() {
-        // HTTP 클라이언트 타임아웃 설정
-        HttpClient httpClient = HttpClient.create()
+    public WebClient weatherWebClient(ConnectionProvider weatherConnectionProvider) {
+        // HTTP 클라이언트 타임아웃 설정 (keep-alive 커넥션 재사용, gzip 응답 요청)
+        HttpClient httpClient = HttpClient.create(weatherConnectionProvider)
+                .keepAlive(true)
+                .compress(true)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
                 .responseTimeout(Duration.ofMillis(readTimeout))
                 .doOnConnected(conn ->
@@ -46,6 +83,8 @@ public class WeatherWebClientConfig {
         return WebClient.builder()
                 .baseUrl(baseUrl)
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(resilienceFilter)   // 가장 바깥: 재시도 시 아래 로깅/에러 필터도 매번 거침
+                .filter(quotaGuard)         // 재시도/헤지를 포함해 실제로 나가는 요청마다 일일 한도 집계
                 .filter(logRequest())
                 .filter(logResponse())
                 .filter(handleErrors())
@@ -0,0 +1,32 @@
+-- 원시 예보 자연키 유니크 제약 추가 (NATIVE_UPSERT 저장 방식 사용 전 1회 실행, MySQL)
+-- ddl-auto=update는 이미 중복 행이 있는 테이블에 유니크 제약을 추가하지 못하므로,
+-- 자연키가 같은 행 중 가장 최근에 저장된 행(id가 가장 큰 행)만 남기고 삭제한 뒤 제약을 추가한다
+-- 제약이 이미 있으면 (SHOW INDEX FROM <table>로 확인) 해당 테이블의 ALTER는 건너뛴다
+
+-- 1. 단기 예보: (region_id, base_date, base_time, fcst_date, fcst_time)
+DELETE older
+FROM raw_short_term_weather older
+JOIN raw_short_term_weather newer
+  ON newer.region_id = older.region_id
+ AND newer.base_date = older.base_date
+ AND newer.base_time = older.base_time
+ AND newer.fcst_date = older.fcst_date
+ AND newer.fcst_time = older.fcst_time
+ AND newer.id > older.id;
+
+ALTER TABLE raw_short_term_weather
+    ADD CONSTRAINT uk_raw_short_term_weather_natural_key
+        UNIQUE (region_id, base_date, base_time, fcst_date, fcst_time);
+
+-- 2. 중기 예보: (region_id, tmfc, tmef)
+DELETE older
+FROM raw_medium_term_weather older
+JOIN raw_medium_term_weather newer
+  ON newer.region_id = older.region_id
+ AND newer.tmfc = older.tmfc
+ AND newer.tmef = older.tmef
+ AND newer.id > older.id;
+
+ALTER TABLE raw_medium_term_weather
+    ADD CONSTRAINT uk_raw_medium_term_weather_natural_key
+        UNIQUE (region_id, tmfc, tmef);
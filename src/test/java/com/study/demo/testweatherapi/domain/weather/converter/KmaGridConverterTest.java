@@ -0,0 +1,67 @@
+package com.study.demo.testweatherapi.domain.weather.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class KmaGridConverterTest {
+
+    /**
+     * 기상청 격자 변환 API / 동네예보 지점 목록과 같은 결과인지 확인
+     */
+    @ParameterizedTest(name = "{0}: ({1}, {2}) -> ({3}, {4})")
+    @CsvSource({
+            "서울 시청, 37.5665, 126.9780, 60, 127",
+            "서울 종로 (API 응답 샘플), 37.571712, 126.986069, 60, 127",
+            "부산, 35.10321667, 129.0345083, 97, 74",
+            "대구, 35.8685417, 128.6035528, 89, 90",
+            "인천, 37.4531861, 126.7073944, 55, 124",
+            "광주, 35.1569750, 126.8533639, 58, 74",
+            "대전, 36.3471194, 127.3865667, 67, 100",
+            "울산, 35.5354083, 129.3136889, 102, 84",
+            "제주, 33.49631111, 126.5332083, 53, 38"
+    })
+    @DisplayName("위경도 -> 격자 변환이 기상청 API 결과와 일치")
+    void toGridMatchesKmaApi(String name, double latitude, double longitude, int expectedX, int expectedY) {
+        KmaGridConverter.Grid grid = KmaGridConverter.toGrid(latitude, longitude);
+
+        assertThat(grid).as(name).isEqualTo(new KmaGridConverter.Grid(expectedX, expectedY));
+    }
+
+    @Test
+    @DisplayName("기준점 (38N, 126E)은 기준 격자 (43, 136)")
+    void originMapsToOriginGrid() {
+        assertThat(KmaGridConverter.toGrid(38.0, 126.0)).isEqualTo(new KmaGridConverter.Grid(43, 136));
+
+        KmaGridConverter.LatLon origin = KmaGridConverter.toLatLon(43, 136);
+        assertThat(origin.latitude()).isCloseTo(38.0, within(1e-9));
+        assertThat(origin.longitude()).isCloseTo(126.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("격자 -> 위경도 -> 격자 왕복 변환 시 같은 격자")
+    void roundTrip() {
+        for (int x = KmaGridConverter.GRID_MIN; x <= KmaGridConverter.GRID_MAX_X; x += 4) {
+            for (int y = KmaGridConverter.GRID_MIN; y <= KmaGridConverter.GRID_MAX_Y; y += 4) {
+                KmaGridConverter.LatLon center = KmaGridConverter.toLatLon(x, y);
+
+                assertThat(KmaGridConverter.toGrid(center.latitude(), center.longitude()))
+                        .isEqualTo(new KmaGridConverter.Grid(x, y));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("격자 범위 판정: 경계는 포함, 범위 밖 좌표는 제외")
+    void gridRange() {
+        assertThat(new KmaGridConverter.Grid(1, 1).isInRange()).isTrue();
+        assertThat(new KmaGridConverter.Grid(149, 253).isInRange()).isTrue();
+        assertThat(new KmaGridConverter.Grid(0, 127).isInRange()).isFalse();
+        assertThat(new KmaGridConverter.Grid(60, 254).isInRange()).isFalse();
+        assertThat(KmaGridConverter.toGrid(10.0, 100.0).isInRange()).isFalse();
+    }
+}
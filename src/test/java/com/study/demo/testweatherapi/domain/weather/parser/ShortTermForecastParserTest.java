@@ -0,0 +1,110 @@
+package com.study.demo.testweatherapi.domain.weather.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.demo.testweatherapi.domain.weather.entity.RawShortTermWeather;
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShortTermForecastParserTest {
+
+    private final ShortTermForecastParser parser = new ShortTermForecastParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("다섯 카테고리가 모두 모인 예보 시각만 행으로 만들고 나머지 카테고리는 무시")
+    void collectsOnlyCompleteSlots() throws IOException {
+        List<ShortTermForecastRow> rows = parser.parse(load("short-term-vilage-fcst.json"));
+
+        // 1400은 PCP가 빠져 있어 제외
+        assertThat(rows).extracting(ShortTermForecastRow::fcstTime).containsExactly("1200", "1300", "1500");
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.baseDate()).isEqualTo(LocalDate.of(2025, 7, 15));
+            assertThat(row.baseTime()).isEqualTo("1100");
+            assertThat(row.fcstDate()).isEqualTo(LocalDate.of(2025, 7, 15));
+        });
+    }
+
+    @Test
+    @DisplayName("SKY/PTY 코드를 한글 값으로, TMP/POP를 숫자로 변환")
+    void convertsCategoryValues() throws IOException {
+        List<ShortTermForecastRow> rows = parser.parse(load("short-term-vilage-fcst.json"));
+
+        ShortTermForecastRow noon = rows.get(0);
+        assertThat(noon.tmp()).isEqualTo(28.0);
+        assertThat(noon.sky()).isEqualTo("흐림");
+        assertThat(noon.pop()).isEqualTo(60.0);
+        assertThat(noon.pty()).isEqualTo("비");
+
+        assertThat(rows.get(1).sky()).isEqualTo("맑음");
+        assertThat(rows.get(1).pty()).isEqualTo("없음");
+        assertThat(rows.get(2).pty()).isEqualTo("눈");
+    }
+
+    @Test
+    @DisplayName("PCP 문자열 값: 강수없음은 0, 단위가 붙은 값은 숫자만 추출")
+    void convertsPrecipitationText() throws IOException {
+        List<ShortTermForecastRow> rows = parser.parse(load("short-term-vilage-fcst.json"));
+
+        assertThat(rows.get(0).pcp()).isEqualTo(1.0);   // "1mm 미만"
+        assertThat(rows.get(1).pcp()).isEqualTo(0.0);   // "강수없음"
+        assertThat(rows.get(2).pcp()).isEqualTo(2.5);   // "2.5mm"
+    }
+
+    @Test
+    @DisplayName("오류 응답(resultCode != 00)이나 items가 빈 응답은 빈 목록")
+    void errorResponseYieldsNoRows() throws IOException {
+        byte[] noData = """
+                {"response":{"header":{"resultCode":"03","resultMsg":"NO_DATA"}}}
+                """.getBytes(StandardCharsets.UTF_8);
+        byte[] emptyItems = """
+                {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL_SERVICE"},
+                 "body":{"dataType":"JSON","items":"","pageNo":1,"numOfRows":1000,"totalCount":0}}}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(parser.parse(noData)).isEmpty();
+        assertThat(parser.parse(emptyItems)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JSON이 아닌 XML 오류 응답은 파싱 예외")
+    void xmlErrorResponseThrows() {
+        byte[] xml = """
+                <OpenAPI_ServiceResponse><cmmMsgHeader><errMsg>SERVICE ERROR</errMsg>\
+                <returnAuthMsg>SERVICE_KEY_IS_NOT_REGISTERED_ERROR</returnAuthMsg>\
+                <returnReasonCode>30</returnReasonCode></cmmMsgHeader></OpenAPI_ServiceResponse>
+                """.getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> parser.parse(xml)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("격자 행을 지역 엔티티로 복제")
+    void toEntityCopiesRowForRegion() throws IOException {
+        ShortTermForecastRow row = parser.parse(load("short-term-vilage-fcst.json")).get(0);
+        Region region = Region.builder().id(1L).name("서울").build();
+
+        RawShortTermWeather entity = row.toEntity(region);
+
+        assertThat(entity.getRegion()).isSameAs(region);
+        assertThat(entity.getFcstTime()).isEqualTo("1200");
+        assertThat(entity.getTmp()).isEqualTo(28.0);
+        assertThat(entity.getSky()).isEqualTo("흐림");
+        assertThat(entity.getPcp()).isEqualTo(1.0);
+    }
+
+    private byte[] load(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/kma/" + name)) {
+            assertThat(in).as("샘플 파일 " + name).isNotNull();
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.study.demo.testweatherapi.domain.weather.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Typ01TextParserTest {
+
+    private final Typ01TextParser parser = new Typ01TextParser();
+
+    @Test
+    @DisplayName("중기 육상예보: 주석 줄은 건너뛰고 따옴표로 감싼 WF 값은 한 컬럼으로 취급")
+    void parseMediumTermLand() throws IOException {
+        List<String[]> rows = new ArrayList<>();
+
+        boolean found = parser.parse(load("medium-term-land.txt"), row -> {
+            assertThat(row.columnCount()).isEqualTo(11);
+            rows.add(new String[]{row.text(0), row.text(1), row.text(2), row.text(6), row.text(10)});
+        });
+
+        assertThat(found).isTrue();
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0)).containsExactly("11B00000", "202507150600", "202507180000", "WB01", "10");
+        assertThat(rows.get(2)).containsExactly("11B00000", "202507150600", "202507190000", "WB04", "60");
+        assertThat(rows.get(3)[0]).isEqualTo("11D10000");
+    }
+
+    @Test
+    @DisplayName("중기 기온예보: MIN/MAX 컬럼과 음수 기온 변환")
+    void parseMediumTermTemp() throws IOException {
+        List<double[]> minMax = new ArrayList<>();
+
+        parser.parse(load("medium-term-temp.txt"), row -> {
+            assertThat(row.columnCount()).isEqualTo(12);
+            minMax.add(new double[]{row.doubleValue(6), row.doubleValue(7)});
+        });
+
+        assertThat(minMax).hasSize(3);
+        assertThat(minMax.get(0)).containsExactly(26.0, 34.0);
+        assertThat(minMax.get(2)).containsExactly(-8.0, 2.0);
+    }
+
+    @Test
+    @DisplayName("yyyyMMddHHmm 컬럼을 날짜/시각/정수 키로 변환")
+    void decodeTimestamps() throws IOException {
+        List<Object[]> decoded = new ArrayList<>();
+
+        parser.parse(load("medium-term-land.txt"), row ->
+                decoded.add(new Object[]{row.date(2), row.dateTime(2), row.timestamp(2)}));
+
+        assertThat(decoded.get(1)[0]).isEqualTo(LocalDate.of(2025, 7, 18));
+        assertThat(decoded.get(1)[1]).isEqualTo(LocalDateTime.of(2025, 7, 18, 12, 0));
+        assertThat(decoded.get(1)[2]).isEqualTo(202507181200L);
+    }
+
+    @Test
+    @DisplayName("격자 변환 응답: 쉼표 구분 컬럼에서 X, Y 추출")
+    void parseGridConversion() throws IOException {
+        List<int[]> grids = new ArrayList<>();
+
+        boolean found = parser.parse(load("grid-conversion.txt"), row -> {
+            assertThat(row.isNumber(0)).isTrue();
+            assertThat(row.doubleValue(1)).isEqualTo(37.5665);
+            grids.add(new int[]{row.intValue(2), row.intValue(3)});
+        });
+
+        assertThat(found).isTrue();
+        assertThat(grids).hasSize(1);
+        assertThat(grids.get(0)).containsExactly(60, 127);
+    }
+
+    @Test
+    @DisplayName("시작 마커가 없으면 false를 반환하고 콜백을 호출하지 않음")
+    void missingStartMarker() {
+        byte[] body = "11B00000 202507150600 202507180000 A02 109 2 WB01\n".getBytes(StandardCharsets.US_ASCII);
+        List<Integer> calls = new ArrayList<>();
+
+        boolean found = parser.parse(body, row -> calls.add(row.columnCount()));
+
+        assertThat(found).isFalse();
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 코드값(A01 등)은 isNumber=false, doubleValue는 예외")
+    void nonNumericColumn() {
+        byte[] body = "#START7777\n11B10101 A01 -3.5 .5\n#7777END\n".getBytes(StandardCharsets.US_ASCII);
+
+        boolean found = parser.parse(body, row -> {
+            assertThat(row.isNumber(1)).isFalse();
+            assertThatThrownBy(() -> row.doubleValue(1)).isInstanceOf(NumberFormatException.class);
+            assertThat(row.doubleValue(2)).isEqualTo(-3.5);
+            assertThat(row.doubleValue(3)).isEqualTo(0.5);
+        });
+
+        assertThat(found).isTrue();
+    }
+
+    private byte[] load(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/kma/" + name)) {
+            assertThat(in).as("샘플 파일 " + name).isNotNull();
+            return in.readAllBytes();
+        }
+    }
+}
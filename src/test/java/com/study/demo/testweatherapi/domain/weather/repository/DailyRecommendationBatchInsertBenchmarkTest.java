@@ -0,0 +1,177 @@
+package com.study.demo.testweatherapi.domain.weather.repository;
+
+import com.study.demo.testweatherapi.domain.weather.entity.DailyRecommendation;
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+import com.study.demo.testweatherapi.domain.weather.entity.WeatherTemplate;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 추천 정보 INSERT 처리량 벤치마크 (MySQL 필요, 기본 비활성화)
+ * ./gradlew test --tests '*BatchInsertBenchmarkTest' -Dbenchmark=true
+ *
+ * IDENTITY ID로 저장할 때 Hibernate가 하는 방식(행마다 INSERT 후 생성된 키 조회, 배치 없음)을 JDBC로 재현해
+ * pooled ID 엔티티(DailyRecommendation)의 배치 INSERT와 초당 행 수를 비교
+ * IDENTITY 쪽은 연결 전용 임시 테이블(CREATE TEMPORARY TABLE)에 저장하므로 엔티티 스캔이나 스키마에 흔적이 남지 않고,
+ * 모든 라운드는 롤백되므로 데이터도 남지 않음
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DailyRecommendationBatchInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyRecommendationBatchInsertBenchmarkTest.class);
+
+    private static final int ROWS = 5_000;
+    private static final int WARMUP_ROUNDS = 1;
+    private static final int MEASURED_ROUNDS = 3;
+
+    /**
+     * 실제 추천 데이터와 겹치지 않는 먼 미래 날짜에 저장
+     */
+    private static final LocalDate BASE_DATE = LocalDate.of(2999, 1, 1);
+
+    /**
+     * daily_recommendation과 같은 컬럼의 AUTO_INCREMENT 임시 테이블
+     * 임시 테이블 생성은 암묵적 커밋을 일으키지 않으므로 라운드 트랜잭션 안에서 만들어도 롤백이 유지됨
+     */
+    private static final String CREATE_IDENTITY_TABLE_SQL =
+            "CREATE TEMPORARY TABLE IF NOT EXISTS benchmark_identity_recommendation (" +
+            "id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+            "region_id BIGINT NOT NULL, " +
+            "weather_template_id BIGINT NOT NULL, " +
+            "forecast_date DATE NOT NULL, " +
+            "generation_version BIGINT NOT NULL, " +
+            "created_at DATETIME(6), " +
+            "updated_at DATETIME(6) NOT NULL)";
+
+    private static final String INSERT_IDENTITY_SQL =
+            "INSERT INTO benchmark_identity_recommendation " +
+            "(region_id, weather_template_id, forecast_date, generation_version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, 0, ?, ?)";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RegionRepository regionRepository;
+
+    @Autowired
+    private WeatherTemplateRepository weatherTemplateRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("IDENTITY ID(행 단위 INSERT) vs pooled ID(JDBC 배치) INSERT 초당 행 수")
+    void compareInsertThroughput() {
+        List<Region> regions = regionRepository.findAll();
+        List<WeatherTemplate> templates = weatherTemplateRepository.findAll();
+        assumeTrue(!regions.isEmpty() && !templates.isEmpty(), "지역/템플릿 데이터가 있어야 실행 가능");
+
+        double identity = measureRowsPerSecond(regions.get(0), templates.get(0),
+                () -> jdbcTemplate.execute(CREATE_IDENTITY_TABLE_SQL),
+                this::insertIdentityRows);
+        double pooled = measureRowsPerSecond(regions.get(0), templates.get(0),
+                () -> {},
+                this::insertPooledRows);
+
+        log.info("추천 정보 INSERT {}행: IDENTITY {} rows/s, pooled {} rows/s ({}x)",
+                ROWS, Math.round(identity), Math.round(pooled), String.format("%.1f", pooled / identity));
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    /**
+     * Hibernate IDENTITY 저장과 같은 순서: 행마다 INSERT를 실행하고 생성된 키를 받아옴
+     */
+    private void insertIdentityRows(RoundContext context) {
+        Timestamp now = Timestamp.valueOf(context.now());
+        for (int i = 0; i < ROWS; i++) {
+            Date forecastDate = Date.valueOf(BASE_DATE.plusDays(i));
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_IDENTITY_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, context.region().getId());
+                ps.setLong(2, context.template().getId());
+                ps.setDate(3, forecastDate);
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+                return ps;
+            }, new GeneratedKeyHolder());
+        }
+    }
+
+    private void insertPooledRows(RoundContext context) {
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(DailyRecommendation.builder()
+                    .region(context.region())
+                    .weatherTemplate(context.template())
+                    .forecastDate(BASE_DATE.plusDays(i))
+                    .updatedAt(context.now())
+                    .build());
+        }
+        entityManager.flush();
+    }
+
+    /**
+     * @param prepare    라운드 트랜잭션 안에서 측정 전에 한 번 실행
+     * @param insertRows ROWS개 행을 저장 (측정 구간)
+     */
+    private double measureRowsPerSecond(Region region, WeatherTemplate template,
+                                        Runnable prepare, Consumer<RoundContext> insertRows) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long totalNanos = 0;
+
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long elapsed = transactionTemplate.execute(status -> {
+                status.setRollbackOnly();
+                prepare.run();
+
+                RoundContext context = new RoundContext(
+                        entityManager.getReference(Region.class, region.getId()),
+                        entityManager.getReference(WeatherTemplate.class, template.getId()),
+                        LocalDateTime.now());
+
+                long start = System.nanoTime();
+                insertRows.accept(context);
+                long duration = System.nanoTime() - start;
+
+                entityManager.clear();
+                return duration;
+            });
+
+            if (round >= WARMUP_ROUNDS) {
+                totalNanos += elapsed;
+            }
+        }
+
+        return (double) ROWS * MEASURED_ROUNDS / (totalNanos / 1_000_000_000.0);
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    private record RoundContext(Region region, WeatherTemplate template, LocalDateTime now) {}
+}
@@ -0,0 +1,124 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+import com.study.demo.testweatherapi.domain.weather.entity.RegionCode;
+import com.study.demo.testweatherapi.domain.weather.repository.RegionCodeRepository;
+import com.study.demo.testweatherapi.domain.weather.repository.RegionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class RegionBulkImportServiceTest {
+
+    private static final String HEADER = "name,latitude,longitude,landRegCode,tempRegCode\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RegionRepository regionRepository;
+    private RegionCodeRepository regionCodeRepository;
+    private RegionBulkImportWriter importWriter;
+    private RegionBulkImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        regionRepository = mock(RegionRepository.class);
+        regionCodeRepository = mock(RegionCodeRepository.class);
+        importWriter = mock(RegionBulkImportWriter.class);
+        when(regionRepository.findAllNames()).thenReturn(List.of());
+        when(regionRepository.findAllCoordinates()).thenReturn(List.of());
+        when(regionCodeRepository.findAll()).thenReturn(List.of());
+
+        importService = new RegionBulkImportService(regionRepository, regionCodeRepository, importWriter, objectMapper);
+        ReflectionTestUtils.setField(importService, "chunkSize", 500);
+    }
+
+    @Test
+    @DisplayName("파일 안에서 같은 지역명 / 근접 좌표는 건너뜀")
+    void skipsDuplicatesWithinFile() throws IOException {
+        List<JsonNode> results = importCsv(HEADER +
+                "서울,37.5665,126.9780,11B00000,11B10101\n" +
+                "서울,35.1000,129.0300,11H20000,11H20201\n" +
+                "서울시청,37.5666,126.9781,11B00000,11B10101\n" +
+                "부산,35.1032,129.0345,11H20000,11H20201\n");
+
+        assertThat(statuses(results)).containsExactly("CREATED", "SKIPPED", "SKIPPED", "CREATED");
+        assertThat(summary(results).get("createdRegionCodes").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("격자 범위 밖 행은 이후 행을 막지 않고 지역코드도 저장하지 않음")
+    void outOfRangeRowDoesNotReserveNameOrRegionCode() throws IOException {
+        List<JsonNode> results = importCsv(HEADER +
+                "서울,10.0000,100.0000,11B00000,11B10101\n" +
+                "서울,37.5665,126.9780,11H20000,11H20201\n");
+
+        assertThat(statuses(results)).containsExactly("FAILED", "CREATED");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RegionCode>> codesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(importWriter).saveChunk(codesCaptor.capture(), anyList());
+        assertThat(codesCaptor.getValue()).extracting(RegionCode::getLandRegCode).containsExactly("11H20000");
+    }
+
+    @Test
+    @DisplayName("청크 저장 실패 시 지역명/좌표/지역코드를 되돌려 이후 청크에서 다시 등록 가능")
+    void failedChunkReleasesNamesCoordinatesAndCodes() throws IOException {
+        ReflectionTestUtils.setField(importService, "chunkSize", 1);
+        List<List<Region>> savedChunks = new ArrayList<>();
+        when(importWriter.saveChunk(anyList(), anyList()))
+                .thenThrow(new IllegalStateException("DB 오류"))
+                .thenAnswer(invocation -> {
+                    List<Region> regions = invocation.getArgument(1);
+                    savedChunks.add(regions);
+                    return regions.size();
+                });
+
+        List<JsonNode> results = importCsv(HEADER +
+                "서울,37.5665,126.9780,11B00000,11B10101\n" +
+                "서울,37.5666,126.9781,11B00000,11B10101\n");
+
+        assertThat(statuses(results)).containsExactly("FAILED", "CREATED");
+        assertThat(summary(results).get("createdRegionCodes").asInt()).isEqualTo(1);
+        assertThat(savedChunks).hasSize(1);
+        assertThat(savedChunks.get(0)).extracting(Region::getName).containsExactly("서울");
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    private List<JsonNode> importCsv(String csv) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        importService.importRegions(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                RegionBulkImportService.ImportFormat.CSV, output);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private List<String> statuses(List<JsonNode> results) {
+        return results.stream()
+                .map(node -> node.get("status").asText())
+                .filter(status -> !"SUMMARY".equals(status))
+                .toList();
+    }
+
+    private JsonNode summary(List<JsonNode> results) {
+        return results.get(results.size() - 1);
+    }
+}
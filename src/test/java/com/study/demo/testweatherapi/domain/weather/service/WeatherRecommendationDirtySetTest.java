@@ -0,0 +1,112 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.study.demo.testweatherapi.domain.weather.entity.RawMediumTermWeather;
+import com.study.demo.testweatherapi.domain.weather.entity.RawShortTermWeather;
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherRecommendationDirtySetTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final WeatherRecommendationDirtySet dirtySet = new WeatherRecommendationDirtySet();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 바로 기록하고, 같은 (지역, 날짜)는 한 칸으로 합침")
+    void marksImmediatelyOutsideTransaction() {
+        Region seoul = region(1L);
+        dirtySet.markShortTerm(List.of(shortTerm(seoul, TODAY), shortTerm(seoul, TODAY), shortTerm(seoul, TODAY.plusDays(1))));
+        dirtySet.markMediumTerm(List.of(mediumTerm(seoul, TODAY.plusDays(5))));
+
+        assertThat(dirtySet.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에만 기록")
+    void marksAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        dirtySet.markShortTerm(List.of(shortTerm(region(1L), TODAY)));
+        assertThat(dirtySet.size()).isZero();
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(dirtySet.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("롤백되면 기록하지 않음")
+    void skipsOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        dirtySet.markMediumTerm(List.of(mediumTerm(region(1L), TODAY.plusDays(4))));
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(dirtySet.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("꺼낼 때 범위 안 칸만 지역별로 묶어 반환, 범위 밖은 남기고 지난 날짜는 버림")
+    void drainsRangeAndDropsPastDates() {
+        Region seoul = region(1L);
+        Region busan = region(2L);
+        dirtySet.markShortTerm(List.of(
+                shortTerm(seoul, TODAY.minusDays(1)),
+                shortTerm(seoul, TODAY.plusDays(1)),
+                shortTerm(seoul, TODAY),
+                shortTerm(busan, TODAY.plusDays(2))));
+        dirtySet.markMediumTerm(List.of(mediumTerm(busan, TODAY.plusDays(7))));
+
+        Map<Long, Set<LocalDate>> drained = dirtySet.drain(TODAY, TODAY.plusDays(3));
+
+        assertThat(drained).containsOnlyKeys(1L, 2L);
+        assertThat(drained.get(1L)).containsExactly(TODAY, TODAY.plusDays(1));
+        assertThat(drained.get(2L)).containsExactly(TODAY.plusDays(2));
+        assertThat(dirtySet.size()).isEqualTo(1);
+        assertThat(dirtySet.drain(TODAY, TODAY.plusDays(10))).containsEntry(2L, Set.of(TODAY.plusDays(7)));
+    }
+
+    @Test
+    @DisplayName("재생성에 실패해 되돌린 칸은 다음에 다시 꺼냄")
+    void restoredCellsAreDrainedAgain() {
+        dirtySet.markShortTerm(List.of(shortTerm(region(1L), TODAY)));
+        Map<Long, Set<LocalDate>> drained = dirtySet.drain(TODAY, TODAY);
+        assertThat(dirtySet.size()).isZero();
+
+        dirtySet.restore(drained);
+
+        assertThat(dirtySet.drain(TODAY, TODAY)).isEqualTo(drained);
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    private Region region(Long id) {
+        return Region.builder().id(id).name("지역" + id).build();
+    }
+
+    private RawShortTermWeather shortTerm(Region region, LocalDate fcstDate) {
+        return RawShortTermWeather.builder().region(region).fcstDate(fcstDate).fcstTime("1200").build();
+    }
+
+    private RawMediumTermWeather mediumTerm(Region region, LocalDate tmef) {
+        return RawMediumTermWeather.builder().region(region).tmef(tmef).build();
+    }
+}
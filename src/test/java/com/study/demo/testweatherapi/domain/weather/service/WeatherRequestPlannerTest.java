@@ -0,0 +1,130 @@
+package com.study.demo.testweatherapi.domain.weather.service;
+
+import com.study.demo.testweatherapi.domain.weather.entity.Region;
+import com.study.demo.testweatherapi.global.client.KmaQuotaGuard;
+import com.study.demo.testweatherapi.global.config.WeatherQuotaConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class WeatherRequestPlannerTest {
+
+    private static final String PLAN = "단기예보";
+
+    private KmaQuotaGuard quotaGuard;
+    private WeatherQuotaConfig quotaConfig;
+    private WeatherRequestPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        quotaGuard = mock(KmaQuotaGuard.class);
+        quotaConfig = new WeatherQuotaConfig();
+        quotaConfig.setPlanningEnabled(true);
+        planner = new WeatherRequestPlanner(quotaGuard, quotaConfig);
+    }
+
+    @Test
+    @DisplayName("할당 부족 시 우선순위 순으로 선택하고, 이미 배정된 격자를 공유하는 지역은 추가 호출 없이 포함")
+    void partialGrantSelectsByPriorityAndSharesKeys() {
+        Region high = region(1L, 5);
+        Region sharesHigh = region(2L, 3);
+        Region middle = region(3L, 4);
+        Region low = region(4L, 1);
+        Map<Region, List<String>> keys = Map.of(
+                high, List.of("60,127"), sharesHigh, List.of("60,127"),
+                middle, List.of("97,74"), low, List.of("89,90"));
+        when(quotaGuard.acquire(3)).thenReturn(2);
+
+        WeatherRequestPlanner.Plan plan = planner.plan(PLAN, List.of(high, sharesHigh, middle, low), keys::get);
+
+        // 원래 순서 유지
+        assertThat(plan.selected()).containsExactly(high, sharesHigh, middle);
+        assertThat(plan.deferred()).containsExactly(low);
+        assertThat(plan.plannedCalls()).isEqualTo(2);
+        verify(quotaGuard).release(0);
+    }
+
+    @Test
+    @DisplayName("남은 할당에 들어오지 않는 지역은 건너뛰고, 쓰지 않은 할당은 반납")
+    void releasesUnusedGrant() {
+        Region manyKeys = region(1L, 5);
+        Region oneKey = region(2L, 1);
+        Map<Region, List<String>> keys = Map.of(
+                manyKeys, List.of("11B00000", "11B10101", "11B20201"),
+                oneKey, List.of("11H20000"));
+        when(quotaGuard.acquire(4)).thenReturn(2);
+
+        WeatherRequestPlanner.Plan plan = planner.plan(PLAN, List.of(manyKeys, oneKey), keys::get);
+
+        assertThat(plan.selected()).containsExactly(oneKey);
+        assertThat(plan.deferred()).containsExactly(manyKeys);
+        assertThat(plan.plannedCalls()).isEqualTo(1);
+        verify(quotaGuard).release(1);
+    }
+
+    @Test
+    @DisplayName("연속으로 연기된 지역은 연기 횟수만큼 우선순위가 올라 더 높은 정적 우선순위를 앞지름")
+    void agedRegionOvertakesHigherStaticPriority() {
+        Region important = region(1L, 3);
+        Region starving = region(2L, 1);
+        Map<Region, List<String>> keys = Map.of(important, List.of("60,127"), starving, List.of("97,74"));
+        when(quotaGuard.acquire(anyInt())).thenReturn(1);
+
+        // 1, 2회차: 3 vs 1+0, 3 vs 1+1 → important
+        assertThat(planner.plan(PLAN, List.of(important, starving), keys::get).selected()).containsExactly(important);
+        assertThat(planner.plan(PLAN, List.of(important, starving), keys::get).selected()).containsExactly(important);
+
+        // 3회차: 3 vs 1+2 동률 → 더 오래 연기된 starving
+        WeatherRequestPlanner.Plan third = planner.plan(PLAN, List.of(important, starving), keys::get);
+        assertThat(third.selected()).containsExactly(starving);
+        assertThat(third.deferred()).containsExactly(important);
+
+        // 수집되면 연기 횟수 초기화 → 다시 important
+        assertThat(planner.plan(PLAN, List.of(important, starving), keys::get).selected()).containsExactly(important);
+
+        // 연기 횟수는 계획 종류별로 따로 관리
+        assertThat(planner.plan("중기예보", List.of(important, starving), keys::get).selected()).containsExactly(important);
+    }
+
+    @Test
+    @DisplayName("할당이 충분하면 전체 지역을 수집하고 반납하지 않음")
+    void fullGrantSelectsAll() {
+        Region first = region(1L, 0);
+        Region second = region(2L, 0);
+        Map<Region, List<String>> keys = Map.of(first, List.of("60,127"), second, List.of("60,127"));
+        when(quotaGuard.acquire(1)).thenReturn(1);
+
+        WeatherRequestPlanner.Plan plan = planner.plan(PLAN, List.of(first, second), keys::get);
+
+        assertThat(plan.selected()).containsExactly(first, second);
+        assertThat(plan.deferred()).isEmpty();
+        assertThat(plan.plannedCalls()).isEqualTo(1);
+        verify(quotaGuard, never()).release(anyInt());
+    }
+
+    @Test
+    @DisplayName("계획을 끄면 할당 없이 전체 지역 수집")
+    void planningDisabledSkipsQuota() {
+        quotaConfig.setPlanningEnabled(false);
+        Region region = region(1L, 0);
+
+        WeatherRequestPlanner.Plan plan = planner.plan(PLAN, List.of(region), r -> List.<String>of("60,127"));
+
+        assertThat(plan.selected()).containsExactly(region);
+        assertThat(plan.plannedCalls()).isEqualTo(1);
+        verifyNoInteractions(quotaGuard);
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    private Region region(Long id, int priority) {
+        return Region.builder().id(id).name("지역" + id).priority(priority).build();
+    }
+}
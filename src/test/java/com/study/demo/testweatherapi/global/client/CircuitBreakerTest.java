@@ -0,0 +1,86 @@
+package com.study.demo.testweatherapi.global.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("/VilageFcst", 3, OPEN_DURATION, nanoTime::get);
+
+    @Test
+    @DisplayName("연속 실패가 기준에 도달하면 OPEN, 중간에 성공하면 연속 횟수 초기화")
+    void opensAfterConsecutiveFailures() {
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("OPEN 유지 시간이 지나면 HALF_OPEN에서 시험 요청 1건만 허용하고, 성공하면 CLOSED")
+    void halfOpenAllowsSingleTrial() {
+        open();
+
+        nanoTime.addAndGet(OPEN_DURATION.toNanos() - 1);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        nanoTime.addAndGet(1);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 요청이 실패하면 다시 OPEN으로 돌아가 유지 시간을 새로 시작")
+    void failedTrialReopens() {
+        open();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+        circuitBreaker.onFailure();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        nanoTime.addAndGet(OPEN_DURATION.toNanos() - 1);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시험 요청이 취소되면 권한을 반환해 다음 요청이 시험 요청이 됨")
+    void cancelledTrialReleasesPermission() {
+        open();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+        circuitBreaker.releasePermission();
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.onFailure();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,157 @@
+package com.study.demo.testweatherapi.global.client;
+
+import com.study.demo.testweatherapi.global.config.WeatherQuotaConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KmaQuotaGuardTest {
+
+    /**
+     * 2025-07-15 23:59:59 (한국 시간), UTC로는 같은 날 14:59:59
+     */
+    private static final Instant BEFORE_KST_MIDNIGHT = Instant.parse("2025-07-15T14:59:59Z");
+
+    private static final ExchangeFunction OK_EXCHANGE = request -> Mono.just(ClientResponse.create(HttpStatus.OK).build());
+
+    private final MutableClock clock = new MutableClock(BEFORE_KST_MIDNIGHT);
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    @DisplayName("토큰 버킷 잔량까지만 할당하고, 시간이 지나면 (일일 한도 - 예비분) / 하루 속도로 다시 적립")
+    void partialGrantAndRefill() {
+        KmaQuotaGuard guard = guard(10_000, 0.1, 1_000);
+
+        assertThat(guard.acquire(1_500)).isEqualTo(1_000);
+        assertThat(guard.acquire(10)).isZero();
+
+        // 1시간 = 9000 * 3600 / 86400 = 375개 적립
+        nanoTime.addAndGet(Duration.ofHours(1).toNanos());
+        assertThat(guard.acquire(1_000)).isEqualTo(375);
+
+        // 오래 쉬어도 최대 적립량을 넘지 않음
+        nanoTime.addAndGet(Duration.ofHours(12).toNanos());
+        assertThat(guard.acquire(5_000)).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("예비 비율만큼은 계획에 할당하지 않음 (버킷 비활성화)")
+    void reservedRatioIsNotPlannable() {
+        KmaQuotaGuard guard = guard(100, 0.2, 0);
+
+        assertThat(guard.acquire(1_000)).isEqualTo(80);
+        assertThat(guard.acquire(1)).isZero();
+        assertThat(guard.snapshot().plannableRemaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰지 않은 할당을 반납하면 버킷과 오늘 계획 수에 되돌림")
+    void releaseReturnsUnusedCalls() {
+        KmaQuotaGuard guard = guard(1_000, 0.0, 100);
+
+        assertThat(guard.acquire(100)).isEqualTo(100);
+        guard.release(30);
+
+        KmaQuotaGuard.QuotaSnapshot snapshot = guard.snapshot();
+        assertThat(snapshot.plannedToday()).isEqualTo(70);
+        assertThat(snapshot.availableTokens()).isEqualTo(30.0);
+        assertThat(guard.acquire(100)).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("일일 한도에 도달하면 요청을 보내지 않고 차단")
+    void blocksRequestsAtDailyLimit() {
+        KmaQuotaGuard guard = guard(2, 0.0, 0);
+
+        call(guard);
+        call(guard);
+
+        assertThatThrownBy(() -> call(guard)).isInstanceOf(KmaQuotaGuard.QuotaExceededException.class);
+        assertThat(guard.snapshot().usedToday()).isEqualTo(2);
+        assertThat(guard.snapshot().callsByEndpoint()).containsEntry("/VilageFcst", 2);
+    }
+
+    @Test
+    @DisplayName("한국 시간 자정이 지나면 사용/계획 집계 초기화 (UTC 날짜와 무관)")
+    void resetsAtKstMidnight() {
+        KmaQuotaGuard guard = guard(100, 0.0, 0);
+        call(guard);
+        guard.acquire(40);
+
+        KmaQuotaGuard.QuotaSnapshot before = guard.snapshot();
+        assertThat(before.date()).isEqualTo(LocalDate.of(2025, 7, 15));
+        assertThat(before.usedToday()).isEqualTo(1);
+        assertThat(before.plannedToday()).isEqualTo(40);
+
+        clock.advance(Duration.ofSeconds(1));   // UTC는 아직 7월 15일
+
+        KmaQuotaGuard.QuotaSnapshot after = guard.snapshot();
+        assertThat(after.date()).isEqualTo(LocalDate.of(2025, 7, 16));
+        assertThat(after.usedToday()).isZero();
+        assertThat(after.plannedToday()).isZero();
+        assertThat(after.callsByEndpoint()).isEmpty();
+        assertThat(guard.acquire(1_000)).isEqualTo(100);
+    }
+
+    // ==== 내부 유틸리티 메서드들 ====
+
+    private KmaQuotaGuard guard(int dailyLimit, double reservedRatio, int burstCapacity) {
+        WeatherQuotaConfig config = new WeatherQuotaConfig();
+        config.setDailyLimit(dailyLimit);
+        config.setReservedRatio(reservedRatio);
+        config.setBurstCapacity(burstCapacity);
+        return new KmaQuotaGuard(config, clock, nanoTime::get);
+    }
+
+    private void call(KmaQuotaGuard guard) {
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/VilageFcst")).build();
+        guard.filter(request, OK_EXCHANGE).block();
+    }
+
+    // ==== 내부 데이터 클래스들 ====
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return Clock.fixed(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.study.demo.testweatherapi.global.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RetryBudgetTest {
+
+    @Test
+    @DisplayName("가득 찬 상태로 시작해 최대 적립량만큼 재시도 후 소진")
+    void startsFullAndDrains() {
+        RetryBudget budget = new RetryBudget(0.25, 2);
+
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("요청마다 비율만큼 적립되어 요청 4건당 재시도 1회 허용 (최대 적립량 초과 불가)")
+    void refillsPerRequestUpToMax() {
+        RetryBudget budget = new RetryBudget(0.25, 2);
+        budget.tryAcquire();
+        budget.tryAcquire();
+
+        for (int i = 0; i < 3; i++) {
+            budget.recordRequest();
+        }
+        assertThat(budget.tryAcquire()).isFalse();
+
+        budget.recordRequest();
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.availableTokens()).isCloseTo(0.0, within(1e-9));
+
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+        assertThat(budget.availableTokens()).isEqualTo(2.0);
+    }
+}